@@ -0,0 +1,36 @@
+package com.fintech.benchmark;
+
+import com.fintech.dto.AccountCreateRequest;
+import com.fintech.dto.AccountResponse;
+import com.fintech.entity.Account;
+import com.fintech.mapper.AccountMapper;
+import com.fintech.mapper.AccountMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+public class AccountMapperBenchmark {
+
+    private final AccountMapper accountMapper = new AccountMapperImpl();
+
+    private Account account;
+    private AccountCreateRequest createRequest;
+
+    @Setup
+    public void setUp() {
+        account = BenchmarkData.account();
+        createRequest = new AccountCreateRequest("John Doe", "+1234567890");
+    }
+
+    @Benchmark
+    public AccountResponse toResponse() {
+        return accountMapper.toResponse(account);
+    }
+
+    @Benchmark
+    public Account toEntity() {
+        return accountMapper.toEntity(createRequest);
+    }
+}
@@ -0,0 +1,52 @@
+package com.fintech.benchmark;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fintech.dto.AccountResponse;
+import com.fintech.entity.Account;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.TimeZone;
+
+final class BenchmarkData {
+
+    private static final LocalDateTime CREATED_TIME = LocalDateTime.of(2025, 8, 25, 10, 30);
+
+    private BenchmarkData() {
+    }
+
+    static Account account() {
+        return Account.builder()
+                .id(1L)
+                .name("John Doe")
+                .phoneNr("+1234567890")
+                .isActive(true)
+                .createdTime(CREATED_TIME)
+                .modifiedTime(CREATED_TIME)
+                .build();
+    }
+
+    static AccountResponse accountResponse() {
+        return AccountResponse.builder()
+                .id(1L)
+                .name("John Doe")
+                .phoneNr("+1234567890")
+                .isActive(true)
+                .createdTime(CREATED_TIME)
+                .modifiedTime(CREATED_TIME)
+                .build();
+    }
+
+    /**
+     * Mirrors the spring.jackson settings in application.yml.
+     */
+    static ObjectMapper objectMapper() {
+        return Jackson2ObjectMapperBuilder.json()
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .timeZone(TimeZone.getTimeZone("UTC"))
+                .build();
+    }
+}
@@ -0,0 +1,51 @@
+package com.fintech.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fintech.dto.AccountResponse;
+import com.fintech.dto.ErrorResponse;
+import com.fintech.web.SerializedAccountCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import static com.fintech.exception.ErrorCode.ACCOUNT_NOT_FOUND;
+
+@State(Scope.Benchmark)
+public class JsonSerializationBenchmark {
+
+    private ObjectWriter accountWriter;
+    private ObjectWriter errorWriter;
+    private AccountResponse accountResponse;
+    private ErrorResponse errorResponse;
+    private SerializedAccountCache serializedAccountCache;
+
+    @Setup
+    public void setUp() {
+        accountWriter = BenchmarkData.objectMapper().writerFor(AccountResponse.class);
+        errorWriter = BenchmarkData.objectMapper().writerFor(ErrorResponse.class);
+        accountResponse = BenchmarkData.accountResponse();
+        errorResponse = ErrorResponse.of(ACCOUNT_NOT_FOUND, "Account not found with ID: 999");
+        serializedAccountCache = new SerializedAccountCache(BenchmarkData.objectMapper(), 1024 * 1024, false, new SimpleMeterRegistry());
+    }
+
+    @Benchmark
+    public byte[] accountResponse() throws JsonProcessingException {
+        return accountWriter.writeValueAsBytes(accountResponse);
+    }
+
+    @Benchmark
+    public ByteBuffer cachedAccountResponse() throws IOException {
+        return serializedAccountCache.get(accountResponse).json().duplicate();
+    }
+
+    @Benchmark
+    public byte[] errorResponse() throws JsonProcessingException {
+        return errorWriter.writeValueAsBytes(errorResponse);
+    }
+}
@@ -0,0 +1,127 @@
+package com.fintech.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import ch.qos.logback.core.encoder.Encoder;
+import com.fintech.logging.SamplingTurboFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.logging.logback.StructuredLogEncoder;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Request-thread time spent logging the two INFO messages of a service call. {@code sync-file}
+ * mirrors the default profile's file appender, {@code async-json} and {@code async-json-sampled}
+ * mirror the prod profile without and with sampling. Console output is left out of all three.
+ */
+@State(Scope.Benchmark)
+public class LoggingBenchmark {
+
+    private static final String NAME = "John Doe";
+    private static final String PATTERN =
+            "%d{yyyy-MM-dd HH:mm:ss.SSS} [%thread] %-5level %logger{40} [%X{traceId:-},%X{spanId:-}] - %msg%n";
+
+    @Param({"sync-file", "async-json", "async-json-sampled"})
+    private String pipeline;
+
+    private Path directory;
+    private LoggerContext context;
+    private Logger logger;
+    private long id;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("logging-benchmark");
+        context = new LoggerContext();
+        context.putObject(Environment.class.getName(), new StandardEnvironment());
+
+        logger = context.getLogger("com.fintech.service.AccountService");
+        logger.setLevel(ch.qos.logback.classic.Level.INFO);
+        logger.setAdditive(false);
+
+        switch (pipeline) {
+            case "sync-file" -> logger.addAppender(fileAppender("application.log", patternEncoder(), true));
+            case "async-json" -> logger.addAppender(asyncAppender(fileAppender("application.json", jsonEncoder(), false)));
+            case "async-json-sampled" -> {
+                logger.addAppender(asyncAppender(fileAppender("application.json", jsonEncoder(), false)));
+                context.addTurboFilter(samplingFilter());
+            }
+            default -> throw new IllegalArgumentException("Unknown pipeline: " + pipeline);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.stop();
+        FileSystemUtils.deleteRecursively(directory);
+    }
+
+    @Benchmark
+    public void logServiceCall() {
+        logger.info("Creating account: name={}", NAME);
+        logger.info("Account created: id={}", ++id);
+    }
+
+    private Appender<ILoggingEvent> fileAppender(String fileName, Encoder<ILoggingEvent> encoder, boolean immediateFlush) {
+        FileAppender<ILoggingEvent> appender = new FileAppender<>();
+        appender.setContext(context);
+        appender.setFile(directory.resolve(fileName).toString());
+        appender.setEncoder(encoder);
+        appender.setImmediateFlush(immediateFlush);
+        appender.start();
+        return appender;
+    }
+
+    private Appender<ILoggingEvent> asyncAppender(Appender<ILoggingEvent> delegate) {
+        AsyncAppender appender = new AsyncAppender();
+        appender.setContext(context);
+        appender.setQueueSize(8192);
+        appender.setDiscardingThreshold(1638);
+        appender.setIncludeCallerData(false);
+        appender.addAppender(delegate);
+        appender.start();
+        return appender;
+    }
+
+    private Encoder<ILoggingEvent> patternEncoder() {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern(PATTERN);
+        encoder.start();
+        return encoder;
+    }
+
+    private Encoder<ILoggingEvent> jsonEncoder() {
+        StructuredLogEncoder encoder = new StructuredLogEncoder();
+        encoder.setContext(context);
+        encoder.setFormat("ecs");
+        encoder.start();
+        return encoder;
+    }
+
+    private SamplingTurboFilter samplingFilter() {
+        SamplingTurboFilter filter = new SamplingTurboFilter();
+        filter.setContext(context);
+        filter.setLoggerName("com.fintech.service.AccountService");
+        filter.setLevel(ch.qos.logback.classic.Level.INFO);
+        filter.setRate(100);
+        filter.start();
+        return filter;
+    }
+}
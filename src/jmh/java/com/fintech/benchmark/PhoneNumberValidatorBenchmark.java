@@ -0,0 +1,29 @@
+package com.fintech.benchmark;
+
+import com.fintech.util.PhoneNumberValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+public class PhoneNumberValidatorBenchmark {
+
+    private String validPhone = "+1234567890";
+    private String invalidPhone = "123-456-7890";
+    private String paddedPhone = "  +1234567890  ";
+
+    @Benchmark
+    public boolean validPhoneNumber() {
+        return PhoneNumberValidator.isValidE164(validPhone);
+    }
+
+    @Benchmark
+    public boolean invalidPhoneNumber() {
+        return PhoneNumberValidator.isValidE164(invalidPhone);
+    }
+
+    @Benchmark
+    public boolean paddedPhoneNumber() {
+        return PhoneNumberValidator.isValidE164(paddedPhone);
+    }
+}
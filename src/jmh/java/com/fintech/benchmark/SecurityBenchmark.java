@@ -0,0 +1,71 @@
+package com.fintech.benchmark;
+
+import com.fintech.controller.AccountController;
+import com.fintech.security.FakeAuthFilter;
+import com.fintech.security.SimpleAuthentication;
+import jakarta.servlet.FilterChain;
+import org.aopalliance.intercept.MethodInvocation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.objenesis.SpringObjenesis;
+import org.springframework.security.authorization.AuthorizationResult;
+import org.springframework.security.authorization.method.PreAuthorizeAuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.util.SimpleMethodInvocation;
+
+/**
+ * Per-request security cost: the fake authentication filter plus evaluation of the
+ * {@code @PreAuthorize} expressions guarding the read and write endpoints.
+ */
+@State(Scope.Benchmark)
+public class SecurityBenchmark {
+
+    private final FakeAuthFilter fakeAuthFilter = new FakeAuthFilter();
+    private final PreAuthorizeAuthorizationManager authorizationManager = new PreAuthorizeAuthorizationManager();
+    private final FilterChain filterChain = (request, response) -> { };
+    private final Authentication authentication = new SimpleAuthentication();
+
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private MethodInvocation readInvocation;
+    private MethodInvocation writeInvocation;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        request = new MockHttpServletRequest("GET", "/api/v1/accounts/1");
+        response = new MockHttpServletResponse();
+        AccountController controller = new SpringObjenesis().newInstance(AccountController.class);
+
+        readInvocation = new SimpleMethodInvocation(controller,
+                AccountController.class.getMethod("getAccountById", Long.class), 1L);
+        writeInvocation = new SimpleMethodInvocation(controller,
+                AccountController.class.getMethod("deleteAccount", Long.class, String.class), 1L, null);
+    }
+
+    @Benchmark
+    public Authentication fakeAuthFilter() throws Exception {
+        fakeAuthFilter.doFilter(request, response, filterChain);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    @Benchmark
+    public AuthorizationResult preAuthorizeRead() {
+        return authorizationManager.authorize(() -> authentication, readInvocation);
+    }
+
+    @Benchmark
+    public AuthorizationResult preAuthorizeWrite() {
+        return authorizationManager.authorize(() -> authentication, writeInvocation);
+    }
+
+    @Benchmark
+    public AuthorizationResult filterAndPreAuthorize() throws Exception {
+        fakeAuthFilter.doFilter(request, response, filterChain);
+        return authorizationManager.authorize(() -> SecurityContextHolder.getContext().getAuthentication(), readInvocation);
+    }
+}
@@ -0,0 +1,169 @@
+package com.fintech.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fintech.AccountManagementApplication;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives a configurable mix of create, get, patch and delete requests against the application
+ * running on the embedded database and reports p50/p99/p999 latency and requests per second per endpoint.
+ * The mix is set with -Dloadtest.mix=get:70,create:10,patch:15,delete:5; the remaining knobs are
+ * -Dloadtest.concurrency, -Dloadtest.warmup, -Dloadtest.duration, -Dloadtest.accounts and -Dloadtest.db-latency.
+ */
+@DisplayName("Account Endpoints Load Test")
+class AccountEndpointsLoadTest {
+
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 64);
+    private static final Duration WARMUP = Duration.parse(System.getProperty("loadtest.warmup", "PT10S"));
+    private static final Duration DURATION = Duration.parse(System.getProperty("loadtest.duration", "PT30S"));
+    private static final int ACCOUNTS = Integer.getInteger("loadtest.accounts", 1_000);
+    private static final String DB_LATENCY = System.getProperty("loadtest.db-latency", "0ms");
+    private static final String MIX = System.getProperty("loadtest.mix", "get:70,create:10,patch:15,delete:5");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicLong phoneSequence = new AtomicLong();
+    private final List<Long> liveIds = new ArrayList<>();
+
+    @Test
+    @DisplayName("should_reportLatencyPerEndpoint_when_runningConfiguredMix")
+    void should_reportLatencyPerEndpoint_when_runningConfiguredMix() throws Exception {
+        Map<String, Integer> mix = parseMix(MIX);
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(AccountManagementApplication.class)
+                .profiles("loadtest")
+                .run("--loadtest.db-latency=" + DB_LATENCY)) {
+            String accountsUrl = "http://127.0.0.1:" + context.getEnvironment().getProperty("local.server.port")
+                    + "/api/v1/accounts";
+            seedAccounts(accountsUrl);
+
+            int totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+            LoadReport report = new LoadDriver().run(CONCURRENCY, WARMUP, DURATION,
+                    () -> nextRequest(accountsUrl, mix, totalWeight));
+
+            System.out.printf("%nmix=%s concurrency=%d duration=%s db-latency=%s%n", MIX, CONCURRENCY, DURATION, DB_LATENCY);
+            report.print(System.out);
+
+            assertThat(report.totalRequests()).isPositive();
+            assertThat(report.totalServerErrors()).isZero();
+        }
+    }
+
+    private LoadRequest nextRequest(String accountsUrl, Map<String, Integer> mix, int totalWeight) {
+        int roll = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Map.Entry<String, Integer> entry : mix.entrySet()) {
+            roll -= entry.getValue();
+            if (roll < 0) {
+                return request(entry.getKey(), accountsUrl);
+            }
+        }
+        throw new IllegalStateException("Mix weights exhausted");
+    }
+
+    private LoadRequest request(String endpoint, String accountsUrl) {
+        return switch (endpoint) {
+            case "create" -> new LoadRequest(endpoint, HttpRequest.newBuilder(URI.create(accountsUrl))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(createBody()))
+                    .build(), this::addLiveId);
+            case "get" -> new LoadRequest(endpoint, HttpRequest.newBuilder(accountUri(accountsUrl, randomLiveId()))
+                    .GET()
+                    .build());
+            case "patch" -> new LoadRequest(endpoint, HttpRequest.newBuilder(accountUri(accountsUrl, randomLiveId()))
+                    .header("Content-Type", "application/json")
+                    .method("PATCH", HttpRequest.BodyPublishers.ofString(
+                            "{\"name\":\"Load " + ThreadLocalRandom.current().nextInt() + "\"}"))
+                    .build());
+            case "delete" -> new LoadRequest(endpoint, HttpRequest.newBuilder(accountUri(accountsUrl, takeLiveId()))
+                    .DELETE()
+                    .build());
+            default -> throw new IllegalArgumentException("Unknown endpoint in mix: " + endpoint);
+        };
+    }
+
+    private String createBody() {
+        return "{\"name\":\"Load Account\",\"phoneNr\":\"+1" + (1_000_000_000L + phoneSequence.incrementAndGet()) + "\"}";
+    }
+
+    private static URI accountUri(String accountsUrl, long id) {
+        return URI.create(accountsUrl + "/" + id);
+    }
+
+    private void addLiveId(String responseBody) {
+        try {
+            long id = objectMapper.readTree(responseBody).get("id").asLong();
+            synchronized (liveIds) {
+                liveIds.add(id);
+            }
+        } catch (Exception ex) {
+            throw new IllegalStateException("Unexpected create response: " + responseBody, ex);
+        }
+    }
+
+    private long randomLiveId() {
+        synchronized (liveIds) {
+            return liveIds.isEmpty() ? 0 : liveIds.get(ThreadLocalRandom.current().nextInt(liveIds.size()));
+        }
+    }
+
+    private long takeLiveId() {
+        synchronized (liveIds) {
+            if (liveIds.isEmpty()) {
+                return 0;
+            }
+            int index = ThreadLocalRandom.current().nextInt(liveIds.size());
+            long id = liveIds.get(index);
+            liveIds.set(index, liveIds.getLast());
+            liveIds.removeLast();
+            return id;
+        }
+    }
+
+    private void seedAccounts(String accountsUrl) throws Exception {
+        String body = IntStream.rangeClosed(1, ACCOUNTS)
+                .mapToObj(i -> createBody())
+                .collect(Collectors.joining(",", "[", "]"));
+
+        HttpResponse<String> response = HttpClient.newHttpClient().send(
+                HttpRequest.newBuilder(URI.create(accountsUrl + "/batch"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        for (JsonNode result : objectMapper.readTree(response.body()).get("results")) {
+            liveIds.add(result.get("account").get("id").asLong());
+        }
+    }
+
+    private static Map<String, Integer> parseMix(String mix) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            weights.put(parts[0].trim(), Integer.parseInt(parts[1].trim()));
+        }
+        assertThat(weights.values()).allMatch(weight -> weight >= 0);
+        assertThat(weights.values().stream().mapToInt(Integer::intValue).sum()).isPositive();
+        return weights;
+    }
+}
@@ -0,0 +1,124 @@
+package com.fintech.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fintech.AccountManagementApplication;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Concurrent PATCHes against a handful of hot accounts, half changing the name and half the phone
+ * number, so most version conflicts are mergeable. Compares failing on the first conflict with
+ * the in-service retry. Tune with -Dloadtest.concurrency, -Dloadtest.warmup, -Dloadtest.duration,
+ * -Dloadtest.hot-accounts, -Dloadtest.max-attempts and -Dloadtest.db-latency.
+ */
+@DisplayName("Account Update Contention Load Test")
+class AccountUpdateContentionLoadTest {
+
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 32);
+    private static final Duration WARMUP = Duration.parse(System.getProperty("loadtest.warmup", "PT5S"));
+    private static final Duration DURATION = Duration.parse(System.getProperty("loadtest.duration", "PT20S"));
+    private static final int HOT_ACCOUNTS = Integer.getInteger("loadtest.hot-accounts", 4);
+    private static final int MAX_ATTEMPTS = Integer.getInteger("loadtest.max-attempts", 3);
+    private static final String DB_LATENCY = System.getProperty("loadtest.db-latency", "0ms");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicLong phoneSequence = new AtomicLong();
+
+    @Test
+    @DisplayName("should_reportUpdateThroughput_when_hotAccountsPatchedConcurrently")
+    void should_reportUpdateThroughput_when_hotAccountsPatchedConcurrently() throws Exception {
+        LoadReport noRetry = runLoad(1);
+        LoadReport retry = runLoad(MAX_ATTEMPTS);
+
+        System.out.printf("%nhot-accounts=%d concurrency=%d duration=%s db-latency=%s%n",
+                HOT_ACCOUNTS, CONCURRENCY, DURATION, DB_LATENCY);
+        System.out.printf("%-14s %12s %12s %10s %10s%n", "max-attempts", "requests/s", "updates/s", "409", "5xx");
+        printSummary("1", noRetry);
+        printSummary(String.valueOf(MAX_ATTEMPTS), retry);
+
+        assertThat(noRetry.totalServerErrors()).isZero();
+        assertThat(retry.totalServerErrors()).isZero();
+    }
+
+    private LoadReport runLoad(int maxAttempts) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(AccountManagementApplication.class)
+                .profiles("loadtest")
+                .run("--account.update.max-attempts=" + maxAttempts,
+                        "--loadtest.db-latency=" + DB_LATENCY)) {
+            String accountsUrl = "http://127.0.0.1:" + context.getEnvironment().getProperty("local.server.port")
+                    + "/api/v1/accounts";
+            List<Long> hotIds = seedAccounts(accountsUrl);
+
+            LoadReport report = new LoadDriver().run(CONCURRENCY, WARMUP, DURATION, () -> nextRequest(accountsUrl, hotIds));
+            System.out.printf("%nmax-attempts=%d%n", maxAttempts);
+            report.print(System.out);
+            return report;
+        }
+    }
+
+    private LoadRequest nextRequest(String accountsUrl, List<Long> hotIds) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        URI uri = URI.create(accountsUrl + "/" + hotIds.get(random.nextInt(hotIds.size())));
+
+        boolean name = random.nextBoolean();
+        String body = name
+                ? "{\"name\":\"Load " + random.nextInt() + "\"}"
+                : "{\"phoneNr\":\"" + nextPhoneNr() + "\"}";
+
+        return new LoadRequest(name ? "patch-name" : "patch-phone", HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString(body))
+                .build());
+    }
+
+    private String nextPhoneNr() {
+        return "+1" + (1_000_000_000L + phoneSequence.incrementAndGet());
+    }
+
+    private List<Long> seedAccounts(String accountsUrl) throws Exception {
+        String body = IntStream.rangeClosed(1, HOT_ACCOUNTS)
+                .mapToObj(i -> "{\"name\":\"Hot Account " + i + "\",\"phoneNr\":\"" + nextPhoneNr() + "\"}")
+                .collect(Collectors.joining(",", "[", "]"));
+
+        HttpResponse<String> response = HttpClient.newHttpClient().send(
+                HttpRequest.newBuilder(URI.create(accountsUrl + "/batch"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        List<Long> ids = new ArrayList<>();
+        for (JsonNode result : objectMapper.readTree(response.body()).get("results")) {
+            ids.add(result.get("account").get("id").asLong());
+        }
+        return ids;
+    }
+
+    private static void printSummary(String maxAttempts, LoadReport report) {
+        long updates = report.totalRequests() - report.totalClientErrors() - report.totalServerErrors();
+        System.out.printf("%-14s %12.1f %12.1f %10d %10d%n",
+                maxAttempts,
+                report.throughput(),
+                updates * 1_000d / Math.max(1, report.elapsed().toMillis()),
+                report.totalClientErrors(),
+                report.totalServerErrors());
+    }
+}
@@ -0,0 +1,28 @@
+package com.fintech.loadtest;
+
+import com.fintech.datasource.RoundTripInterceptingDataSource;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Adds a fixed delay to every statement execution and commit, so an in-memory database
+ * blocks request threads the way a remote MySQL round trip does.
+ */
+public class LatencyInjectingDataSource extends RoundTripInterceptingDataSource {
+
+    private final Duration latency;
+
+    public LatencyInjectingDataSource(DataSource targetDataSource, Duration latency) {
+        super(targetDataSource);
+        this.latency = latency;
+    }
+
+    @Override
+    protected Object intercept(RoundTrip roundTrip) throws Throwable {
+        if (!latency.isZero()) {
+            Thread.sleep(latency);
+        }
+        return roundTrip.proceed();
+    }
+}
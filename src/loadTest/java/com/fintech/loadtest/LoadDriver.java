@@ -0,0 +1,74 @@
+package com.fintech.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * Closed-loop HTTP load generator: each worker sends its next request as soon as the previous
+ * one completes. Requests sent during the warm-up period are not counted.
+ */
+public class LoadDriver {
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    public LoadReport run(int concurrency, Duration warmup, Duration duration, Supplier<LoadRequest> requests)
+            throws Exception {
+        run(concurrency, warmup, requests, new LoadReport());
+
+        LoadReport report = new LoadReport();
+        long start = System.nanoTime();
+        run(concurrency, duration, requests, report);
+        report.setElapsed(Duration.ofNanos(System.nanoTime() - start));
+
+        return report;
+    }
+
+    private void run(int concurrency, Duration duration, Supplier<LoadRequest> requests, LoadReport report)
+            throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < concurrency; i++) {
+                futures.add(workers.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        send(requests.get(), report);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+    }
+
+    private void send(LoadRequest loadRequest, LoadReport report) {
+        long start = System.nanoTime();
+        int statusCode = -1;
+
+        try {
+            HttpResponse<String> response = client.send(loadRequest.request(), HttpResponse.BodyHandlers.ofString());
+            statusCode = response.statusCode();
+            if (statusCode < 300) {
+                loadRequest.onSuccess().accept(response.body());
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (Exception ex) {
+            statusCode = -1;
+        } finally {
+            report.record(loadRequest.endpoint(), System.nanoTime() - start, statusCode);
+        }
+    }
+}
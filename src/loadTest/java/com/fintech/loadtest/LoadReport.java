@@ -0,0 +1,96 @@
+package com.fintech.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-endpoint latency histograms and status counters collected during a load run.
+ */
+public class LoadReport {
+
+    private static final long MAX_LATENCY_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final Map<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+    private Duration elapsed = Duration.ZERO;
+
+    void record(String endpoint, long latencyNanos, int statusCode) {
+        EndpointStats stats = endpoints.computeIfAbsent(endpoint, name -> new EndpointStats());
+        stats.latencies.recordValue(Math.min(latencyNanos, MAX_LATENCY_NANOS));
+
+        if (statusCode >= 500 || statusCode < 0) {
+            stats.serverErrors.increment();
+        } else if (statusCode >= 400) {
+            stats.clientErrors.increment();
+        } else {
+            stats.successes.increment();
+        }
+    }
+
+    void setElapsed(Duration elapsed) {
+        this.elapsed = elapsed;
+    }
+
+    public Duration elapsed() {
+        return elapsed;
+    }
+
+    public long totalRequests() {
+        return endpoints.values().stream().mapToLong(EndpointStats::requests).sum();
+    }
+
+    public long totalClientErrors() {
+        return endpoints.values().stream().mapToLong(stats -> stats.clientErrors.sum()).sum();
+    }
+
+    public long totalServerErrors() {
+        return endpoints.values().stream().mapToLong(stats -> stats.serverErrors.sum()).sum();
+    }
+
+    public double throughput() {
+        return totalRequests() * 1_000d / Math.max(1, elapsed.toMillis());
+    }
+
+    public void print(PrintStream out) {
+        out.printf("%n%-10s %10s %10s %10s %10s %10s %10s %10s%n",
+                "endpoint", "requests", "req/s", "p50 ms", "p99 ms", "p999 ms", "4xx", "5xx");
+
+        new TreeMap<>(endpoints).forEach((endpoint, stats) -> {
+            Histogram latencies = stats.latencies;
+            out.printf("%-10s %10d %10.1f %10.2f %10.2f %10.2f %10d %10d%n",
+                    endpoint,
+                    stats.requests(),
+                    stats.requests() * 1_000d / Math.max(1, elapsed.toMillis()),
+                    millis(latencies.getValueAtPercentile(50)),
+                    millis(latencies.getValueAtPercentile(99)),
+                    millis(latencies.getValueAtPercentile(99.9)),
+                    stats.clientErrors.sum(),
+                    stats.serverErrors.sum());
+        });
+
+        out.printf("%-10s %10d %10.1f%n", "total", totalRequests(), throughput());
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000d;
+    }
+
+    private static class EndpointStats {
+
+        private final ConcurrentHistogram latencies = new ConcurrentHistogram(MAX_LATENCY_NANOS, 3);
+        private final LongAdder successes = new LongAdder();
+        private final LongAdder clientErrors = new LongAdder();
+        private final LongAdder serverErrors = new LongAdder();
+
+        private long requests() {
+            return successes.sum() + clientErrors.sum() + serverErrors.sum();
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.fintech.loadtest;
+
+import java.net.http.HttpRequest;
+import java.util.function.Consumer;
+
+/**
+ * A single request issued by the {@link LoadDriver}, attributed to a named endpoint.
+ * {@code onSuccess} receives the response body of 2xx responses.
+ */
+public record LoadRequest(String endpoint, HttpRequest request, Consumer<String> onSuccess) {
+
+    public LoadRequest(String endpoint, HttpRequest request) {
+        this(endpoint, request, body -> { });
+    }
+}
@@ -0,0 +1,29 @@
+package com.fintech.loadtest;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+@Configuration
+@Profile("loadtest")
+public class LoadTestConfig {
+
+    @Bean
+    public static BeanPostProcessor latencyInjectingDataSourcePostProcessor(
+            @Value("${loadtest.db-latency:0ms}") Duration latency) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof LatencyInjectingDataSource)) {
+                    return new LatencyInjectingDataSource(dataSource, latency);
+                }
+                return bean;
+            }
+        };
+    }
+}
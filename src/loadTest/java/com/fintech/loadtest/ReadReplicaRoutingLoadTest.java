@@ -0,0 +1,111 @@
+package com.fintech.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fintech.AccountManagementApplication;
+import liquibase.integration.spring.SpringLiquibase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Runs the service against two embedded databases, the primary and a replica that is only
+ * "replicated" to by the test, so it can tell which one served a read. Covers read-your-writes for
+ * the client that wrote, and only that client, routing of reads to the replica once the window has
+ * passed, and failover to the primary when the replica goes away.
+ */
+@DisplayName("Read Replica Routing Load Test")
+class ReadReplicaRoutingLoadTest {
+
+    private static final Duration READ_YOUR_WRITES_WINDOW = Duration.ofSeconds(1);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    // Keeps the read-your-writes cookie, unlike the second client
+    private final HttpClient httpClient = HttpClient.newBuilder().cookieHandler(new CookieManager()).build();
+    private final HttpClient otherClient = HttpClient.newHttpClient();
+
+    @Test
+    @DisplayName("should_routeReadsByWindowAndHealth_when_replicaConfigured")
+    void should_routeReadsByWindowAndHealth_when_replicaConfigured() throws Exception {
+        String replicaUrl = "jdbc:h2:mem:replica-" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+        JdbcTemplate replica = createReplica(replicaUrl);
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(AccountManagementApplication.class)
+                .profiles("loadtest")
+                .run("--loadtest.db-latency=0ms",
+                        "--account.read-replicas.enabled=true",
+                        // IFEXISTS keeps the pool from recreating an empty replica after shutdown
+                        "--account.read-replicas.replicas[0].url=" + replicaUrl + ";IFEXISTS=TRUE",
+                        "--account.read-replicas.replicas[0].username=sa",
+                        "--account.read-replicas.read-your-writes-window=" + READ_YOUR_WRITES_WINDOW,
+                        "--account.read-replicas.health-check-interval=200ms")) {
+            String accountsUrl = "http://127.0.0.1:" + context.getEnvironment().getProperty("local.server.port")
+                    + "/api/v1/accounts";
+
+            long replicated = createAccount(accountsUrl, "Replicated Account");
+            long primaryOnly = createAccount(accountsUrl, "Primary Only Account");
+
+            // Served by the primary while the write is recent, but only for the client that wrote
+            assertThat(getStatus(otherClient, accountsUrl, primaryOnly)).isEqualTo(404);
+            assertThat(getStatus(accountsUrl, primaryOnly)).isEqualTo(200);
+
+            replica.update("INSERT INTO account (id, name, created_time, modified_time, is_active, version) "
+                    + "VALUES (?, 'Replicated Account', NOW(), NOW(), TRUE, 0)", replicated);
+
+            await().atMost(Duration.ofSeconds(10))
+                    .until(() -> getStatus(accountsUrl, primaryOnly) == 404);
+            assertThat(getStatus(accountsUrl, replicated)).isEqualTo(200);
+
+            replica.execute("SHUTDOWN");
+
+            await().atMost(Duration.ofSeconds(10))
+                    .until(() -> getStatus(accountsUrl, primaryOnly) == 200);
+        }
+    }
+
+    private static JdbcTemplate createReplica(String url) throws Exception {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(url, "sa", "");
+
+        SpringLiquibase liquibase = new SpringLiquibase();
+        liquibase.setDataSource(dataSource);
+        liquibase.setChangeLog("classpath:db/changelog/db.changelog-master.xml");
+        liquibase.setResourceLoader(new DefaultResourceLoader());
+        liquibase.afterPropertiesSet();
+
+        return new JdbcTemplate(dataSource);
+    }
+
+    private long createAccount(String accountsUrl, String name) throws Exception {
+        HttpResponse<String> response = httpClient.send(HttpRequest.newBuilder(URI.create(accountsUrl))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString("{\"name\":\"" + name + "\"}"))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+
+        assertThat(response.statusCode()).isEqualTo(201);
+        return objectMapper.readTree(response.body()).get("id").asLong();
+    }
+
+    private int getStatus(String accountsUrl, long id) throws Exception {
+        return getStatus(httpClient, accountsUrl, id);
+    }
+
+    private static int getStatus(HttpClient client, String accountsUrl, long id) throws Exception {
+        return client.send(HttpRequest.newBuilder(URI.create(accountsUrl + "/" + id)).GET().build(),
+                HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
@@ -0,0 +1,89 @@
+package com.fintech.loadtest;
+
+import com.fintech.AccountManagementApplication;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares throughput of the platform-thread and virtual-thread request execution modes under
+ * the same blocking database latency. Tune with -Dloadtest.concurrency, -Dloadtest.warmup, -Dloadtest.duration,
+ * -Dloadtest.accounts and -Dloadtest.db-latency.
+ */
+@DisplayName("Virtual Thread Throughput Load Test")
+class VirtualThreadThroughputLoadTest {
+
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 400);
+    private static final Duration WARMUP = Duration.parse(System.getProperty("loadtest.warmup", "PT10S"));
+    private static final Duration DURATION = Duration.parse(System.getProperty("loadtest.duration", "PT20S"));
+    private static final int ACCOUNTS = Integer.getInteger("loadtest.accounts", 1_000);
+    private static final String DB_LATENCY = System.getProperty("loadtest.db-latency", "2ms");
+
+    @Test
+    @DisplayName("should_reportThroughput_when_runningPlatformAndVirtualThreadModes")
+    void should_reportThroughput_when_runningPlatformAndVirtualThreadModes() throws Exception {
+        LoadReport platform = runLoad(false);
+        LoadReport virtual = runLoad(true);
+
+        System.out.printf("%n%-10s %12s %10s %10s%n", "mode", "requests/s", "requests", "5xx");
+        System.out.printf("%-10s %12.1f %10d %10d%n", "platform", platform.throughput(), platform.totalRequests(), platform.totalServerErrors());
+        System.out.printf("%-10s %12.1f %10d %10d%n", "virtual", virtual.throughput(), virtual.totalRequests(), virtual.totalServerErrors());
+
+        assertThat(platform.totalRequests()).isPositive();
+        assertThat(virtual.totalRequests()).isPositive();
+    }
+
+    private LoadReport runLoad(boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(AccountManagementApplication.class)
+                .profiles("loadtest")
+                .run("--spring.threads.virtual.enabled=" + virtualThreads,
+                        "--loadtest.db-latency=" + DB_LATENCY,
+                        "--account.cache.maximum-size=0")) {
+            String accountsUrl = "http://127.0.0.1:" + context.getEnvironment().getProperty("local.server.port")
+                    + "/api/v1/accounts";
+            seedAccounts(accountsUrl);
+
+            return new LoadDriver().run(CONCURRENCY, WARMUP, DURATION, () -> nextRequest(accountsUrl));
+        }
+    }
+
+    private LoadRequest nextRequest(String accountsUrl) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        URI uri = URI.create(accountsUrl + "/" + random.nextInt(1, ACCOUNTS + 1));
+
+        if (random.nextInt(10) == 0) {
+            return new LoadRequest("patch", HttpRequest.newBuilder(uri)
+                    .header("Content-Type", "application/json")
+                    .method("PATCH", HttpRequest.BodyPublishers.ofString("{\"name\":\"Load " + random.nextInt() + "\"}"))
+                    .build());
+        }
+        return new LoadRequest("get", HttpRequest.newBuilder(uri).GET().build());
+    }
+
+    private void seedAccounts(String accountsUrl) throws Exception {
+        String body = IntStream.rangeClosed(1, ACCOUNTS)
+                .mapToObj(i -> "{\"name\":\"Account " + i + "\"}")
+                .collect(Collectors.joining(",", "[", "]"));
+
+        HttpResponse<Void> response = HttpClient.newHttpClient().send(
+                HttpRequest.newBuilder(URI.create(accountsUrl + "/batch"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build(),
+                HttpResponse.BodyHandlers.discarding());
+
+        assertThat(response.statusCode()).isEqualTo(200);
+    }
+}
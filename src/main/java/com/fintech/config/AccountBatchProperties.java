@@ -0,0 +1,13 @@
+package com.fintech.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "account.batch")
+public class AccountBatchProperties {
+
+    private int maxSize = 50_000;
+
+    private int chunkSize = 1_000;
+}
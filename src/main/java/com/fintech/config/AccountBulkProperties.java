@@ -0,0 +1,23 @@
+package com.fintech.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "account.bulk")
+public class AccountBulkProperties {
+
+    // Accounts locked and written per transaction
+    private int chunkSize = 1_000;
+
+    private int maxIds = 100_000;
+
+    private int maxConcurrentJobs = 2;
+
+    private int maxQueuedJobs = 20;
+
+    // How long finished jobs stay queryable
+    private Duration retention = Duration.ofHours(1);
+}
@@ -0,0 +1,17 @@
+package com.fintech.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "account.cache")
+public class AccountCacheProperties {
+
+    private long maximumSize = 10_000;
+
+    private Duration timeToLive = Duration.ofMinutes(10);
+
+    private Duration coalescingMaxWait = Duration.ofSeconds(2);
+}
@@ -0,0 +1,21 @@
+package com.fintech.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "account.changes")
+public class AccountChangesProperties {
+
+    // Must exceed the longest write transaction, otherwise a late commit can land behind a watermark
+    private Duration settleDelay = Duration.ofSeconds(5);
+
+    // Account writes still uncommitted this long after their timestamp are rolled back
+    private Duration maxWriteDuration = Duration.ofSeconds(4);
+
+    private Duration pollInterval = Duration.ofSeconds(1);
+
+    private int maxWaiters = 1_000;
+}
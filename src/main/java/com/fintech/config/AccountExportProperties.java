@@ -0,0 +1,14 @@
+package com.fintech.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "account.export")
+public class AccountExportProperties {
+
+    // Async timeout of an export request only, other async endpoints keep the MVC default
+    private Duration requestTimeout = Duration.ofHours(1);
+}
@@ -0,0 +1,25 @@
+package com.fintech.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "account.id-filter")
+public class AccountIdFilterProperties {
+
+    private boolean enabled = true;
+
+    // The filter is sized for the larger of this and the highest id seen at startup
+    private long expectedIds = 1_000_000;
+
+    private double falsePositiveRate = 0.01;
+
+    private Duration refreshInterval = Duration.ofSeconds(30);
+
+    // Bounds how long an account created by another instance can be reported missing
+    private Duration negativeTimeToLive = Duration.ofSeconds(10);
+
+    private long negativeMaximumSize = 100_000;
+}
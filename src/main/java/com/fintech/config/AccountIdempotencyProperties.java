@@ -0,0 +1,37 @@
+package com.fintech.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "account.idempotency")
+public class AccountIdempotencyProperties {
+
+    private boolean enabled = true;
+
+    // MEMORY only dedupes retries that reach the same instance
+    private Store store = Store.MEMORY;
+
+    private Duration ttl = Duration.ofHours(24);
+
+    // How long a claimed key blocks retries if the request never completes
+    private Duration lease = Duration.ofMinutes(1);
+
+    private int shards = 64;
+
+    // Shared by all shards; keys still in progress are never evicted to stay within it
+    private DataSize maxSize = DataSize.ofMegabytes(64);
+
+    // Larger responses are not kept by the memory store, retries of them get 409 instead
+    private DataSize maxStoredResponseSize = DataSize.ofMegabytes(1);
+
+    private Duration purgeInterval = Duration.ofMinutes(5);
+
+    public enum Store {
+        MEMORY,
+        JDBC
+    }
+}
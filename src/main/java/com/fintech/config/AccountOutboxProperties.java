@@ -0,0 +1,27 @@
+package com.fintech.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "account.outbox")
+public class AccountOutboxProperties {
+
+    private boolean relayEnabled = true;
+
+    // Instances relay one at a time under a database lease, which must outlast publishing one batch
+    private Duration leaseDuration = Duration.ofSeconds(30);
+
+    private int batchSize = 500;
+
+    private int maxBatchesPerPoll = 20;
+
+    private Duration pollInterval = Duration.ofMillis(500);
+
+    private Duration maxBackoff = Duration.ofSeconds(30);
+
+    private Path file = Path.of("logs/account-events.ndjson");
+}
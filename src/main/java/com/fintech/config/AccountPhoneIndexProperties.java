@@ -0,0 +1,17 @@
+package com.fintech.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "account.phone-index")
+public class AccountPhoneIndexProperties {
+
+    private boolean enabled = true;
+
+    private int initialCapacity = 1 << 16;
+
+    // Confirm index hits against the database, since deletes made by other instances are not seen.
+    // Only misses then save a query; turning this off also lets hits reject without one.
+    private boolean verifyHits = true;
+}
@@ -0,0 +1,37 @@
+package com.fintech.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "account.read-replicas")
+public class AccountReadReplicaProperties {
+
+    private boolean enabled = false;
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    private int maximumPoolSize = 10;
+
+    // Also bounds how long a health check or a read waits for an unreachable replica
+    private Duration connectionTimeout = Duration.ofSeconds(1);
+
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+
+    // Must exceed the replication lag, otherwise clients may not see their own writes
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    @Data
+    public static class Replica {
+
+        private String url;
+
+        private String username;
+
+        private String password;
+    }
+}
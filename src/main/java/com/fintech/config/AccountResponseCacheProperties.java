@@ -0,0 +1,20 @@
+package com.fintech.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+@Data
+@ConfigurationProperties(prefix = "account.response-cache")
+public class AccountResponseCacheProperties {
+
+    private boolean enabled = true;
+
+    // Direct memory, so it counts against -XX:MaxDirectMemorySize rather than the heap. Evicted
+    // buffers are freed by the garbage collector, so usage can run above this between collections
+    private DataSize maximumSize = DataSize.ofMegabytes(64);
+
+    // Every entry then also keeps a gzip variant, regardless of size, so the ETag of a response
+    // follows from this setting and the request without serializing the body first
+    private boolean compression = false;
+}
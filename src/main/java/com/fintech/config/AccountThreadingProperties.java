@@ -0,0 +1,15 @@
+package com.fintech.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "account.threading")
+public class AccountThreadingProperties {
+
+    private int requestsPerConnection = 4;
+
+    private Duration acquireTimeout = Duration.ofSeconds(2);
+}
@@ -0,0 +1,12 @@
+package com.fintech.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "account.update")
+public class AccountUpdateProperties {
+
+    // Attempts per update or delete when a concurrent write bumps the version first
+    private int maxAttempts = 3;
+}
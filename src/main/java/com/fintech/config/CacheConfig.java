@@ -0,0 +1,32 @@
+package com.fintech.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String ACCOUNTS_CACHE = "accounts";
+
+    @Bean
+    public CacheManager cacheManager(AccountCacheProperties properties) {
+        CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
+        caffeineCacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTimeToLive())
+                .recordStats());
+        caffeineCacheManager.setCacheNames(List.of(ACCOUNTS_CACHE));
+        caffeineCacheManager.setAllowNullValues(false);
+
+        // Puts and evictions issued inside a transaction are deferred until it commits
+        return new TransactionAwareCacheManagerProxy(caffeineCacheManager);
+    }
+}
@@ -0,0 +1,45 @@
+package com.fintech.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fintech.idempotency.IdempotencyStore;
+import com.fintech.idempotency.InMemoryIdempotencyStore;
+import com.fintech.idempotency.JdbcIdempotencyStore;
+import com.fintech.web.IdempotencyFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+@Configuration
+@ConditionalOnProperty(prefix = "account.idempotency", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class IdempotencyConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "account.idempotency", name = "store", havingValue = "memory", matchIfMissing = true)
+    public IdempotencyStore inMemoryIdempotencyStore(AccountIdempotencyProperties properties) {
+        return new InMemoryIdempotencyStore(properties.getShards(), properties.getMaxSize().toBytes(),
+                properties.getMaxStoredResponseSize().toBytes());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "account.idempotency", name = "store", havingValue = "jdbc")
+    public IdempotencyStore jdbcIdempotencyStore(NamedParameterJdbcTemplate jdbcTemplate) {
+        return new JdbcIdempotencyStore(jdbcTemplate);
+    }
+
+    /**
+     * Registered with the default order, after the security filter chain, so keys are scoped to
+     * the authenticated caller and unauthorized requests never claim one.
+     */
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter(
+            IdempotencyStore idempotencyStore,
+            AccountIdempotencyProperties properties,
+            ObjectMapper objectMapper) {
+        FilterRegistrationBean<IdempotencyFilter> registration = new FilterRegistrationBean<>(new IdempotencyFilter(
+                idempotencyStore, properties.getTtl(), properties.getLease(), objectMapper));
+        registration.addUrlPatterns("/accounts", "/accounts/batch", "/accounts/bulk-update", "/accounts/bulk-delete");
+        return registration;
+    }
+}
@@ -0,0 +1,30 @@
+package com.fintech.config;
+
+import com.fintech.metrics.DatabaseTimingDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class MetricsConfig {
+
+    private static final String PRIMARY_DATA_SOURCE = "dataSource";
+
+    // Only the primary data source, which also routes reads to the replicas. Other DataSource beans,
+    // such as a pool added by a library, are not part of the database time of requests
+    @Bean
+    public static BeanPostProcessor databaseTimingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (PRIMARY_DATA_SOURCE.equals(beanName) && bean instanceof DataSource dataSource
+                        && !(bean instanceof DatabaseTimingDataSource)) {
+                    return new DatabaseTimingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+}
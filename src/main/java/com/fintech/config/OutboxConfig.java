@@ -0,0 +1,18 @@
+package com.fintech.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fintech.outbox.FileOutboxSink;
+import com.fintech.outbox.OutboxSink;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class OutboxConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(OutboxSink.class)
+    public OutboxSink fileOutboxSink(AccountOutboxProperties properties, ObjectMapper objectMapper) {
+        return new FileOutboxSink(properties.getFile(), objectMapper);
+    }
+}
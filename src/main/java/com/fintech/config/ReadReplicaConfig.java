@@ -0,0 +1,89 @@
+package com.fintech.config;
+
+import com.fintech.datasource.ReadReplicas;
+import com.fintech.datasource.ReplicaLagGuard;
+import com.fintech.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Configuration
+@ConditionalOnProperty(prefix = "account.read-replicas", name = "enabled", havingValue = "true")
+@Slf4j
+public class ReadReplicaConfig {
+
+    @Bean(destroyMethod = "close")
+    public ReadReplicas readReplicas(AccountReadReplicaProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        if (properties.getReplicas().isEmpty()) {
+            throw new IllegalStateException("account.read-replicas.enabled is set but no replicas are configured");
+        }
+
+        Map<String, HikariDataSource> pools = new LinkedHashMap<>();
+        for (AccountReadReplicaProperties.Replica replica : properties.getReplicas()) {
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName("replica-" + (pools.size() + 1));
+            pool.setJdbcUrl(replica.getUrl());
+            pool.setUsername(replica.getUsername());
+            pool.setPassword(replica.getPassword());
+            pool.setMaximumPoolSize(properties.getMaximumPoolSize());
+            pool.setConnectionTimeout(properties.getConnectionTimeout().toMillis());
+            pool.setReadOnly(true);
+            // An unreachable replica must not fail startup, it just stays out of rotation
+            pool.setInitializationFailTimeout(-1);
+            meterRegistry.ifAvailable(registry -> pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+            pools.put(pool.getPoolName(), pool);
+        }
+
+        log.info("Read replicas enabled: replicas={}", pools.size());
+        return new ReadReplicas(pools, properties.getConnectionTimeout());
+    }
+
+    @Bean
+    public ReplicaLagGuard replicaLagGuard(AccountReadReplicaProperties properties, CacheManager cacheManager) {
+        return new ReplicaLagGuard(properties.getReadYourWritesWindow(), cacheManager);
+    }
+
+    /**
+     * Connections are only fetched on the first statement, by which time the transaction manager
+     * has marked read-only transactions, so those are served from a replica and everything else
+     * from the primary. Ordered ahead of the timing and other wrapping post processors so that
+     * they measure statements whichever database serves them.
+     */
+    @Bean
+    public static BeanPostProcessor readReplicaRoutingPostProcessor(ObjectProvider<ReadReplicas> readReplicas,
+                                                                    ObjectProvider<ReplicaLagGuard> replicaLagGuard) {
+        return new OrderedBeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource primary && !(bean instanceof LazyConnectionDataSourceProxy)) {
+                    LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primary);
+                    proxy.setReadOnlyDataSource(new ReplicaRoutingDataSource(
+                            primary, readReplicas.getObject(), replicaLagGuard.getObject()));
+                    return proxy;
+                }
+                return bean;
+            }
+        };
+    }
+
+    private interface OrderedBeanPostProcessor extends BeanPostProcessor, Ordered {
+
+        @Override
+        default int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+}
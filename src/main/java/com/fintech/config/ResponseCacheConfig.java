@@ -0,0 +1,37 @@
+package com.fintech.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fintech.web.SerializedAccountCache;
+import com.fintech.web.SerializedAccountHttpMessageConverter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+@ConditionalOnProperty(prefix = "account.response-cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ResponseCacheConfig {
+
+    @Bean
+    public SerializedAccountCache serializedAccountCache(AccountResponseCacheProperties properties,
+                                                         ObjectMapper objectMapper,
+                                                         MeterRegistry meterRegistry) {
+        return new SerializedAccountCache(objectMapper, properties.getMaximumSize().toBytes(), properties.isCompression(),
+                meterRegistry);
+    }
+
+    // First in line, so it is picked over the Jackson converter for account responses
+    @Bean
+    public WebMvcConfigurer serializedAccountConverterConfigurer(SerializedAccountCache serializedAccountCache) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+                converters.add(0, new SerializedAccountHttpMessageConverter(serializedAccountCache));
+            }
+        };
+    }
+}
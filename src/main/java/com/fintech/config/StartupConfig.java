@@ -0,0 +1,19 @@
+package com.fintech.config;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class StartupConfig {
+
+    /**
+     * With {@code spring.main.lazy-initialization} on, keeps the application's own beans eager so
+     * the first requests do not pay for creating controllers, services, repositories and their
+     * dependencies. Infrastructure nothing in the request path depends on is created on first use.
+     */
+    @Bean
+    public static LazyInitializationExcludeFilter requestPathBeansExcludeFilter() {
+        return (beanName, beanDefinition, beanType) -> beanType.getName().startsWith("com.fintech.");
+    }
+}
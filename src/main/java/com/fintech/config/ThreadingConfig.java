@@ -0,0 +1,56 @@
+package com.fintech.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fintech.web.AsyncRequestTimeoutInterceptor;
+import com.fintech.web.ConcurrencyLimitFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@EnableAsync
+@EnableScheduling
+@Slf4j
+public class ThreadingConfig {
+
+    /**
+     * Virtual threads remove the Tomcat thread ceiling, so without a bound every request would
+     * queue on Hikari connection acquisition instead. Limit in-flight requests to a multiple of
+     * the pool size and shed the rest with 503.
+     */
+    @Bean
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            AccountThreadingProperties properties,
+            ObjectMapper objectMapper,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int maximumPoolSize,
+            @Value("${management.endpoints.web.base-path:/actuator}") String actuatorBasePath) {
+        int maxConcurrentRequests = maximumPoolSize * properties.getRequestsPerConnection();
+        log.info("Virtual threads enabled: maxConcurrentRequests={}", maxConcurrentRequests);
+
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(
+                new ConcurrencyLimitFilter(maxConcurrentRequests, properties.getAcquireTimeout(), objectMapper,
+                        actuatorBasePath));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Bean
+    public WebMvcConfigurer asyncRequestTimeoutConfigurer() {
+        return new WebMvcConfigurer() {
+            @Override
+            public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+                configurer.registerCallableInterceptors(new AsyncRequestTimeoutInterceptor());
+            }
+        };
+    }
+}
@@ -1,11 +1,21 @@
 package com.fintech.controller;
 
+import com.fintech.dto.AccountBatchResponse;
+import com.fintech.dto.AccountBulkDeleteRequest;
+import com.fintech.dto.AccountBulkJobResponse;
+import com.fintech.dto.AccountBulkUpdateRequest;
+import com.fintech.dto.AccountChangesRequest;
+import com.fintech.dto.AccountChangesResponse;
 import com.fintech.dto.AccountCreateRequest;
+import com.fintech.dto.AccountListFilter;
+import com.fintech.dto.AccountLookupRequest;
+import com.fintech.dto.AccountLookupResponse;
 import com.fintech.dto.AccountResponse;
 import com.fintech.dto.AccountUpdateRequest;
 import com.fintech.dto.ErrorResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -13,9 +23,17 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
 
 @Tag(name = "Account Management", description = "Operations for managing user accounts")
 public interface AccountApiInterface {
@@ -25,6 +43,15 @@ public interface AccountApiInterface {
         description = "Creates a new user account with the provided name and phone number. " +
                      "Phone number must be unique and in E.164 international format."
     )
+    @Parameter(
+        name = "Idempotency-Key",
+        in = ParameterIn.HEADER,
+        description = "Client-chosen key, unique per request, of at most 255 characters. A retry with the same key and body " +
+                     "gets the stored response replayed with Idempotent-Replayed: true instead of running again. " +
+                     "Keys are kept for 24 hours by default.",
+        schema = @Schema(type = "string", maxLength = 255),
+        example = "6f1c2a7e-3b54-4a8d-9f0e-2d1b5c7a9e31"
+    )
     @ApiResponses(value = {
         @ApiResponse(
             responseCode = "201", 
@@ -75,6 +102,42 @@ public interface AccountApiInterface {
                     )
                 }
             )
+        ),
+        @ApiResponse(
+            responseCode = "409",
+            description = "A request with the same Idempotency-Key is still in progress, or completed with a response too large to replay",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class),
+                examples = @ExampleObject(
+                    name = "Idempotency Key In Use",
+                    value = """
+                        {
+                          "errorCode": "IDEMPOTENCY_KEY_IN_USE",
+                          "message": "A request with this Idempotency-Key is still in progress, please retry later",
+                          "timestamp": "2025-08-25T10:30:00"
+                        }
+                        """
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "422",
+            description = "The Idempotency-Key was already used with a different request body",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class),
+                examples = @ExampleObject(
+                    name = "Idempotency Key Mismatch",
+                    value = """
+                        {
+                          "errorCode": "IDEMPOTENCY_KEY_MISMATCH",
+                          "message": "Idempotency-Key was already used with a different request body",
+                          "timestamp": "2025-08-25T10:30:00"
+                        }
+                        """
+                )
+            )
         )
     })
     ResponseEntity<AccountResponse> createAccount(
@@ -97,9 +160,252 @@ public interface AccountApiInterface {
         @Valid @RequestBody AccountCreateRequest request
     );
 
+    @Operation(
+        summary = "Create accounts in batch",
+        description = "Creates many accounts in one request. Each item is validated like a single create; " +
+                     "phone numbers are checked for duplicates within the batch and against existing accounts. " +
+                     "Valid items are inserted even when other items fail, and a result is returned for every item. " +
+                     "Items are inserted in chunks that commit independently; if a chunk fails after earlier ones " +
+                     "committed, its items and the rest are reported as INTERNAL_ERROR and can be sent again."
+    )
+    @Parameter(
+        name = "Idempotency-Key",
+        in = ParameterIn.HEADER,
+        description = "Client-chosen key, unique per request, of at most 255 characters. A retry with the same key and body " +
+                     "gets the stored response replayed with Idempotent-Replayed: true instead of running again. " +
+                     "Keys are kept for 24 hours by default. The default memory store does not keep responses over " +
+                     "1MB; a retry of such a batch gets 409 IDEMPOTENT_RESPONSE_NOT_STORED.",
+        schema = @Schema(type = "string", maxLength = 255),
+        example = "6f1c2a7e-3b54-4a8d-9f0e-2d1b5c7a9e31"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Batch processed, see per-item results",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = AccountBatchResponse.class),
+                examples = @ExampleObject(
+                    name = "Batch Result",
+                    value = """
+                        {
+                          "createdCount": 1,
+                          "failedCount": 1,
+                          "results": [
+                            {
+                              "index": 0,
+                              "status": "CREATED",
+                              "account": {
+                                "id": 1,
+                                "name": "John Doe",
+                                "phoneNr": "+1234567890",
+                                "isActive": true,
+                                "createdTime": "2025-08-25T10:30:00",
+                                "modifiedTime": "2025-08-25T10:30:00"
+                              }
+                            },
+                            {
+                              "index": 1,
+                              "status": "FAILED",
+                              "errorCode": "DUPLICATE_PHONE_NUMBER",
+                              "message": "Phone number already exists: +1234567890"
+                            }
+                          ]
+                        }
+                        """
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Batch is empty or exceeds the maximum size",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class),
+                examples = @ExampleObject(
+                    name = "Batch Too Large",
+                    value = """
+                        {
+                          "errorCode": "INVALID_REQUEST",
+                          "message": "Batch size exceeds maximum of 50000",
+                          "timestamp": "2025-08-25T10:30:00"
+                        }
+                        """
+                )
+            )
+        )
+    })
+    ResponseEntity<AccountBatchResponse> createAccounts(
+        @io.swagger.v3.oas.annotations.parameters.RequestBody(
+            description = "Accounts to create",
+            required = true,
+            content = @Content(
+                examples = @ExampleObject(
+                    name = "Create Accounts Request",
+                    value = """
+                        [
+                          { "name": "John Doe", "phoneNr": "+1234567890" },
+                          { "name": "Jane Smith", "phoneNr": "+1234567890" }
+                        ]
+                        """
+                )
+            )
+        )
+        @RequestBody List<AccountCreateRequest> requests
+    );
+
+    @Operation(
+        summary = "List accounts",
+        description = "Lists accounts ordered by ID using keyset pagination. Pass the returned nextCursor as afterId " +
+                     "to fetch the next page; nextCursor is omitted on the last page. Accounts can be filtered by " +
+                     "status and by created/modified time ranges (from inclusive, to exclusive). " +
+                     "Rows are streamed to the response as they are read."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Page of accounts",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(
+                    type = "object",
+                    description = "items holds the accounts of the page, nextCursor the afterId of the next page"
+                ),
+                examples = @ExampleObject(
+                    name = "Account Page",
+                    value = """
+                        {
+                          "items": [
+                            {
+                              "id": 1,
+                              "name": "John Doe",
+                              "phoneNr": "+1234567890",
+                              "isActive": true,
+                              "createdTime": "2025-08-25T10:30:00",
+                              "modifiedTime": "2025-08-25T10:30:00"
+                            }
+                          ],
+                          "nextCursor": 1
+                        }
+                        """
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid filter or page size",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class),
+                examples = @ExampleObject(
+                    name = "Validation Error",
+                    value = """
+                        {
+                          "errorCode": "VALIDATION_FAILED",
+                          "message": "Validation failed: limit: Limit must be at most 10000",
+                          "timestamp": "2025-08-25T10:30:00"
+                        }
+                        """
+                )
+            )
+        )
+    })
+    ResponseEntity<StreamingResponseBody> listAccounts(
+        @ParameterObject @Valid AccountListFilter filter
+    );
+
+    @Operation(
+        summary = "Export all accounts",
+        description = "Streams every account, including deleted ones, as newline-delimited JSON ordered by ID. " +
+                     "The response is gzip-compressed when the client sends Accept-Encoding: gzip. " +
+                     "An interrupted export can be resumed by passing the last received ID as afterId."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Account export stream",
+            content = @Content(
+                mediaType = "application/x-ndjson",
+                schema = @Schema(implementation = AccountResponse.class),
+                examples = @ExampleObject(
+                    name = "Account Export",
+                    value = """
+                        {"id":1,"name":"John Doe","phoneNr":"+1234567890","isActive":true,"createdTime":"2025-08-25T10:30:00","modifiedTime":"2025-08-25T10:30:00"}
+                        {"id":2,"name":"Jane Smith","createdTime":"2025-08-25T10:31:00","modifiedTime":"2025-08-25T11:00:00","deletedTime":"2025-08-25T11:00:00"}
+                        """
+                )
+            )
+        )
+    })
+    ResponseEntity<StreamingResponseBody> exportAccounts(
+        @Parameter(description = "Export accounts with an ID greater than this value", example = "0")
+        @RequestParam(defaultValue = "0") long afterId,
+        @Parameter(hidden = true)
+        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    );
+
+    @Operation(
+        summary = "Get account changes",
+        description = "Returns accounts created, updated or soft-deleted after the given watermark, ordered by " +
+                     "modification time and ID. Pass nextWatermark as since to read the next batch; omit since to " +
+                     "start from the beginning. With waitSeconds, an empty batch is held open until changes arrive " +
+                     "or the wait elapses. Changes become visible a few seconds after they commit."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Batch of changes, possibly empty",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = AccountChangesResponse.class),
+                examples = @ExampleObject(
+                    name = "Account Changes",
+                    value = """
+                        {
+                          "items": [
+                            {
+                              "id": 2,
+                              "name": "Jane Smith",
+                              "createdTime": "2025-08-25T10:31:00",
+                              "modifiedTime": "2025-08-25T11:00:00",
+                              "deletedTime": "2025-08-25T11:00:00"
+                            }
+                          ],
+                          "nextWatermark": "AAAAAGisQjAAAAAAAAAAAAAAAAI",
+                          "hasMore": false
+                        }
+                        """
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid watermark, batch size or wait",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class),
+                examples = @ExampleObject(
+                    name = "Invalid Watermark",
+                    value = """
+                        {
+                          "errorCode": "INVALID_REQUEST",
+                          "message": "Invalid watermark: abc",
+                          "timestamp": "2025-08-25T10:30:00"
+                        }
+                        """
+                )
+            )
+        )
+    })
+    DeferredResult<AccountChangesResponse> getAccountChanges(
+        @ParameterObject @Valid AccountChangesRequest request
+    );
+
     @Operation(
         summary = "Get account by ID",
-        description = "Retrieves a specific account by its unique identifier."
+        description = "Retrieves a specific account by its unique identifier. The response carries a strong ETag " +
+                     "derived from the account version, suffixed with -gzip for a gzip-encoded body; send it back in " +
+                     "If-None-Match to get 304 when unchanged."
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -116,12 +422,17 @@ public interface AccountApiInterface {
                           "name": "John Doe",
                           "phoneNr": "+1234567890",
                           "createdTime": "2025-08-25T10:30:00",
-                          "modifiedTime": "2025-08-25T10:30:00"
+                          "modifiedTime": "2025-08-25T10:30:00",
+                          "version": 0
                         }
                         """
                 )
             )
         ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "Account unchanged since the ETag given in If-None-Match"
+        ),
         @ApiResponse(
             responseCode = "404", 
             description = "Account not found",
@@ -146,10 +457,91 @@ public interface AccountApiInterface {
         @PathVariable Long id
     );
 
+    @Operation(
+        summary = "Look up accounts by IDs",
+        description = "Retrieves up to 1000 accounts in a single request. Results are returned in request order; " +
+                     "IDs that do not exist or belong to deleted accounts are reported with found=false."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Lookup completed",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = AccountLookupResponse.class),
+                examples = @ExampleObject(
+                    name = "Lookup Result",
+                    value = """
+                        {
+                          "foundCount": 1,
+                          "notFoundCount": 1,
+                          "results": [
+                            {
+                              "id": 1,
+                              "found": true,
+                              "account": {
+                                "id": 1,
+                                "name": "John Doe",
+                                "phoneNr": "+1234567890",
+                                "isActive": true,
+                                "createdTime": "2025-08-25T10:30:00",
+                                "modifiedTime": "2025-08-25T10:30:00"
+                              }
+                            },
+                            {
+                              "id": 999,
+                              "found": false
+                            }
+                          ]
+                        }
+                        """
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "No IDs or too many IDs requested",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class),
+                examples = @ExampleObject(
+                    name = "Validation Error",
+                    value = """
+                        {
+                          "errorCode": "VALIDATION_FAILED",
+                          "message": "Validation failed: ids: Ids are required",
+                          "timestamp": "2025-08-25T10:30:00"
+                        }
+                        """
+                )
+            )
+        )
+    })
+    ResponseEntity<AccountLookupResponse> lookupAccounts(
+        @io.swagger.v3.oas.annotations.parameters.RequestBody(
+            description = "Account IDs to look up",
+            required = true,
+            content = @Content(
+                schema = @Schema(implementation = AccountLookupRequest.class),
+                examples = @ExampleObject(
+                    name = "Lookup Request",
+                    value = """
+                        {
+                          "ids": [1, 999]
+                        }
+                        """
+                )
+            )
+        )
+        @Valid @RequestBody AccountLookupRequest request
+    );
+
     @Operation(
         summary = "Update an existing account",
         description = "Updates an existing account with new name and/or phone number. " +
-                     "Phone number must be unique and in E.164 international format."
+                     "Phone number must be unique and in E.164 international format. " +
+                     "With If-Match, the update is only applied if the account still has that ETag. " +
+                     "With Prefer: return=minimal, the response carries only the new ETag."
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -166,7 +558,8 @@ public interface AccountApiInterface {
                           "name": "John Updated",
                           "phoneNr": "+1234567890",
                           "createdTime": "2025-08-25T10:30:00",
-                          "modifiedTime": "2025-08-25T12:45:00"
+                          "modifiedTime": "2025-08-25T12:45:00",
+                          "version": 4
                         }
                         """
                 )
@@ -202,6 +595,10 @@ public interface AccountApiInterface {
                 }
             )
         ),
+        @ApiResponse(
+            responseCode = "204",
+            description = "Account successfully updated, body omitted as requested by Prefer: return=minimal"
+        ),
         @ApiResponse(
             responseCode = "404", 
             description = "Account not found",
@@ -219,11 +616,33 @@ public interface AccountApiInterface {
                         """
                 )
             )
+        ),
+        @ApiResponse(
+            responseCode = "412",
+            description = "Account modified since the ETag given in If-Match",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class),
+                examples = @ExampleObject(
+                    name = "Precondition Failed",
+                    value = """
+                        {
+                          "errorCode": "PRECONDITION_FAILED",
+                          "message": "Account with ID 1 has been modified since version 3",
+                          "timestamp": "2025-08-25T12:45:00"
+                        }
+                        """
+                )
+            )
         )
     })
     ResponseEntity<AccountResponse> updateAccount(
         @Parameter(description = "Unique identifier of the account to update", example = "1", required = true)
         @PathVariable Long id,
+        @Parameter(description = "Only update if the account still has this ETag", example = "\"3\"")
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+        @Parameter(description = "Send return=minimal to receive 204 with only the ETag instead of the account", example = "return=minimal")
+        @RequestHeader(value = "Prefer", required = false) String prefer,
         @io.swagger.v3.oas.annotations.parameters.RequestBody(
             description = "Account update details",
             required = true,
@@ -245,7 +664,8 @@ public interface AccountApiInterface {
 
     @Operation(
         summary = "Delete an account",
-        description = "Permanently deletes an account from the system by its unique identifier."
+        description = "Permanently deletes an account from the system by its unique identifier. " +
+                     "With If-Match, the account is only deleted if it still has that ETag."
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -269,10 +689,248 @@ public interface AccountApiInterface {
                         """
                 )
             )
+        ),
+        @ApiResponse(
+            responseCode = "412",
+            description = "Account modified since the ETag given in If-Match",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class),
+                examples = @ExampleObject(
+                    name = "Precondition Failed",
+                    value = """
+                        {
+                          "errorCode": "PRECONDITION_FAILED",
+                          "message": "Account with ID 1 has been modified since version 3",
+                          "timestamp": "2025-08-25T13:00:00"
+                        }
+                        """
+                )
+            )
         )
     })
     ResponseEntity<Void> deleteAccount(
         @Parameter(description = "Unique identifier of the account to delete", example = "1", required = true)
-        @PathVariable Long id
+        @PathVariable Long id,
+        @Parameter(description = "Only delete if the account still has this ETag", example = "\"3\"")
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    );
+    @Operation(
+        summary = "Rename accounts in bulk",
+        description = "Sets the name of the active accounts given by ids, or matching a created/modified time filter. " +
+                     "Accounts are changed in chunks, each locked and written in its own transaction. " +
+                     "Id lists that fit in one chunk are applied before responding; larger jobs run in the background " +
+                     "and their progress is available from the Location header."
+    )
+    @Parameter(
+        name = "Idempotency-Key",
+        in = ParameterIn.HEADER,
+        description = "Client-chosen key, unique per request, of at most 255 characters. A retry with the same key and body " +
+                     "gets the stored response replayed with Idempotent-Replayed: true instead of running again. " +
+                     "Keys are kept for 24 hours by default.",
+        schema = @Schema(type = "string", maxLength = 255),
+        example = "6f1c2a7e-3b54-4a8d-9f0e-2d1b5c7a9e31"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Job finished before responding",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = AccountBulkJobResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "202",
+            description = "Job accepted and running in the background",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = AccountBulkJobResponse.class),
+                examples = @ExampleObject(
+                    name = "Bulk Job",
+                    value = """
+                        {
+                          "id": "5f0c9a8e-2b1d-4c7e-9a51-3f6d2e8b7c10",
+                          "type": "DELETE",
+                          "status": "RUNNING",
+                          "total": 250000,
+                          "processed": 42000,
+                          "affected": 41870,
+                          "skipped": 130,
+                          "createdTime": "2025-08-25T10:30:00",
+                          "startedTime": "2025-08-25T10:30:00"
+                        }
+                        """
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Neither or both of ids and filter given, or too many ids",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class),
+                examples = @ExampleObject(
+                    name = "Invalid Target",
+                    value = """
+                        {
+                          "errorCode": "INVALID_REQUEST",
+                          "message": "Exactly one of ids or filter is required",
+                          "timestamp": "2025-08-25T10:30:00"
+                        }
+                        """
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "503",
+            description = "Too many bulk jobs pending",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    ResponseEntity<AccountBulkJobResponse> bulkUpdateAccounts(
+        @io.swagger.v3.oas.annotations.parameters.RequestBody(
+            description = "Target accounts and the new name",
+            required = true,
+            content = @Content(
+                schema = @Schema(implementation = AccountBulkUpdateRequest.class),
+                examples = @ExampleObject(
+                    name = "Bulk Update Request",
+                    value = """
+                        {
+                          "filter": { "createdTo": "2020-01-01T00:00:00" },
+                          "name": "Archived Customer"
+                        }
+                        """
+                )
+            )
+        )
+        @Valid @RequestBody AccountBulkUpdateRequest request
+    );
+
+    @Operation(
+        summary = "Delete accounts in bulk",
+        description = "Soft-deletes the active accounts given by ids, or matching a created/modified time filter. " +
+                     "Accounts are deleted in chunks, each locked and written in its own transaction. " +
+                     "Id lists that fit in one chunk are applied before responding; larger jobs run in the background " +
+                     "and their progress is available from the Location header."
+    )
+    @Parameter(
+        name = "Idempotency-Key",
+        in = ParameterIn.HEADER,
+        description = "Client-chosen key, unique per request, of at most 255 characters. A retry with the same key and body " +
+                     "gets the stored response replayed with Idempotent-Replayed: true instead of running again. " +
+                     "Keys are kept for 24 hours by default.",
+        schema = @Schema(type = "string", maxLength = 255),
+        example = "6f1c2a7e-3b54-4a8d-9f0e-2d1b5c7a9e31"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Job finished before responding",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = AccountBulkJobResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "202",
+            description = "Job accepted and running in the background",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = AccountBulkJobResponse.class),
+                examples = @ExampleObject(
+                    name = "Bulk Job",
+                    value = """
+                        {
+                          "id": "5f0c9a8e-2b1d-4c7e-9a51-3f6d2e8b7c10",
+                          "type": "DELETE",
+                          "status": "RUNNING",
+                          "total": 250000,
+                          "processed": 42000,
+                          "affected": 41870,
+                          "skipped": 130,
+                          "createdTime": "2025-08-25T10:30:00",
+                          "startedTime": "2025-08-25T10:30:00"
+                        }
+                        """
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Neither or both of ids and filter given, or too many ids",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "503",
+            description = "Too many bulk jobs pending",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    ResponseEntity<AccountBulkJobResponse> bulkDeleteAccounts(
+        @io.swagger.v3.oas.annotations.parameters.RequestBody(
+            description = "Target accounts",
+            required = true,
+            content = @Content(
+                schema = @Schema(implementation = AccountBulkDeleteRequest.class),
+                examples = @ExampleObject(
+                    name = "Bulk Delete Request",
+                    value = """
+                        {
+                          "ids": [1, 2, 3]
+                        }
+                        """
+                )
+            )
+        )
+        @Valid @RequestBody AccountBulkDeleteRequest request
+    );
+
+    @Operation(
+        summary = "Get bulk job progress",
+        description = "Returns the status and progress of a bulk job. Jobs are kept by the instance that accepted them " +
+                     "until an hour after they finish."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Job found",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = AccountBulkJobResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Job not found or expired",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class),
+                examples = @ExampleObject(
+                    name = "Job Not Found",
+                    value = """
+                        {
+                          "errorCode": "BULK_JOB_NOT_FOUND",
+                          "message": "Bulk job not found with ID: 5f0c9a8e-2b1d-4c7e-9a51-3f6d2e8b7c10",
+                          "timestamp": "2025-08-25T10:30:00"
+                        }
+                        """
+                )
+            )
+        )
+    })
+    ResponseEntity<AccountBulkJobResponse> getBulkJob(
+        @Parameter(description = "Job identifier returned on submission", required = true)
+        @PathVariable String jobId
     );
 }
\ No newline at end of file
@@ -1,16 +1,52 @@
 package com.fintech.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fintech.config.AccountExportProperties;
+import com.fintech.dto.AccountBatchResponse;
+import com.fintech.dto.AccountBulkDeleteRequest;
+import com.fintech.dto.AccountBulkJobResponse;
+import com.fintech.dto.AccountBulkUpdateRequest;
+import com.fintech.dto.AccountChangesRequest;
+import com.fintech.dto.AccountChangesResponse;
 import com.fintech.dto.AccountCreateRequest;
+import com.fintech.dto.AccountListFilter;
+import com.fintech.dto.AccountLookupRequest;
+import com.fintech.dto.AccountLookupResponse;
 import com.fintech.dto.AccountResponse;
 import com.fintech.dto.AccountUpdateRequest;
+import com.fintech.dto.ChangeWatermark;
+import com.fintech.service.AccountBulkService;
+import com.fintech.service.AccountChangeFeed;
 import com.fintech.service.AccountService;
+import com.fintech.web.AcceptEncoding;
+import com.fintech.web.AsyncRequestTimeoutInterceptor;
+import com.fintech.web.ConcurrencyLimitFilter;
+import com.fintech.web.SerializedAccountCache;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 import static com.fintech.security.Authority.USER_READ;
 import static com.fintech.security.Authority.USER_WRITE;
@@ -22,33 +58,225 @@ import static com.fintech.security.Authority.USER_WRITE;
 @Slf4j
 public class AccountController implements AccountApiInterface {
 
+    private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final String PREFER = "Prefer";
+    private static final String PREFERENCE_APPLIED = "Preference-Applied";
+    private static final String RETURN_MINIMAL = "return=minimal";
+    private static final String GZIP_ETAG_SUFFIX = "-gzip";
+
     private final AccountService accountService;
+    private final AccountChangeFeed accountChangeFeed;
+    private final AccountBulkService accountBulkService;
+    private final ObjectMapper objectMapper;
+    private final AccountExportProperties exportProperties;
+    private final ObjectProvider<SerializedAccountCache> serializedAccountCache;
 
     @PreAuthorize(USER_WRITE)
     @PostMapping
     public ResponseEntity<AccountResponse> createAccount(@Valid @RequestBody AccountCreateRequest request) {
         AccountResponse response = accountService.createAccount(request);
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        return withETag(ResponseEntity.status(HttpStatus.CREATED), response).body(response);
+    }
+
+    @PreAuthorize(USER_WRITE)
+    @PostMapping("/batch")
+    public ResponseEntity<AccountBatchResponse> createAccounts(@RequestBody List<AccountCreateRequest> requests) {
+        AccountBatchResponse response = accountService.createAccounts(requests);
+        return ResponseEntity.ok(response);
+    }
+
+    @PreAuthorize(USER_WRITE)
+    @PostMapping("/bulk-update")
+    public ResponseEntity<AccountBulkJobResponse> bulkUpdateAccounts(@Valid @RequestBody AccountBulkUpdateRequest request) {
+        return bulkJobResponse(accountBulkService.submitUpdate(request));
+    }
+
+    @PreAuthorize(USER_WRITE)
+    @PostMapping("/bulk-delete")
+    public ResponseEntity<AccountBulkJobResponse> bulkDeleteAccounts(@Valid @RequestBody AccountBulkDeleteRequest request) {
+        return bulkJobResponse(accountBulkService.submitDelete(request));
+    }
+
+    @PreAuthorize(USER_READ)
+    @GetMapping("/bulk-jobs/{jobId}")
+    public ResponseEntity<AccountBulkJobResponse> getBulkJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(accountBulkService.findJob(jobId));
+    }
+
+    @PreAuthorize(USER_READ)
+    @PostMapping("/lookup")
+    public ResponseEntity<AccountLookupResponse> lookupAccounts(@Valid @RequestBody AccountLookupRequest request) {
+        AccountLookupResponse response = accountService.findByIds(request.getIds());
+        return ResponseEntity.ok(response);
+    }
+
+    @PreAuthorize(USER_READ)
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> listAccounts(@Valid AccountListFilter filter) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(outputStream -> writeAccountPage(filter, outputStream));
+    }
+
+    @PreAuthorize(USER_READ)
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportAccounts(
+            @RequestParam(defaultValue = "0") long afterId,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        boolean gzip = AcceptEncoding.allowsGzip(acceptEncoding);
+        RequestContextHolder.currentRequestAttributes().setAttribute(AsyncRequestTimeoutInterceptor.TIMEOUT_ATTRIBUTE,
+                exportProperties.getRequestTimeout(), RequestAttributes.SCOPE_REQUEST);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(APPLICATION_NDJSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, AcceptEncoding.GZIP);
+        }
+
+        return response.body(outputStream -> writeAccountExport(afterId, gzip ? new GZIPOutputStream(outputStream) : outputStream));
+    }
+
+    @PreAuthorize(USER_READ)
+    @GetMapping("/changes")
+    public DeferredResult<AccountChangesResponse> getAccountChanges(@Valid AccountChangesRequest request) {
+        ChangeWatermark since = ChangeWatermark.parse(request.getSince());
+        // Waiting for changes holds no connection, so the wait does not count against the concurrency limit
+        ConcurrencyLimitFilter.releaseOnAsyncStart();
+        return accountChangeFeed.poll(since, request.getLimit(), Duration.ofSeconds(request.getWaitSeconds()));
     }
 
     @PreAuthorize(USER_READ)
     @GetMapping("/{id}")
     public ResponseEntity<AccountResponse> getAccountById(@PathVariable Long id) {
         AccountResponse response = accountService.findById(id);
-        return ResponseEntity.ok(response);
+        // A matching If-None-Match is answered with 304 before the body is serialized
+        return withETag(ResponseEntity.ok(), response).body(response);
     }
 
     @PreAuthorize(USER_WRITE)
     @PatchMapping("/{id}")
-    public ResponseEntity<AccountResponse> updateAccount(@PathVariable Long id, @Valid @RequestBody AccountUpdateRequest request) {
-        AccountResponse response = accountService.updateAccount(id, request);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<AccountResponse> updateAccount(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestHeader(value = PREFER, required = false) String prefer,
+            @Valid @RequestBody AccountUpdateRequest request) {
+        AccountResponse response = accountService.updateAccount(id, request, expectedVersion(ifMatch));
+        if (isReturnMinimal(prefer)) {
+            return withETag(ResponseEntity.status(HttpStatus.NO_CONTENT), response)
+                    .header(PREFERENCE_APPLIED, RETURN_MINIMAL)
+                    .build();
+        }
+        return withETag(ResponseEntity.ok(), response).body(response);
     }
 
     @PreAuthorize(USER_WRITE)
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteAccount(@PathVariable Long id) {
-        accountService.deleteAccount(id);
+    public ResponseEntity<Void> deleteAccount(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        accountService.deleteAccount(id, expectedVersion(ifMatch));
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+
+    // The gzip body is a different representation, so it gets its own strong ETag. Decided before
+    // the body is written, so a matching If-None-Match from either kind of client still gets 304
+    private ResponseEntity.BodyBuilder withETag(ResponseEntity.BodyBuilder builder, AccountResponse response) {
+        if (response.getVersion() == null) {
+            return builder;
+        }
+
+        String version = String.valueOf(response.getVersion());
+        return builder.eTag(isServedGzipped() ? version + GZIP_ETAG_SUFFIX : version);
+    }
+
+    // From the configuration and the request only, so a 304 never serializes or gzips the body
+    private boolean isServedGzipped() {
+        SerializedAccountCache cache = serializedAccountCache.getIfAvailable();
+        return cache != null && cache.usesGzip(AcceptEncoding.currentRequestAllowsGzip());
+    }
+
+    private static ResponseEntity<AccountBulkJobResponse> bulkJobResponse(AccountBulkJobResponse job) {
+        if (job.getFinishedTime() != null) {
+            return ResponseEntity.ok(job);
+        }
+
+        return ResponseEntity.accepted()
+                .location(ServletUriComponentsBuilder.fromCurrentContextPath()
+                        .path("/accounts/bulk-jobs/{jobId}")
+                        .buildAndExpand(job.getId())
+                        .toUri())
+                .body(job);
+    }
+
+    private static boolean isReturnMinimal(String prefer) {
+        if (prefer == null) {
+            return false;
+        }
+        for (String preference : prefer.split(",")) {
+            if (preference.trim().equalsIgnoreCase(RETURN_MINIMAL)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+
+        String eTag = ifMatch.trim();
+        try {
+            if (eTag.length() > 2 && eTag.startsWith("\"") && eTag.endsWith("\"")) {
+                String version = eTag.substring(1, eTag.length() - 1);
+                if (version.endsWith(GZIP_ETAG_SUFFIX)) {
+                    version = version.substring(0, version.length() - GZIP_ETAG_SUFFIX.length());
+                }
+                return Long.parseLong(version);
+            }
+        } catch (NumberFormatException ignored) {
+        }
+        throw new IllegalArgumentException("If-Match must be a single strong ETag: " + ifMatch);
+    }
+
+    private void writeAccountPage(AccountListFilter filter, OutputStream outputStream) throws IOException {
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("items");
+
+            Long nextCursor = accountService.streamAccounts(filter, account -> {
+                try {
+                    writer.writeValue(generator, account);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+
+            generator.writeEndArray();
+            if (nextCursor != null) {
+                generator.writeNumberField("nextCursor", nextCursor);
+            }
+            generator.writeEndObject();
+        }
+    }
+
+    private void writeAccountExport(long afterId, OutputStream outputStream) throws IOException {
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.setRootValueSeparator(null);
+
+            accountService.exportAccounts(afterId, account -> {
+                try {
+                    writer.writeValue(generator, account);
+                    generator.writeRaw('\n');
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+        }
+    }
+}
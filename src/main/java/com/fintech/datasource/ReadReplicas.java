@@ -0,0 +1,101 @@
+package com.fintech.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Connection pools of the read replicas. Connections are handed out round robin over the replicas
+ * currently considered healthy. A replica that fails to hand out a connection is taken out of
+ * rotation until the next health check can open a valid connection to it again.
+ */
+@Slf4j
+public class ReadReplicas implements Closeable {
+
+    private final List<Replica> replicas;
+    private final int validationTimeoutSeconds;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReadReplicas(Map<String, ? extends DataSource> pools, Duration validationTimeout) {
+        this.replicas = pools.entrySet().stream()
+                .map(pool -> new Replica(pool.getKey(), pool.getValue()))
+                .toList();
+        this.validationTimeoutSeconds = (int) Math.max(validationTimeout.toSeconds(), 1);
+    }
+
+    /**
+     * Returns a connection to the next healthy replica, or {@code null} when none can serve one.
+     */
+    public Connection getConnection() {
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get(Math.floorMod(next.getAndIncrement(), replicas.size()));
+            if (!replica.healthy) {
+                continue;
+            }
+
+            try {
+                return replica.pool.getConnection();
+            } catch (SQLException | RuntimeException ex) {
+                markDown(replica, ex.getMessage());
+            }
+        }
+        return null;
+    }
+
+    public int healthyCount() {
+        return (int) replicas.stream().filter(replica -> replica.healthy).count();
+    }
+
+    @Scheduled(fixedDelayString = "${account.read-replicas.health-check-interval:5s}")
+    public void checkHealth() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.pool.getConnection()) {
+                if (!connection.isValid(validationTimeoutSeconds)) {
+                    markDown(replica, "connection not valid");
+                } else if (!replica.healthy) {
+                    replica.healthy = true;
+                    log.info("Read replica back in rotation: {}", replica.name);
+                }
+            } catch (SQLException | RuntimeException ex) {
+                markDown(replica, ex.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (Replica replica : replicas) {
+            if (replica.pool instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private static void markDown(Replica replica, String reason) {
+        if (replica.healthy) {
+            replica.healthy = false;
+            log.warn("Read replica taken out of rotation: {}, reason={}", replica.name, reason);
+        }
+    }
+
+    private static final class Replica {
+
+        private final String name;
+        private final DataSource pool;
+        private volatile boolean healthy = true;
+
+        private Replica(String name, DataSource pool) {
+            this.name = name;
+            this.pool = pool;
+        }
+    }
+}
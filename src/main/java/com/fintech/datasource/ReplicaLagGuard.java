@@ -0,0 +1,147 @@
+package com.fintech.datasource;
+
+import com.fintech.event.AccountChangedEvent;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import static com.fintech.config.CacheConfig.ACCOUNTS_CACHE;
+
+/**
+ * Hides replication lag for {@code window} after each committed account change. A request that
+ * changes an account gets a {@value #PRIMARY_READS_COOKIE} cookie holding the end of the window,
+ * and requests sending it back read from the primary until then. The cookie keeps this per client
+ * and works whichever instance serves the next request. The account is also evicted from the cache
+ * again once the window has passed, in case another client cached it from a lagging replica; those
+ * evictions are collected in one second buckets and run by a single periodic task.
+ */
+public class ReplicaLagGuard {
+
+    public static final String PRIMARY_READS_COOKIE = "primary-reads-until";
+
+    private static final long BUCKET_MILLIS = 1_000;
+    private static final String PRIMARY_READS_UNTIL = ReplicaLagGuard.class.getName() + ".PRIMARY_READS_UNTIL";
+
+    private final Duration window;
+    private final CacheManager cacheManager;
+    private final LongSupplier clock;
+    private final ConcurrentNavigableMap<Long, Set<Long>> pendingEvictions = new ConcurrentSkipListMap<>();
+
+    public ReplicaLagGuard(Duration window, CacheManager cacheManager) {
+        this(window, cacheManager, System::currentTimeMillis);
+    }
+
+    ReplicaLagGuard(Duration window, CacheManager cacheManager, LongSupplier clock) {
+        this.window = window;
+        this.cacheManager = cacheManager;
+        this.clock = clock;
+    }
+
+    public boolean isRecentWriter() {
+        HttpServletRequest request = currentRequest();
+        if (request == null) {
+            return false;
+        }
+        // A window longer than configured did not come from this service and is ignored
+        long now = clock.getAsLong();
+        long until = primaryReadsUntil(request);
+        return until > now && until <= now + window.toMillis();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAccountChanged(AccountChangedEvent event) {
+        long until = clock.getAsLong() + window.toMillis();
+        markWriter(until);
+
+        // Rounded up, so no account is evicted before its window has passed
+        long bucket = (until / BUCKET_MILLIS + 1) * BUCKET_MILLIS;
+        pendingEvictions.computeIfAbsent(bucket, key -> ConcurrentHashMap.newKeySet()).add(event.getAccountId());
+    }
+
+    @Scheduled(fixedDelay = BUCKET_MILLIS, timeUnit = TimeUnit.MILLISECONDS)
+    public void evictDue() {
+        Map<Long, Set<Long>> due = pendingEvictions.headMap(clock.getAsLong(), true);
+        if (due.isEmpty()) {
+            return;
+        }
+
+        Optional<Cache> cache = Optional.ofNullable(cacheManager.getCache(ACCOUNTS_CACHE));
+        for (Map.Entry<Long, Set<Long>> bucket : due.entrySet()) {
+            cache.ifPresent(accounts -> bucket.getValue().forEach(accounts::evict));
+            due.remove(bucket.getKey());
+        }
+    }
+
+    int pendingEvictionCount() {
+        return pendingEvictions.values().stream().mapToInt(Set::size).sum();
+    }
+
+    /**
+     * Sets the cookie once per request, however many accounts the request changes, and remembers
+     * the window on the request so its own later reads go to the primary as well.
+     */
+    private void markWriter(long until) {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return;
+        }
+
+        HttpServletRequest request = attributes.getRequest();
+        boolean alreadyMarked = request.getAttribute(PRIMARY_READS_UNTIL) != null;
+        request.setAttribute(PRIMARY_READS_UNTIL, until);
+
+        HttpServletResponse response = attributes.getResponse();
+        if (alreadyMarked || response == null || response.isCommitted()) {
+            return;
+        }
+        ResponseCookie cookie = ResponseCookie.from(PRIMARY_READS_COOKIE, Long.toString(until))
+                .path("/")
+                .maxAge(window)
+                .httpOnly(true)
+                .sameSite("Lax")
+                .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+
+    private static long primaryReadsUntil(HttpServletRequest request) {
+        if (request.getAttribute(PRIMARY_READS_UNTIL) instanceof Long until) {
+            return until;
+        }
+        if (request.getCookies() == null) {
+            return 0;
+        }
+        for (Cookie cookie : request.getCookies()) {
+            if (PRIMARY_READS_COOKIE.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 0;
+    }
+
+    private static HttpServletRequest currentRequest() {
+        return RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+                ? attributes.getRequest()
+                : null;
+    }
+}
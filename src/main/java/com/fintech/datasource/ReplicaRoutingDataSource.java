@@ -0,0 +1,40 @@
+package com.fintech.datasource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+
+/**
+ * Source of connections for read-only transactions. Serves them from a healthy read replica, and
+ * from the primary when the caller wrote recently or no replica is available.
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    private final DataSource primary;
+    private final ReadReplicas replicas;
+    private final ReplicaLagGuard lagGuard;
+
+    public ReplicaRoutingDataSource(DataSource primary, ReadReplicas replicas, ReplicaLagGuard lagGuard) {
+        this.primary = primary;
+        this.replicas = replicas;
+        this.lagGuard = lagGuard;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (lagGuard.isRecentWriter()) {
+            return primary.getConnection();
+        }
+
+        Connection connection = replicas.getConnection();
+        return connection != null ? connection : primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Read replicas use their configured credentials");
+    }
+}
@@ -0,0 +1,82 @@
+package com.fintech.datasource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+
+/**
+ * Wraps connections and their statements so that subclasses see every call that goes to the
+ * database: statement executions, commits and rollbacks. Rows fetched lazily from an open cursor
+ * are not seen.
+ */
+public abstract class RoundTripInterceptingDataSource extends DelegatingDataSource {
+
+    private static final Set<String> STATEMENT_FACTORIES = Set.of("createStatement", "prepareStatement", "prepareCall");
+    private static final Set<String> ROUND_TRIPS = Set.of("commit", "rollback");
+
+    protected RoundTripInterceptingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    /**
+     * Called for every round trip, which only reaches the database once {@code roundTrip} is proceeded.
+     */
+    protected abstract Object intercept(RoundTrip roundTrip) throws Throwable;
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrapConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrapConnection(super.getConnection(username, password));
+    }
+
+    private Connection wrapConnection(Connection connection) {
+        return proxy(Connection.class, connection, (proxy, method, args) -> {
+            if (ROUND_TRIPS.contains(method.getName())) {
+                return intercept(() -> invoke(connection, method, args));
+            }
+
+            Object result = invoke(connection, method, args);
+            if (STATEMENT_FACTORIES.contains(method.getName())) {
+                return wrapStatement((Statement) result, method.getReturnType());
+            }
+            return result;
+        });
+    }
+
+    private Object wrapStatement(Statement statement, Class<?> type) {
+        return proxy(type, statement, (proxy, method, args) -> method.getName().startsWith("execute")
+                ? intercept(() -> invoke(statement, method, args))
+                : invoke(statement, method, args));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<?> type, Object target, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(target.getClass().getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    @FunctionalInterface
+    protected interface RoundTrip {
+
+        Object proceed() throws Throwable;
+    }
+}
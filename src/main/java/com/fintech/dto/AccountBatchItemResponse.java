@@ -0,0 +1,46 @@
+package com.fintech.dto;
+
+import com.fintech.exception.ErrorCode;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountBatchItemResponse {
+
+    private int index;
+
+    private Status status;
+
+    private AccountResponse account;
+
+    private ErrorCode errorCode;
+
+    private String message;
+
+    public static AccountBatchItemResponse created(int index, AccountResponse account) {
+        return AccountBatchItemResponse.builder()
+                .index(index)
+                .status(Status.CREATED)
+                .account(account)
+                .build();
+    }
+
+    public static AccountBatchItemResponse failed(int index, ErrorCode errorCode, String message) {
+        return AccountBatchItemResponse.builder()
+                .index(index)
+                .status(Status.FAILED)
+                .errorCode(errorCode)
+                .message(message)
+                .build();
+    }
+
+    public enum Status {
+        CREATED,
+        FAILED
+    }
+}
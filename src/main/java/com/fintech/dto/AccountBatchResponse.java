@@ -0,0 +1,27 @@
+package com.fintech.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountBatchResponse {
+
+    private int createdCount;
+
+    private int failedCount;
+
+    private List<AccountBatchItemResponse> results;
+
+    public static AccountBatchResponse of(List<AccountBatchItemResponse> results) {
+        int createdCount = (int) results.stream()
+                .filter(result -> result.getStatus() == AccountBatchItemResponse.Status.CREATED)
+                .count();
+
+        return new AccountBatchResponse(createdCount, results.size() - createdCount, results);
+    }
+}
@@ -0,0 +1,18 @@
+package com.fintech.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountBulkDeleteRequest {
+
+    private List<@NotNull(message = "Id must not be null") Long> ids;
+
+    private AccountBulkFilter filter;
+}
@@ -0,0 +1,39 @@
+package com.fintech.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountBulkFilter {
+
+    private LocalDateTime createdFrom;
+
+    private LocalDateTime createdTo;
+
+    private LocalDateTime modifiedFrom;
+
+    private LocalDateTime modifiedTo;
+
+    public boolean hasBounds() {
+        return createdFrom != null || createdTo != null || modifiedFrom != null || modifiedTo != null;
+    }
+
+    public AccountListFilter toListFilter(Long afterId, int limit) {
+        return AccountListFilter.builder()
+                .afterId(afterId)
+                .limit(limit)
+                .status(AccountListFilter.Status.ACTIVE)
+                .createdFrom(createdFrom)
+                .createdTo(createdTo)
+                .modifiedFrom(modifiedFrom)
+                .modifiedTo(modifiedTo)
+                .build();
+    }
+}
@@ -0,0 +1,50 @@
+package com.fintech.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountBulkJobResponse {
+
+    private String id;
+
+    private Type type;
+
+    private Status status;
+
+    // Number of targeted ids, or the matching active accounts counted when a filter job starts
+    private Long total;
+
+    private long processed;
+
+    private long affected;
+
+    private long skipped;
+
+    private LocalDateTime createdTime;
+
+    private LocalDateTime startedTime;
+
+    private LocalDateTime finishedTime;
+
+    private String error;
+
+    public enum Type {
+        UPDATE,
+        DELETE
+    }
+
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+}
@@ -0,0 +1,23 @@
+package com.fintech.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountBulkUpdateRequest {
+
+    private List<@NotNull(message = "Id must not be null") Long> ids;
+
+    private AccountBulkFilter filter;
+
+    // Phone numbers are unique, so only the name can be set on many accounts at once
+    @NotBlank(message = "Name is required")
+    private String name;
+}
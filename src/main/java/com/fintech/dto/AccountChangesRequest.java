@@ -0,0 +1,30 @@
+package com.fintech.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountChangesRequest {
+
+    public static final int MAX_LIMIT = 1_000;
+    public static final int MAX_WAIT_SECONDS = 60;
+
+    private String since;
+
+    @Min(value = 1, message = "Limit must be at least 1")
+    @Max(value = MAX_LIMIT, message = "Limit must be at most " + MAX_LIMIT)
+    @Builder.Default
+    private int limit = 100;
+
+    @Min(value = 0, message = "Wait must not be negative")
+    @Max(value = MAX_WAIT_SECONDS, message = "Wait must be at most " + MAX_WAIT_SECONDS + " seconds")
+    @Builder.Default
+    private int waitSeconds = 0;
+}
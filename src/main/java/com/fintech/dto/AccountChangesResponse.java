@@ -0,0 +1,19 @@
+package com.fintech.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountChangesResponse {
+
+    private List<AccountResponse> items;
+
+    private String nextWatermark;
+
+    private boolean hasMore;
+}
@@ -0,0 +1,51 @@
+package com.fintech.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountListFilter {
+
+    public static final int MAX_LIMIT = 10_000;
+
+    @Min(value = 0, message = "Cursor must not be negative")
+    private Long afterId;
+
+    @Min(value = 1, message = "Limit must be at least 1")
+    @Max(value = MAX_LIMIT, message = "Limit must be at most " + MAX_LIMIT)
+    @Builder.Default
+    private int limit = 100;
+
+    @NotNull(message = "Status is required")
+    @Builder.Default
+    private Status status = Status.ACTIVE;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdTo;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime modifiedFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime modifiedTo;
+
+    public enum Status {
+        ACTIVE,
+        DELETED,
+        ALL
+    }
+}
@@ -0,0 +1,25 @@
+package com.fintech.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountLookupItemResponse {
+
+    private Long id;
+
+    private boolean found;
+
+    private AccountResponse account;
+
+    public static AccountLookupItemResponse found(AccountResponse account) {
+        return new AccountLookupItemResponse(account.getId(), true, account);
+    }
+
+    public static AccountLookupItemResponse notFound(Long id) {
+        return new AccountLookupItemResponse(id, false, null);
+    }
+}
@@ -0,0 +1,22 @@
+package com.fintech.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountLookupRequest {
+
+    public static final int MAX_IDS = 1000;
+
+    @NotEmpty(message = "Ids are required")
+    @Size(max = MAX_IDS, message = "At most " + MAX_IDS + " ids can be requested")
+    private List<@NotNull(message = "Id must not be null") Long> ids;
+}
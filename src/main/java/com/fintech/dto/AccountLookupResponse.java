@@ -0,0 +1,27 @@
+package com.fintech.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountLookupResponse {
+
+    private int foundCount;
+
+    private int notFoundCount;
+
+    private List<AccountLookupItemResponse> results;
+
+    public static AccountLookupResponse of(List<AccountLookupItemResponse> results) {
+        int foundCount = (int) results.stream()
+                .filter(AccountLookupItemResponse::isFound)
+                .count();
+
+        return new AccountLookupResponse(foundCount, results.size() - foundCount, results);
+    }
+}
@@ -26,4 +26,6 @@ public class AccountResponse {
     private LocalDateTime modifiedTime;
 
     private LocalDateTime deletedTime;
+
+    private Long version;
 }
\ No newline at end of file
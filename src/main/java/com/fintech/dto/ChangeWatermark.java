@@ -0,0 +1,55 @@
+package com.fintech.dto;
+
+import org.springframework.util.StringUtils;
+
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.Comparator;
+
+/**
+ * Position in the account change feed: the {@code (modified_time, id)} of the last change a
+ * consumer has seen. Sent to clients as an opaque URL-safe token.
+ */
+public record ChangeWatermark(LocalDateTime modifiedTime, long id) implements Comparable<ChangeWatermark> {
+
+    public static final ChangeWatermark INITIAL = new ChangeWatermark(LocalDateTime.of(1970, 1, 1, 0, 0), 0);
+
+    private static final int TOKEN_BYTES = Long.BYTES + Integer.BYTES + Long.BYTES;
+    private static final Comparator<ChangeWatermark> ORDER = Comparator
+            .comparing(ChangeWatermark::modifiedTime)
+            .thenComparingLong(ChangeWatermark::id);
+
+    public static ChangeWatermark parse(String token) {
+        if (!StringUtils.hasText(token)) {
+            return INITIAL;
+        }
+
+        try {
+            byte[] bytes = Base64.getUrlDecoder().decode(token);
+            if (bytes.length != TOKEN_BYTES) {
+                throw new IllegalArgumentException("Unexpected length");
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            LocalDateTime modifiedTime = LocalDateTime.ofEpochSecond(buffer.getLong(), buffer.getInt(), ZoneOffset.UTC);
+            return new ChangeWatermark(modifiedTime, buffer.getLong());
+        } catch (IllegalArgumentException | DateTimeException ex) {
+            throw new IllegalArgumentException("Invalid watermark: " + token);
+        }
+    }
+
+    public String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(TOKEN_BYTES)
+                .putLong(modifiedTime.toEpochSecond(ZoneOffset.UTC))
+                .putInt(modifiedTime.getNano())
+                .putLong(id);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    @Override
+    public int compareTo(ChangeWatermark other) {
+        return ORDER.compare(this, other);
+    }
+}
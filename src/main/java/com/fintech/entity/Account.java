@@ -52,6 +52,10 @@ public class Account {
     @Column(name = "deleted_time")
     private LocalDateTime deletedTime;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
 
     public void softDelete(){
         this.setIsActive(null);
@@ -0,0 +1,57 @@
+package com.fintech.event;
+
+import com.fintech.entity.Account;
+import lombok.Builder;
+import lombok.ToString;
+import lombok.Value;
+
+@Value
+@Builder
+public class AccountChangedEvent {
+
+    Long accountId;
+
+    // Live entity, so listeners running at commit see the flushed state
+    @ToString.Exclude
+    Account account;
+
+    Type type;
+
+    String previousPhoneNr;
+
+    String phoneNr;
+
+    public static AccountChangedEvent created(Account account) {
+        return AccountChangedEvent.builder()
+                .accountId(account.getId())
+                .account(account)
+                .type(Type.CREATED)
+                .phoneNr(account.getPhoneNr())
+                .build();
+    }
+
+    public static AccountChangedEvent updated(Account account, String previousPhoneNr) {
+        return AccountChangedEvent.builder()
+                .accountId(account.getId())
+                .account(account)
+                .type(Type.UPDATED)
+                .previousPhoneNr(previousPhoneNr)
+                .phoneNr(account.getPhoneNr())
+                .build();
+    }
+
+    public static AccountChangedEvent deleted(Account account) {
+        return AccountChangedEvent.builder()
+                .accountId(account.getId())
+                .account(account)
+                .type(Type.DELETED)
+                .previousPhoneNr(account.getPhoneNr())
+                .build();
+    }
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+}
@@ -1,6 +1,6 @@
 package com.fintech.exception;
 
-public class AccountNotFoundException extends RuntimeException {
+public class AccountNotFoundException extends DomainException {
 
     public AccountNotFoundException(Long accountId) {
         super("Account not found with ID: " + accountId);
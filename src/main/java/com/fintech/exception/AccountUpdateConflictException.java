@@ -0,0 +1,12 @@
+package com.fintech.exception;
+
+public class AccountUpdateConflictException extends DomainException {
+
+    public AccountUpdateConflictException(Long accountId) {
+        super("Account with ID " + accountId + " is being modified concurrently");
+    }
+
+    public AccountUpdateConflictException(Long accountId, String field) {
+        super("Account with ID " + accountId + " was concurrently modified: " + field);
+    }
+}
@@ -0,0 +1,8 @@
+package com.fintech.exception;
+
+public class AccountVersionMismatchException extends DomainException {
+
+    public AccountVersionMismatchException(Long accountId, Long expectedVersion) {
+        super("Account with ID " + accountId + " has been modified since version " + expectedVersion);
+    }
+}
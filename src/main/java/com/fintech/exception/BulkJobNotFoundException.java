@@ -0,0 +1,8 @@
+package com.fintech.exception;
+
+public class BulkJobNotFoundException extends DomainException {
+
+    public BulkJobNotFoundException(String jobId) {
+        super("Bulk job not found with ID: " + jobId);
+    }
+}
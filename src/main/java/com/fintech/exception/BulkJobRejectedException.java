@@ -0,0 +1,8 @@
+package com.fintech.exception;
+
+public class BulkJobRejectedException extends DomainException {
+
+    public BulkJobRejectedException(int maxQueuedJobs) {
+        super("Too many bulk jobs pending, at most " + maxQueuedJobs + " can be queued");
+    }
+}
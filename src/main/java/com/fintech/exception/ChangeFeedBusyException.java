@@ -0,0 +1,16 @@
+package com.fintech.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+@Getter
+public class ChangeFeedBusyException extends DomainException {
+
+    private final Duration retryAfter;
+
+    public ChangeFeedBusyException(int maxWaiters, Duration retryAfter) {
+        super("Too many change feed requests waiting, at most " + maxWaiters + " can wait");
+        this.retryAfter = retryAfter;
+    }
+}
@@ -0,0 +1,13 @@
+package com.fintech.exception;
+
+/**
+ * Base of the exceptions that report an expected outcome to the client. They are thrown on every
+ * miss or conflict and only ever turned into an error response, so they skip capturing a stack
+ * trace, which is most of the cost of throwing.
+ */
+public abstract class DomainException extends RuntimeException {
+
+    protected DomainException(String message) {
+        super(message, null, false, false);
+    }
+}
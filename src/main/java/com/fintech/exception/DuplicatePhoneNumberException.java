@@ -1,6 +1,6 @@
 package com.fintech.exception;
 
-public class DuplicatePhoneNumberException extends RuntimeException {
+public class DuplicatePhoneNumberException extends DomainException {
 
     public DuplicatePhoneNumberException(String phoneNr) {
         super("Phone number already exists: " + phoneNr);
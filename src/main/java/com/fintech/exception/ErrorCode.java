@@ -7,10 +7,17 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public enum ErrorCode {
     ACCOUNT_NOT_FOUND("ACCOUNT_NOT_FOUND"),
+    BULK_JOB_NOT_FOUND("BULK_JOB_NOT_FOUND"),
     DUPLICATE_PHONE_NUMBER("DUPLICATE_PHONE_NUMBER"),
     VALIDATION_FAILED("VALIDATION_FAILED"),
     INVALID_REQUEST("INVALID_REQUEST"),
     ACCESS_DENIED("ACCESS_DENIED"),
+    PRECONDITION_FAILED("PRECONDITION_FAILED"),
+    UPDATE_CONFLICT("UPDATE_CONFLICT"),
+    IDEMPOTENCY_KEY_IN_USE("IDEMPOTENCY_KEY_IN_USE"),
+    IDEMPOTENCY_KEY_MISMATCH("IDEMPOTENCY_KEY_MISMATCH"),
+    IDEMPOTENT_RESPONSE_NOT_STORED("IDEMPOTENT_RESPONSE_NOT_STORED"),
+    SERVICE_UNAVAILABLE("SERVICE_UNAVAILABLE"),
     INTERNAL_ERROR("INTERNAL_ERROR");
 
 
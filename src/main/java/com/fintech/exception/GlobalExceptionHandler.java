@@ -1,7 +1,9 @@
 package com.fintech.exception;
 
 import com.fintech.dto.ErrorResponse;
+import com.fintech.logging.LogRateLimiter;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authorization.AuthorizationDeniedException;
@@ -9,6 +11,7 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.time.Duration;
 import java.util.stream.Collectors;
 
 import static com.fintech.exception.ErrorCode.*;
@@ -17,14 +20,27 @@ import static com.fintech.exception.ErrorCode.*;
 @Slf4j
 public class GlobalExceptionHandler {
 
+    private static final int NOT_FOUND_LOGS_PER_SECOND = 10;
+
+    // Scrapers and stale clients can cause thousands of not-found responses a second
+    private final LogRateLimiter notFoundLogLimiter = new LogRateLimiter(NOT_FOUND_LOGS_PER_SECOND, Duration.ofSeconds(1));
+
     @ExceptionHandler(AccountNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleAccountNotFound(AccountNotFoundException ex) {
-        log.warn(ex.getMessage());
+        logNotFound(ex);
 
         return ResponseEntity.status(HttpStatus.NOT_FOUND)
                 .body(ErrorResponse.of(ACCOUNT_NOT_FOUND, ex.getMessage()));
     }
 
+    @ExceptionHandler(BulkJobNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleBulkJobNotFound(BulkJobNotFoundException ex) {
+        logNotFound(ex);
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(ErrorResponse.of(BULK_JOB_NOT_FOUND, ex.getMessage()));
+    }
+
     @ExceptionHandler(DuplicatePhoneNumberException.class)
     public ResponseEntity<ErrorResponse> handleDuplicatePhoneNumber(DuplicatePhoneNumberException ex) {
         log.warn(ex.getMessage());
@@ -33,6 +49,47 @@ public class GlobalExceptionHandler {
                 .body(ErrorResponse.of(DUPLICATE_PHONE_NUMBER, ex.getMessage()));
     }
 
+    @ExceptionHandler(AccountVersionMismatchException.class)
+    public ResponseEntity<ErrorResponse> handleAccountVersionMismatch(AccountVersionMismatchException ex) {
+        log.warn(ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED)
+                .body(ErrorResponse.of(PRECONDITION_FAILED, ex.getMessage()));
+    }
+
+    @ExceptionHandler(AccountUpdateConflictException.class)
+    public ResponseEntity<ErrorResponse> handleAccountUpdateConflict(AccountUpdateConflictException ex) {
+        log.warn(ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(ErrorResponse.of(UPDATE_CONFLICT, ex.getMessage()));
+    }
+
+    @ExceptionHandler(BulkJobRejectedException.class)
+    public ResponseEntity<ErrorResponse> handleBulkJobRejected(BulkJobRejectedException ex) {
+        log.warn(ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(ErrorResponse.of(SERVICE_UNAVAILABLE, ex.getMessage()));
+    }
+
+    @ExceptionHandler(ChangeFeedBusyException.class)
+    public ResponseEntity<ErrorResponse> handleChangeFeedBusy(ChangeFeedBusyException ex) {
+        log.warn(ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, ex.getRetryAfter().toSeconds())))
+                .body(ErrorResponse.of(SERVICE_UNAVAILABLE, ex.getMessage()));
+    }
+
+    @ExceptionHandler(WriteDeadlineExceededException.class)
+    public ResponseEntity<ErrorResponse> handleWriteDeadlineExceeded(WriteDeadlineExceededException ex) {
+        log.warn(ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(ErrorResponse.of(SERVICE_UNAVAILABLE, "Write took too long and was rolled back, retry with fewer items"));
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ErrorResponse> handleIllegalArgument(IllegalArgumentException ex) {
         log.warn(ex.getMessage());
@@ -70,4 +127,13 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(ErrorResponse.of(INTERNAL_ERROR, "An unexpected error occurred"));
     }
-}
\ No newline at end of file
+
+    private void logNotFound(DomainException ex) {
+        long suppressed = notFoundLogLimiter.tryAcquire();
+        if (suppressed > 0) {
+            log.warn("{} ({} more not found since the last message)", ex.getMessage(), suppressed);
+        } else if (suppressed == 0) {
+            log.warn(ex.getMessage());
+        }
+    }
+}
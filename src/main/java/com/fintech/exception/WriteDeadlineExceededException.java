@@ -0,0 +1,10 @@
+package com.fintech.exception;
+
+import java.time.Duration;
+
+public class WriteDeadlineExceededException extends DomainException {
+
+    public WriteDeadlineExceededException(Duration maxWriteDuration, Duration elapsed) {
+        super("Account write not committed within " + maxWriteDuration.toMillis() + "ms, took " + elapsed.toMillis() + "ms");
+    }
+}
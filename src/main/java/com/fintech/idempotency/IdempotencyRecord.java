@@ -0,0 +1,60 @@
+package com.fintech.idempotency;
+
+import java.time.LocalDateTime;
+
+/**
+ * Response stored under an idempotency key, replayed for retries carrying the same key. A record
+ * with status {@link #IN_PROGRESS} marks a request that is still being processed, and a completed
+ * record without a body one whose response was too large to keep.
+ */
+public record IdempotencyRecord(
+        String fingerprint,
+        int status,
+        String contentType,
+        String contentEncoding,
+        String vary,
+        String location,
+        String eTag,
+        byte[] body,
+        LocalDateTime expiresAt) {
+
+    public static final int IN_PROGRESS = 0;
+
+    // Rough per-entry cost of the key, the fixed fields and the map node
+    private static final int ENTRY_OVERHEAD = 256;
+
+    public static IdempotencyRecord inProgress(String fingerprint, LocalDateTime expiresAt) {
+        return new IdempotencyRecord(fingerprint, IN_PROGRESS, null, null, null, null, null, null, expiresAt);
+    }
+
+    public boolean isCompleted() {
+        return status != IN_PROGRESS;
+    }
+
+    public boolean isBodyOmitted() {
+        return isCompleted() && body == null;
+    }
+
+    // Keeps the status and Location, enough to tell a retry that the request already ran
+    IdempotencyRecord withoutBody() {
+        return new IdempotencyRecord(fingerprint, status, null, null, null, location, null, null, expiresAt);
+    }
+
+    // Only the request that claimed the key completes it, not one whose lease ran out meanwhile
+    boolean isClaimedBy(String fingerprint) {
+        return !isCompleted() && this.fingerprint.equals(fingerprint);
+    }
+
+    // Told apart from a retry's claim by its lease, as a retry with the same body has the same fingerprint
+    boolean isClaim(String fingerprint, LocalDateTime leaseExpiresAt) {
+        return isClaimedBy(fingerprint) && expiresAt.equals(leaseExpiresAt);
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+
+    long weight() {
+        return ENTRY_OVERHEAD + (body == null ? 0 : body.length);
+    }
+}
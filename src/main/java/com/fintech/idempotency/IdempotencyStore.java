@@ -0,0 +1,26 @@
+package com.fintech.idempotency;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Dedupe store behind the {@code Idempotency-Key} header. A key is first claimed with the request
+ * fingerprint, then either completed with the response to replay or released so that a retry can
+ * run the request again.
+ */
+public interface IdempotencyStore {
+
+    /**
+     * Claims {@code key} until {@code leaseExpiresAt}. Returns empty when the caller now owns the
+     * key, or the unexpired record already held under it.
+     */
+    Optional<IdempotencyRecord> claim(String key, String fingerprint, LocalDateTime leaseExpiresAt);
+
+    void complete(String key, IdempotencyRecord record);
+
+    /**
+     * Releases {@code key} only while it still holds the claim made with {@code fingerprint} and
+     * {@code leaseExpiresAt}, not a claim taken over by a retry after that lease ran out.
+     */
+    void release(String key, String fingerprint, LocalDateTime leaseExpiresAt);
+}
@@ -0,0 +1,194 @@
+package com.fintech.idempotency;
+
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Idempotency store held on this instance. Keys are spread over independently locked shards, so
+ * concurrent requests rarely contend. Each shard keeps its records in insertion order, which
+ * roughly follows expiry, and drops expired records from the head as it goes. All shards share
+ * one {@code maxBytes} budget; beyond it, the oldest completed record of each shard in turn is
+ * evicted until the store fits again. Claims of requests still in progress are never evicted, as
+ * that would let a retry run the request a second time. A response body larger than {@code maxBodyBytes} is not kept, only
+ * the fact that the request completed, so one large response cannot push out other keys.
+ */
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private final Shard[] shards;
+    private final int mask;
+    private final long maxBytes;
+    private final long maxBodyBytes;
+    private final AtomicLong bytes = new AtomicLong();
+    private final AtomicInteger evictionCursor = new AtomicInteger();
+
+    public InMemoryIdempotencyStore(int shardCount, long maxBytes, long maxBodyBytes) {
+        if (shardCount < 1 || maxBytes < 1 || maxBodyBytes < 1) {
+            throw new IllegalArgumentException("Shard count, max bytes and max body bytes must be positive");
+        }
+
+        int size = Integer.highestOneBit(shardCount - 1) << 1;
+        size = Math.max(size, 1);
+        this.shards = new Shard[size];
+        this.mask = size - 1;
+        this.maxBytes = maxBytes;
+        this.maxBodyBytes = maxBodyBytes;
+        for (int i = 0; i < size; i++) {
+            shards[i] = new Shard(bytes);
+        }
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> claim(String key, String fingerprint, LocalDateTime leaseExpiresAt) {
+        Optional<IdempotencyRecord> existing = shardOf(key).claim(key, fingerprint, leaseExpiresAt, LocalDateTime.now());
+        evictOverBudget();
+        return existing;
+    }
+
+    @Override
+    public void complete(String key, IdempotencyRecord record) {
+        boolean tooLarge = record.body() != null && record.body().length > maxBodyBytes;
+        shardOf(key).complete(key, tooLarge ? record.withoutBody() : record);
+        evictOverBudget();
+    }
+
+    @Override
+    public void release(String key, String fingerprint, LocalDateTime leaseExpiresAt) {
+        shardOf(key).release(key, fingerprint, leaseExpiresAt);
+    }
+
+    /**
+     * Runs after the write, outside its shard's lock, so no thread ever holds two shard locks. Gives
+     * up after a full round of shards without a completed record, which leaves the store over budget
+     * only by the claims in progress.
+     */
+    private void evictOverBudget() {
+        int idleShards = 0;
+        while (bytes.get() > maxBytes && idleShards < shards.length) {
+            Shard shard = shards[evictionCursor.getAndIncrement() & mask];
+            idleShards = shard.evictOldestCompleted() ? 0 : idleShards + 1;
+        }
+    }
+
+    int size() {
+        int size = 0;
+        for (Shard shard : shards) {
+            size += shard.size();
+        }
+        return size;
+    }
+
+    private Shard shardOf(String key) {
+        int hash = key.hashCode();
+        return shards[(hash ^ (hash >>> 16)) & mask];
+    }
+
+    private static final class Shard {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<String, IdempotencyRecord> records = new LinkedHashMap<>();
+        // Shared by all shards
+        private final AtomicLong bytes;
+
+        private Shard(AtomicLong bytes) {
+            this.bytes = bytes;
+        }
+
+        private Optional<IdempotencyRecord> claim(String key, String fingerprint, LocalDateTime leaseExpiresAt,
+                                                  LocalDateTime now) {
+            lock.lock();
+            try {
+                removeExpired(now);
+
+                IdempotencyRecord existing = records.get(key);
+                if (existing != null && !existing.isExpired(now)) {
+                    return Optional.of(existing);
+                }
+                putLocked(key, IdempotencyRecord.inProgress(fingerprint, leaseExpiresAt));
+                return Optional.empty();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void complete(String key, IdempotencyRecord record) {
+            lock.lock();
+            try {
+                IdempotencyRecord claim = records.get(key);
+                if (claim != null && claim.isClaimedBy(record.fingerprint())) {
+                    putLocked(key, record);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        // A request whose lease ran out must not release the claim of the retry that took over
+        private void release(String key, String fingerprint, LocalDateTime leaseExpiresAt) {
+            lock.lock();
+            try {
+                IdempotencyRecord claim = records.get(key);
+                if (claim != null && claim.isClaim(fingerprint, leaseExpiresAt)) {
+                    records.remove(key);
+                    bytes.addAndGet(-claim.weight());
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private int size() {
+            lock.lock();
+            try {
+                return records.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        // Re-inserting moves the key to the tail, next to records with a similar expiry
+        private void putLocked(String key, IdempotencyRecord record) {
+            IdempotencyRecord previous = records.remove(key);
+            if (previous != null) {
+                bytes.addAndGet(-previous.weight());
+            }
+            records.put(key, record);
+            bytes.addAndGet(record.weight());
+        }
+
+        private boolean evictOldestCompleted() {
+            lock.lock();
+            try {
+                Iterator<IdempotencyRecord> eldest = records.values().iterator();
+                while (eldest.hasNext()) {
+                    IdempotencyRecord record = eldest.next();
+                    if (record.isCompleted()) {
+                        bytes.addAndGet(-record.weight());
+                        eldest.remove();
+                        return true;
+                    }
+                }
+                return false;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void removeExpired(LocalDateTime now) {
+            Iterator<IdempotencyRecord> eldest = records.values().iterator();
+            while (eldest.hasNext()) {
+                IdempotencyRecord record = eldest.next();
+                if (!record.isExpired(now)) {
+                    return;
+                }
+                bytes.addAndGet(-record.weight());
+                eldest.remove();
+            }
+        }
+    }
+}
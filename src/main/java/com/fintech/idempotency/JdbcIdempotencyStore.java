@@ -0,0 +1,129 @@
+package com.fintech.idempotency;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Idempotency store shared by all instances through the {@code idempotency_key} table. Every
+ * call is a single auto-committed statement on the primary key, so a claim is visible to other
+ * instances as soon as it returns. Expired rows are taken over on claim and purged in the
+ * background.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class JdbcIdempotencyStore implements IdempotencyStore {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO idempotency_key (idempotency_key, fingerprint, status, expires_at)
+            VALUES (:key, :fingerprint, 0, :expiresAt)
+            """;
+
+    private static final String FIND_SQL = """
+            SELECT fingerprint, status, content_type, content_encoding, vary, location, etag, body, expires_at
+            FROM idempotency_key
+            WHERE idempotency_key = :key
+            """;
+
+    private static final String COMPLETE_SQL = """
+            UPDATE idempotency_key
+            SET status = :status, content_type = :contentType, content_encoding = :contentEncoding, vary = :vary,
+                location = :location, etag = :eTag, body = :body, expires_at = :expiresAt
+            WHERE idempotency_key = :key AND status = 0 AND fingerprint = :fingerprint
+            """;
+
+    private static final String RELEASE_SQL = """
+            DELETE FROM idempotency_key
+            WHERE idempotency_key = :key AND status = 0 AND fingerprint = :fingerprint AND expires_at = :leaseExpiresAt
+            """;
+
+    private static final String DELETE_EXPIRED_KEY_SQL =
+            "DELETE FROM idempotency_key WHERE idempotency_key = :key AND expires_at <= :now";
+
+    private static final String PURGE_SQL = "DELETE FROM idempotency_key WHERE expires_at <= :now LIMIT :limit";
+
+    private static final int PURGE_BATCH_SIZE = 1000;
+
+    private static final RowMapper<IdempotencyRecord> ROW_MAPPER = (rs, rowNum) -> new IdempotencyRecord(
+            rs.getString("fingerprint"),
+            rs.getInt("status"),
+            rs.getString("content_type"),
+            rs.getString("content_encoding"),
+            rs.getString("vary"),
+            rs.getString("location"),
+            rs.getString("etag"),
+            rs.getBytes("body"),
+            rs.getTimestamp("expires_at").toLocalDateTime());
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<IdempotencyRecord> claim(String key, String fingerprint, LocalDateTime leaseExpiresAt) {
+        // A second pass covers a row that expired, or was released, between the insert and the read
+        for (int attempt = 0; attempt < 2; attempt++) {
+            try {
+                jdbcTemplate.update(INSERT_SQL, Map.of("key", key, "fingerprint", fingerprint, "expiresAt", leaseExpiresAt));
+                return Optional.empty();
+            } catch (DuplicateKeyException ex) {
+                LocalDateTime now = LocalDateTime.now();
+                List<IdempotencyRecord> existing = jdbcTemplate.query(FIND_SQL, Map.of("key", key), ROW_MAPPER);
+                if (!existing.isEmpty() && !existing.getFirst().isExpired(now)) {
+                    return Optional.of(existing.getFirst());
+                }
+                jdbcTemplate.update(DELETE_EXPIRED_KEY_SQL, Map.of("key", key, "now", now));
+            }
+        }
+        throw new IllegalStateException("Could not claim idempotency key, concurrent claims kept winning");
+    }
+
+    @Override
+    public void complete(String key, IdempotencyRecord record) {
+        int updated = jdbcTemplate.update(COMPLETE_SQL, new MapSqlParameterSource()
+                .addValue("key", key)
+                .addValue("fingerprint", record.fingerprint())
+                .addValue("status", record.status())
+                .addValue("contentType", record.contentType())
+                .addValue("contentEncoding", record.contentEncoding())
+                .addValue("vary", record.vary())
+                .addValue("location", record.location())
+                .addValue("eTag", record.eTag())
+                .addValue("body", record.body())
+                .addValue("expiresAt", record.expiresAt()));
+        if (updated == 0) {
+            log.warn("Idempotency key claimed by another request before completion, response not stored");
+        }
+    }
+
+    @Override
+    public void release(String key, String fingerprint, LocalDateTime leaseExpiresAt) {
+        jdbcTemplate.update(RELEASE_SQL, Map.of("key", key, "fingerprint", fingerprint, "leaseExpiresAt", leaseExpiresAt));
+    }
+
+    @Scheduled(fixedDelayString = "${account.idempotency.purge-interval:5m}")
+    public void purgeExpired() {
+        try {
+            Map<String, Object> params = Map.of("now", LocalDateTime.now(), "limit", PURGE_BATCH_SIZE);
+            int purged = 0;
+            int deleted;
+            do {
+                deleted = jdbcTemplate.update(PURGE_SQL, params);
+                purged += deleted;
+            } while (deleted == PURGE_BATCH_SIZE);
+
+            if (purged > 0) {
+                log.debug("Purged {} expired idempotency keys", purged);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Failed to purge expired idempotency keys: {}", ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.fintech.logging;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Lets at most {@code permits} log statements through per {@code window} and counts the rest, so
+ * the next statement let through can report how many were dropped. Windows are fixed, and the
+ * count may be off by a few under contention, which is fine for logging.
+ */
+public class LogRateLimiter {
+
+    /** Returned by {@link #tryAcquire()} when the statement should be dropped. */
+    public static final long DENIED = -1L;
+
+    private final int permits;
+    private final long windowNanos;
+    private final LongSupplier nanoClock;
+    private final AtomicLong windowStart;
+    private final AtomicInteger used = new AtomicInteger();
+    private final LongAdder suppressed = new LongAdder();
+
+    public LogRateLimiter(int permits, Duration window) {
+        this(permits, window, System::nanoTime);
+    }
+
+    LogRateLimiter(int permits, Duration window, LongSupplier nanoClock) {
+        this.permits = permits;
+        this.windowNanos = window.toNanos();
+        this.nanoClock = nanoClock;
+        this.windowStart = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    /**
+     * Returns the number of statements dropped since the last one let through, or {@link #DENIED}
+     * if this one should be dropped as well.
+     */
+    public long tryAcquire() {
+        long now = nanoClock.getAsLong();
+        long start = windowStart.get();
+        if (now - start >= windowNanos && windowStart.compareAndSet(start, now)) {
+            used.set(0);
+        }
+
+        if (used.incrementAndGet() > permits) {
+            suppressed.increment();
+            return DENIED;
+        }
+        return suppressed.sumThenReset();
+    }
+}
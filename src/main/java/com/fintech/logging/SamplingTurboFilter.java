@@ -0,0 +1,43 @@
+package com.fintech.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import lombok.Setter;
+import org.slf4j.Marker;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Keeps roughly one in {@code rate} events at or below {@code level} from loggers under
+ * {@code loggerName}. Runs before the logging event is created, so dropped events cost no
+ * formatting or allocation. More severe events always pass.
+ */
+@Setter
+public class SamplingTurboFilter extends TurboFilter {
+
+    private String loggerName;
+
+    private Level level = Level.INFO;
+
+    private int rate = 1;
+
+    @Override
+    public void start() {
+        if (loggerName == null || rate < 1) {
+            addError("SamplingTurboFilter requires a loggerName and a rate of at least 1");
+            return;
+        }
+        super.start();
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (!isStarted() || rate == 1 || level == null || level.levelInt > this.level.levelInt
+                || !logger.getName().startsWith(loggerName)) {
+            return FilterReply.NEUTRAL;
+        }
+        return ThreadLocalRandom.current().nextInt(rate) == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+}
@@ -8,5 +8,6 @@ import org.mapstruct.Mapper;
 @Mapper(componentModel = "spring")
 public interface AccountMapper {
     Account toEntity(AccountCreateRequest request);
+    Account toEntity(AccountResponse response);
     AccountResponse toResponse(Account account);
 }
@@ -0,0 +1,98 @@
+package com.fintech.metrics;
+
+import com.fintech.exception.AccountNotFoundException;
+import com.fintech.exception.AccountUpdateConflictException;
+import com.fintech.exception.AccountVersionMismatchException;
+import com.fintech.exception.DuplicatePhoneNumberException;
+import io.micrometer.core.instrument.Meter.MeterProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.validation.ConstraintViolationException;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every public {@code AccountService} operation, tagged by operation and outcome. Runs outside
+ * the transaction so commit time is included, and records the share spent in JDBC calls separately.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class AccountServiceMetricsAspect {
+
+    public static final String OPERATION_TIMER = "account.service.operation";
+    public static final String DATABASE_TIMER = "account.service.database";
+
+    private final MeterProvider<Timer> operationTimer;
+    private final MeterProvider<Timer> databaseTimer;
+
+    public AccountServiceMetricsAspect(MeterRegistry meterRegistry) {
+        this.operationTimer = Timer.builder(OPERATION_TIMER)
+                .description("Total time of an account service operation")
+                .publishPercentileHistogram()
+                .withRegistry(meterRegistry);
+        this.databaseTimer = Timer.builder(DATABASE_TIMER)
+                .description("Time an account service operation spent executing statements and committing")
+                .publishPercentileHistogram()
+                .withRegistry(meterRegistry);
+    }
+
+    @Around("execution(public * com.fintech.service.AccountService.*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        String operation = joinPoint.getSignature().getName();
+        long[] enclosing = DatabaseTime.begin();
+        long start = System.nanoTime();
+        Outcome outcome = Outcome.SUCCESS;
+
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable ex) {
+            outcome = Outcome.of(ex);
+            throw ex;
+        } finally {
+            long total = System.nanoTime() - start;
+            long database = DatabaseTime.end(enclosing);
+
+            operationTimer.withTags("operation", operation, "outcome", outcome.tag).record(total, TimeUnit.NANOSECONDS);
+            databaseTimer.withTags("operation", operation, "outcome", outcome.tag).record(database, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    enum Outcome {
+        SUCCESS,
+        NOT_FOUND,
+        DUPLICATE_PHONE,
+        VERSION_MISMATCH,
+        CONFLICT,
+        VALIDATION_FAILURE,
+        ERROR;
+
+        private final String tag = name().toLowerCase(Locale.ROOT);
+
+        static Outcome of(Throwable ex) {
+            if (ex instanceof AccountNotFoundException) {
+                return NOT_FOUND;
+            }
+            if (ex instanceof DuplicatePhoneNumberException) {
+                return DUPLICATE_PHONE;
+            }
+            if (ex instanceof AccountVersionMismatchException) {
+                return VERSION_MISMATCH;
+            }
+            if (ex instanceof AccountUpdateConflictException) {
+                return CONFLICT;
+            }
+            if (ex instanceof IllegalArgumentException || ex instanceof ConstraintViolationException) {
+                return VALIDATION_FAILURE;
+            }
+            return ERROR;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.fintech.metrics;
+
+/**
+ * Accumulates time spent in JDBC calls on the current thread while an operation is being measured.
+ */
+public final class DatabaseTime {
+
+    private static final ThreadLocal<long[]> CURRENT = new ThreadLocal<>();
+
+    private DatabaseTime() {
+    }
+
+    static long[] begin() {
+        long[] enclosing = CURRENT.get();
+        CURRENT.set(new long[1]);
+        return enclosing;
+    }
+
+    static long end(long[] enclosing) {
+        long nanos = CURRENT.get()[0];
+        if (enclosing == null) {
+            CURRENT.remove();
+        } else {
+            enclosing[0] += nanos;
+            CURRENT.set(enclosing);
+        }
+        return nanos;
+    }
+
+    static void add(long nanos) {
+        long[] current = CURRENT.get();
+        if (current != null) {
+            current[0] += nanos;
+        }
+    }
+}
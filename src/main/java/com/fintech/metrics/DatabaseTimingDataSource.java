@@ -0,0 +1,26 @@
+package com.fintech.metrics;
+
+import com.fintech.datasource.RoundTripInterceptingDataSource;
+
+import javax.sql.DataSource;
+
+/**
+ * Adds the time spent executing statements and committing or rolling back to {@link DatabaseTime}.
+ * Rows fetched lazily from an open cursor are not included.
+ */
+public class DatabaseTimingDataSource extends RoundTripInterceptingDataSource {
+
+    public DatabaseTimingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    protected Object intercept(RoundTrip roundTrip) throws Throwable {
+        long start = System.nanoTime();
+        try {
+            return roundTrip.proceed();
+        } finally {
+            DatabaseTime.add(System.nanoTime() - start);
+        }
+    }
+}
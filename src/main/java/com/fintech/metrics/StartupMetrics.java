@@ -0,0 +1,51 @@
+package com.fintech.metrics;
+
+import com.sun.management.HotSpotDiagnosticMXBean;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aot.AotDetector;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reports how long the instance took to become ready, once at boot. Spring Boot's
+ * {@code application.ready.time} starts counting in {@code SpringApplication.run}; the gauge
+ * registered here starts at JVM launch, so it also covers JVM startup and class loading before it.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class StartupMetrics {
+
+    public static final String JVM_READY_TIME = "application.jvm.ready.time";
+
+    private final MeterRegistry meterRegistry;
+
+    @EventListener
+    public void onApplicationReady(ApplicationReadyEvent event) {
+        long jvmReadyMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+        TimeGauge.builder(JVM_READY_TIME, () -> jvmReadyMillis, TimeUnit.MILLISECONDS)
+                .description("Time from JVM launch until the application was ready to service requests")
+                .strongReference(true)
+                .register(meterRegistry);
+
+        log.info("Ready to serve requests: jvmReadyMs={}, runMs={}, aot={}, cds={}, lazyInitialization={}",
+                jvmReadyMillis,
+                event.getTimeTaken().toMillis(),
+                AotDetector.useGeneratedArtifacts(),
+                isSharedArchiveInUse(),
+                event.getApplicationContext().getEnvironment()
+                        .getProperty("spring.main.lazy-initialization", Boolean.class, false));
+    }
+
+    private static boolean isSharedArchiveInUse() {
+        return !ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class)
+                .getVMOption("SharedArchiveFile").getValue().isEmpty();
+    }
+}
@@ -0,0 +1,47 @@
+package com.fintech.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Appends events as NDJSON to a local file and forces them to disk before acknowledging the batch.
+ * Stands in for a message broker.
+ */
+@RequiredArgsConstructor
+public class FileOutboxSink implements OutboxSink {
+
+    private final Path file;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public synchronized void publish(List<OutboxEvent> events) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(events.size() * 256);
+        for (OutboxEvent event : events) {
+            buffer.write(objectMapper.writeValueAsBytes(event));
+            buffer.write('\n');
+        }
+
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        try (FileChannel channel = FileChannel.open(file, CREATE, WRITE, APPEND)) {
+            ByteBuffer bytes = ByteBuffer.wrap(buffer.toByteArray());
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            channel.force(false);
+        }
+    }
+}
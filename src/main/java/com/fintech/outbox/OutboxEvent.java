@@ -0,0 +1,25 @@
+package com.fintech.outbox;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+@Value
+@Builder
+public class OutboxEvent {
+
+    Long id;
+
+    Long accountId;
+
+    String type;
+
+    @JsonRawValue
+    @JsonProperty("account")
+    String payload;
+
+    LocalDateTime createdTime;
+}
@@ -0,0 +1,82 @@
+package com.fintech.outbox;
+
+import com.fintech.config.AccountOutboxProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Drains the outbox in id order on the scheduler thread, so request threads never wait on the
+ * sink. Each poll relays at most {@code max-batches-per-poll} batches. A failing or slow sink
+ * stops the poll and backs off exponentially. Unpublished rows stay in the outbox and keep
+ * their order. Every instance may run the relay: a lease in the database, renewed before each
+ * batch, lets only one of them publish at a time, since two relays would interleave batches.
+ */
+@Component
+@Slf4j
+public class OutboxRelay {
+
+    private final OutboxRepository outboxRepository;
+    private final OutboxSink sink;
+    private final AccountOutboxProperties properties;
+    private final Counter relayedCounter;
+    private final Counter failureCounter;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private volatile int consecutiveFailures;
+    private volatile long backoffUntil;
+
+    public OutboxRelay(OutboxRepository outboxRepository, OutboxSink sink, AccountOutboxProperties properties,
+                       MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.sink = sink;
+        this.properties = properties;
+        this.relayedCounter = Counter.builder("account.outbox.relayed")
+                .description("Account events published from the outbox")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("account.outbox.failures")
+                .description("Outbox relay polls that failed to publish")
+                .register(meterRegistry);
+        this.backoffUntil = System.nanoTime();
+    }
+
+    @Scheduled(fixedDelayString = "${account.outbox.poll-interval:500ms}")
+    public void relay() {
+        if (!properties.isRelayEnabled() || System.nanoTime() - backoffUntil < 0) {
+            return;
+        }
+
+        try {
+            for (int i = 0; i < properties.getMaxBatchesPerPoll(); i++) {
+                if (!outboxRepository.tryTakeLease(instanceId, properties.getLeaseDuration())) {
+                    break;
+                }
+
+                List<OutboxEvent> batch = outboxRepository.findBatch(properties.getBatchSize());
+                if (batch.isEmpty()) {
+                    break;
+                }
+
+                sink.publish(batch);
+                outboxRepository.deleteAll(batch.stream().map(OutboxEvent::getId).toList());
+                relayedCounter.increment(batch.size());
+
+                if (batch.size() < properties.getBatchSize()) {
+                    break;
+                }
+            }
+            consecutiveFailures = 0;
+        } catch (Exception ex) {
+            failureCounter.increment();
+            long backoff = Math.min(properties.getMaxBackoff().toNanos(),
+                    properties.getPollInterval().toNanos() << Math.min(consecutiveFailures++, 16));
+            backoffUntil = System.nanoTime() + backoff;
+            log.warn("Outbox relay failed, retrying in {} ms: {}", backoff / 1_000_000, ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.fintech.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class OutboxRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO account_outbox (account_id, event_type, payload, created_time)
+            VALUES (:accountId, :type, :payload, :createdTime)
+            """;
+
+    private static final String FIND_BATCH_SQL = """
+            SELECT id, account_id, event_type, payload, created_time
+            FROM account_outbox
+            ORDER BY id
+            LIMIT :limit
+            """;
+
+    private static final String DELETE_SQL = "DELETE FROM account_outbox WHERE id IN (:ids)";
+
+    private static final String TAKE_LEASE_SQL = """
+            UPDATE account_outbox_lease
+            SET owner = :owner, expires_time = TIMESTAMPADD(MICROSECOND, :durationMicros, LOCALTIMESTAMP(6))
+            WHERE name = 'relay' AND (owner = :owner OR expires_time < LOCALTIMESTAMP(6))
+            """;
+
+    private static final RowMapper<OutboxEvent> ROW_MAPPER = (rs, rowNum) -> OutboxEvent.builder()
+            .id(rs.getLong("id"))
+            .accountId(rs.getLong("account_id"))
+            .type(rs.getString("event_type"))
+            .payload(rs.getString("payload"))
+            .createdTime(rs.getTimestamp("created_time").toLocalDateTime())
+            .build();
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<OutboxEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        SqlParameterSource[] batchArgs = events.stream()
+                .map(BeanPropertySqlParameterSource::new)
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(INSERT_SQL, batchArgs);
+    }
+
+    public List<OutboxEvent> findBatch(int limit) {
+        return jdbcTemplate.query(FIND_BATCH_SQL, Map.of("limit", limit), ROW_MAPPER);
+    }
+
+    public void deleteAll(Collection<Long> ids) {
+        jdbcTemplate.update(DELETE_SQL, Map.of("ids", ids));
+    }
+
+    // Takes or renews the relay lease; false while another owner holds an unexpired one
+    public boolean tryTakeLease(String owner, Duration duration) {
+        Map<String, Object> params = Map.of("owner", owner, "durationMicros", duration.toNanos() / 1_000);
+        return jdbcTemplate.update(TAKE_LEASE_SQL, params) == 1;
+    }
+}
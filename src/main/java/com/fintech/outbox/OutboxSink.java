@@ -0,0 +1,12 @@
+package com.fintech.outbox;
+
+import java.util.List;
+
+/**
+ * Destination of relayed account events. Events arrive in outbox order; a batch is removed from
+ * the outbox only after {@link #publish} returns, so delivery is at least once.
+ */
+public interface OutboxSink {
+
+    void publish(List<OutboxEvent> events) throws Exception;
+}
@@ -0,0 +1,87 @@
+package com.fintech.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fintech.event.AccountChangedEvent;
+import com.fintech.mapper.AccountMapper;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects the account changes of the current transaction and writes them to the outbox in one
+ * JDBC batch just before commit. The persistence context is flushed first, so the account row
+ * locks taken by the change order the outbox ids of each account.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxWriter {
+
+    private final OutboxRepository outboxRepository;
+    private final AccountMapper accountMapper;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+
+    @EventListener
+    public void onAccountChanged(AccountChangedEvent event) {
+        Assert.state(TransactionSynchronizationManager.isSynchronizationActive(),
+                "Account changes must be published inside a transaction");
+
+        PendingEvents pending = (PendingEvents) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingEvents();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.events.add(event);
+    }
+
+    private OutboxEvent toOutboxEvent(AccountChangedEvent event, LocalDateTime now) {
+        try {
+            return OutboxEvent.builder()
+                    .accountId(event.getAccountId())
+                    .type(event.getType().name())
+                    .payload(objectMapper.writeValueAsString(accountMapper.toResponse(event.getAccount())))
+                    .createdTime(now)
+                    .build();
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private class PendingEvents implements TransactionSynchronization {
+
+        private final List<AccountChangedEvent> events = new ArrayList<>();
+
+        // Ahead of the account write deadline, so the outbox insert counts against it
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE - 1;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            entityManager.flush();
+
+            LocalDateTime now = LocalDateTime.now();
+            outboxRepository.insertAll(events.stream()
+                    .map(event -> toOutboxEvent(event, now))
+                    .toList());
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(OutboxWriter.this);
+        }
+    }
+}
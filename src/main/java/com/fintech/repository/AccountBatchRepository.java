@@ -0,0 +1,10 @@
+package com.fintech.repository;
+
+import com.fintech.entity.Account;
+
+import java.util.List;
+
+public interface AccountBatchRepository {
+
+    void insertAll(List<Account> accounts);
+}
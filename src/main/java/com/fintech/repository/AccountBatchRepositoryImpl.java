@@ -0,0 +1,47 @@
+package com.fintech.repository;
+
+import com.fintech.entity.Account;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Inserts accounts through plain JDBC batches. Hibernate cannot batch inserts for
+ * {@code GenerationType.IDENTITY} ids, so this path bypasses the persistence context
+ * and reads the generated ids back from the batch.
+ */
+@RequiredArgsConstructor
+public class AccountBatchRepositoryImpl implements AccountBatchRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO account (name, phone_nr, is_active, created_time, modified_time)
+            VALUES (:name, :phoneNr, :isActive, :createdTime, :modifiedTime)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(List<Account> accounts) {
+        if (accounts.isEmpty()) {
+            return;
+        }
+
+        SqlParameterSource[] batchArgs = accounts.stream()
+                .map(BeanPropertySqlParameterSource::new)
+                .toArray(SqlParameterSource[]::new);
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, batchArgs, keyHolder, new String[]{"id"});
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        for (int i = 0; i < accounts.size(); i++) {
+            accounts.get(i).setId(((Number) keys.get(i).values().iterator().next()).longValue());
+        }
+    }
+}
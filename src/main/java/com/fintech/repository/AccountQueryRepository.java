@@ -0,0 +1,20 @@
+package com.fintech.repository;
+
+import com.fintech.dto.AccountListFilter;
+import com.fintech.entity.Account;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface AccountQueryRepository {
+
+    Stream<Account> streamPage(AccountListFilter filter);
+
+    /**
+     * Loads and write-locks the next page of matching accounts in id order. The entities are
+     * read-only, so in-memory changes are never flushed.
+     */
+    List<Account> findPageForUpdate(AccountListFilter filter);
+
+    long countMatching(AccountListFilter filter);
+}
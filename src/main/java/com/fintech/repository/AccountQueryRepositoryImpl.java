@@ -0,0 +1,99 @@
+package com.fintech.repository;
+
+import com.fintech.dto.AccountListFilter;
+import com.fintech.entity.Account;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+public class AccountQueryRepositoryImpl implements AccountQueryRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Stream<Account> streamPage(AccountListFilter filter) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Account> query = cb.createQuery(Account.class);
+        Root<Account> account = query.from(Account.class);
+
+        query.select(account)
+                .where(buildPredicates(cb, account, filter).toArray(Predicate[]::new))
+                .orderBy(cb.asc(account.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(filter.getLimit())
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    @Override
+    public List<Account> findPageForUpdate(AccountListFilter filter) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Account> query = cb.createQuery(Account.class);
+        Root<Account> account = query.from(Account.class);
+
+        query.select(account)
+                .where(buildPredicates(cb, account, filter).toArray(Predicate[]::new))
+                .orderBy(cb.asc(account.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(filter.getLimit())
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultList();
+    }
+
+    @Override
+    public long countMatching(AccountListFilter filter) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Account> account = query.from(Account.class);
+
+        query.select(cb.count(account))
+                .where(buildPredicates(cb, account, filter).toArray(Predicate[]::new));
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private List<Predicate> buildPredicates(CriteriaBuilder cb, Root<Account> account, AccountListFilter filter) {
+        List<Predicate> predicates = new ArrayList<>();
+
+        if (filter.getAfterId() != null) {
+            predicates.add(cb.greaterThan(account.get("id"), filter.getAfterId()));
+        }
+
+        switch (filter.getStatus()) {
+            case ACTIVE -> predicates.add(cb.isNull(account.get("deletedTime")));
+            case DELETED -> predicates.add(cb.isNotNull(account.get("deletedTime")));
+            case ALL -> { }
+        }
+
+        addRange(cb, predicates, account.get("createdTime"), filter.getCreatedFrom(), filter.getCreatedTo());
+        addRange(cb, predicates, account.get("modifiedTime"), filter.getModifiedFrom(), filter.getModifiedTo());
+
+        return predicates;
+    }
+
+    private void addRange(CriteriaBuilder cb, List<Predicate> predicates,
+                          Path<LocalDateTime> path,
+                          LocalDateTime from, LocalDateTime to) {
+        if (from != null) {
+            predicates.add(cb.greaterThanOrEqualTo(path, from));
+        }
+        if (to != null) {
+            predicates.add(cb.lessThan(path, to));
+        }
+    }
+}
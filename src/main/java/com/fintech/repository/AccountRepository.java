@@ -1,21 +1,94 @@
 package com.fintech.repository;
 
+import com.fintech.dto.ChangeWatermark;
 import com.fintech.entity.Account;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 
 @Repository
-public interface AccountRepository extends JpaRepository<Account, Long> {
+public interface AccountRepository extends JpaRepository<Account, Long>, AccountBatchRepository, AccountQueryRepository, AccountUpdateRepository {
 
     @Query("SELECT CASE WHEN COUNT(a) > 0 THEN true ELSE false END FROM Account a WHERE a.phoneNr = :phoneNr AND a.deletedTime IS NULL")
     boolean existsByPhoneNr(String phoneNr);
 
+    @Query("SELECT a.phoneNr FROM Account a WHERE a.phoneNr IN :phoneNrs AND a.deletedTime IS NULL")
+    Set<String> findExistingPhoneNrs(@Param("phoneNrs") Collection<String> phoneNrs);
+
+    @Query("SELECT a FROM Account a WHERE a.id IN :ids AND a.deletedTime IS NULL")
+    List<Account> findAllActiveByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Locks in id order so concurrent bulk jobs cannot deadlock; read-only so changes are never flushed
+    @Query("SELECT a FROM Account a WHERE a.id IN :ids AND a.deletedTime IS NULL ORDER BY a.id")
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<Account> findAllActiveByIdInForUpdate(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT a FROM Account a WHERE a.id > :afterId ORDER BY a.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    Stream<Account> streamAllAfterId(@Param("afterId") long afterId);
+
+    @Query("SELECT a.phoneNr FROM Account a WHERE a.phoneNr IS NOT NULL AND a.deletedTime IS NULL")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "10000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    Stream<String> streamActivePhoneNrs();
+
+    @Query("SELECT MAX(a.id) FROM Account a WHERE a.id > :afterId AND a.createdTime < :createdBefore")
+    Long findMaxIdCreatedBefore(@Param("afterId") long afterId, @Param("createdBefore") LocalDateTime createdBefore);
+
+    @Query("SELECT a.id FROM Account a WHERE a.id > :afterId AND a.id <= :upToId AND a.deletedTime IS NULL")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "10000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    Stream<Long> streamActiveIds(@Param("afterId") long afterId, @Param("upToId") long upToId);
+
+    // The change feed reads the primary, a lagging replica could let the watermark pass rows it has not seen yet
+    @Query("""
+            SELECT a FROM Account a
+            WHERE (a.modifiedTime > :modifiedTime OR (a.modifiedTime = :modifiedTime AND a.id > :id))
+              AND a.modifiedTime < :settledBefore
+            ORDER BY a.modifiedTime, a.id""")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Transactional
+    List<Account> findChangesAfter(@Param("modifiedTime") LocalDateTime modifiedTime,
+                                   @Param("id") long id,
+                                   @Param("settledBefore") LocalDateTime settledBefore,
+                                   Limit limit);
+
+    @Query("""
+            SELECT new com.fintech.dto.ChangeWatermark(a.modifiedTime, a.id) FROM Account a
+            WHERE a.modifiedTime < :settledBefore
+            ORDER BY a.modifiedTime DESC, a.id DESC""")
+    @Transactional
+    List<ChangeWatermark> findLatestChange(@Param("settledBefore") LocalDateTime settledBefore, Limit limit);
+
     @Query("SELECT a FROM Account a WHERE a.id = :id AND a.deletedTime IS NULL")
+    @Transactional(readOnly = true)
     @Override
     Optional<Account> findById(@Param("id") Long id);
 }
\ No newline at end of file
@@ -0,0 +1,31 @@
+package com.fintech.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+public interface AccountUpdateRepository {
+
+    /**
+     * Sets the non-null columns of an active account still at {@code version} and bumps the version.
+     * Returns the number of updated rows.
+     */
+    int updateIfVersion(Long id, long version, String name, String phoneNr, LocalDateTime modifiedTime);
+
+    /**
+     * Soft-deletes an active account still at {@code version} and bumps the version.
+     * Returns the number of updated rows.
+     */
+    int softDeleteIfVersion(Long id, long version, LocalDateTime deletedTime);
+
+    /**
+     * Renames the active accounts among {@code ids} and bumps their versions.
+     * Returns the number of updated rows.
+     */
+    int updateNameWhereIdIn(Collection<Long> ids, String name, LocalDateTime modifiedTime);
+
+    /**
+     * Soft-deletes the active accounts among {@code ids} and bumps their versions.
+     * Returns the number of updated rows.
+     */
+    int softDeleteWhereIdIn(Collection<Long> ids, LocalDateTime deletedTime);
+}
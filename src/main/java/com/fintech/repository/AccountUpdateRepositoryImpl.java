@@ -0,0 +1,88 @@
+package com.fintech.repository;
+
+import com.fintech.entity.Account;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * Single-statement updates that bypass the persistence context. The version predicate makes
+ * them safe to issue against an account image the caller already holds.
+ */
+public class AccountUpdateRepositoryImpl implements AccountUpdateRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int updateIfVersion(Long id, long version, String name, String phoneNr, LocalDateTime modifiedTime) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Account> update = cb.createCriteriaUpdate(Account.class);
+        Root<Account> account = update.from(Account.class);
+
+        if (name != null) {
+            update.set(account.<String>get("name"), name);
+        }
+        if (phoneNr != null) {
+            update.set(account.<String>get("phoneNr"), phoneNr);
+        }
+        update.set(account.<LocalDateTime>get("modifiedTime"), modifiedTime);
+
+        return execute(cb, update, account, versionMatches(cb, account, id, version));
+    }
+
+    @Override
+    public int softDeleteIfVersion(Long id, long version, LocalDateTime deletedTime) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Account> update = cb.createCriteriaUpdate(Account.class);
+        Root<Account> account = update.from(Account.class);
+
+        update.set(account.<Boolean>get("isActive"), cb.nullLiteral(Boolean.class))
+                .set(account.<LocalDateTime>get("deletedTime"), deletedTime)
+                .set(account.<LocalDateTime>get("modifiedTime"), deletedTime);
+
+        return execute(cb, update, account, versionMatches(cb, account, id, version));
+    }
+
+    @Override
+    public int updateNameWhereIdIn(Collection<Long> ids, String name, LocalDateTime modifiedTime) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Account> update = cb.createCriteriaUpdate(Account.class);
+        Root<Account> account = update.from(Account.class);
+
+        update.set(account.<String>get("name"), name)
+                .set(account.<LocalDateTime>get("modifiedTime"), modifiedTime);
+
+        return execute(cb, update, account, account.get("id").in(ids));
+    }
+
+    @Override
+    public int softDeleteWhereIdIn(Collection<Long> ids, LocalDateTime deletedTime) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Account> update = cb.createCriteriaUpdate(Account.class);
+        Root<Account> account = update.from(Account.class);
+
+        update.set(account.<Boolean>get("isActive"), cb.nullLiteral(Boolean.class))
+                .set(account.<LocalDateTime>get("deletedTime"), deletedTime)
+                .set(account.<LocalDateTime>get("modifiedTime"), deletedTime);
+
+        return execute(cb, update, account, account.get("id").in(ids));
+    }
+
+    private Predicate versionMatches(CriteriaBuilder cb, Root<Account> account, Long id, long version) {
+        return cb.and(cb.equal(account.get("id"), id), cb.equal(account.get("version"), version));
+    }
+
+    private int execute(CriteriaBuilder cb, CriteriaUpdate<Account> update, Root<Account> account, Predicate target) {
+        update.set(account.<Long>get("version"), cb.sum(account.<Long>get("version"), 1L))
+                .where(target, cb.isNull(account.get("deletedTime")));
+
+        return entityManager.createQuery(update).executeUpdate();
+    }
+}
@@ -0,0 +1,338 @@
+package com.fintech.service;
+
+import com.fintech.config.AccountBulkProperties;
+import com.fintech.dto.AccountBulkDeleteRequest;
+import com.fintech.dto.AccountBulkFilter;
+import com.fintech.dto.AccountBulkJobResponse;
+import com.fintech.dto.AccountBulkUpdateRequest;
+import com.fintech.dto.AccountListFilter;
+import com.fintech.entity.Account;
+import com.fintech.event.AccountChangedEvent;
+import com.fintech.exception.BulkJobNotFoundException;
+import com.fintech.exception.BulkJobRejectedException;
+import com.fintech.exception.WriteDeadlineExceededException;
+import com.fintech.repository.AccountRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static com.fintech.config.CacheConfig.ACCOUNTS_CACHE;
+import static com.fintech.dto.AccountBulkJobResponse.Status;
+import static com.fintech.dto.AccountBulkJobResponse.Type;
+
+/**
+ * Bulk renames and soft deletes, applied in chunks of {@code chunk-size} accounts. Each chunk
+ * locks its accounts in id order, changes them with one UPDATE and writes their outbox events in
+ * the same transaction, so a failed job leaves whole chunks applied. A chunk that runs past
+ * {@code account.changes.max-write-duration} is rolled back and written again in halves. Id lists
+ * that fit in one chunk run on the calling thread; larger jobs are queued on a small dedicated
+ * pool and can be queried on this instance until {@code retention} after they finish.
+ */
+@Service
+@Slf4j
+public class AccountBulkService {
+
+    private final AccountRepository accountRepository;
+    private final AccountBulkProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CacheManager cacheManager;
+
+    private final ThreadPoolExecutor executor;
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+
+    public AccountBulkService(AccountRepository accountRepository,
+                              AccountBulkProperties properties,
+                              TransactionTemplate transactionTemplate,
+                              ApplicationEventPublisher eventPublisher,
+                              CacheManager cacheManager) {
+        this.accountRepository = accountRepository;
+        this.properties = properties;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.cacheManager = cacheManager;
+        this.executor = new ThreadPoolExecutor(
+                properties.getMaxConcurrentJobs(), properties.getMaxConcurrentJobs(), 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getMaxQueuedJobs()),
+                Thread.ofPlatform().name("bulk-job-", 1).factory());
+    }
+
+    public AccountBulkJobResponse submitUpdate(AccountBulkUpdateRequest request) {
+        List<Long> ids = validateTarget(request.getIds(), request.getFilter());
+        return submit(Type.UPDATE, ids, request.getFilter(), accounts -> rename(accounts, request.getName()));
+    }
+
+    public AccountBulkJobResponse submitDelete(AccountBulkDeleteRequest request) {
+        List<Long> ids = validateTarget(request.getIds(), request.getFilter());
+        return submit(Type.DELETE, ids, request.getFilter(), this::softDelete);
+    }
+
+    public AccountBulkJobResponse findJob(String jobId) {
+        removeExpiredJobs();
+
+        Job job = jobs.get(jobId);
+        if (job == null) {
+            throw new BulkJobNotFoundException(jobId);
+        }
+        return job.toResponse();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private AccountBulkJobResponse submit(Type type, List<Long> ids, AccountBulkFilter filter, ChunkWriter writer) {
+        removeExpiredJobs();
+
+        Job job = new Job(UUID.randomUUID().toString(), type, ids == null ? null : (long) ids.size());
+        jobs.put(job.id, job);
+        log.info("Bulk job submitted: id={}, type={}, total={}", job.id, type, job.total);
+
+        if (ids != null && ids.size() <= properties.getChunkSize()) {
+            run(job, ids, filter, writer);
+            return job.toResponse();
+        }
+
+        try {
+            executor.execute(() -> run(job, ids, filter, writer));
+        } catch (RejectedExecutionException ex) {
+            jobs.remove(job.id);
+            throw new BulkJobRejectedException(properties.getMaxQueuedJobs());
+        }
+        return job.toResponse();
+    }
+
+    private void run(Job job, List<Long> ids, AccountBulkFilter filter, ChunkWriter writer) {
+        job.startedTime = LocalDateTime.now();
+        job.status = Status.RUNNING;
+
+        try {
+            if (ids != null) {
+                runOnIds(job, ids, writer);
+            } else {
+                runOnFilter(job, filter, writer);
+            }
+            job.status = Status.COMPLETED;
+        } catch (RuntimeException ex) {
+            log.error("Bulk job failed: id={}, processed={}", job.id, job.processed, ex);
+            job.error = ex.getMessage();
+            job.status = Status.FAILED;
+        } finally {
+            job.finishedTime = LocalDateTime.now();
+        }
+
+        log.info("Bulk job finished: id={}, status={}, processed={}, affected={}",
+                job.id, job.status, job.processed, job.affected);
+    }
+
+    private void runOnIds(Job job, List<Long> ids, ChunkWriter writer) {
+        for (int from = 0; from < ids.size(); from += properties.getChunkSize()) {
+            checkNotInterrupted();
+            writeIds(job, ids.subList(from, Math.min(from + properties.getChunkSize(), ids.size())), writer);
+        }
+    }
+
+    private void writeIds(Job job, List<Long> chunk, ChunkWriter writer) {
+        Integer affected;
+        try {
+            affected = transactionTemplate.execute(status ->
+                    writer.write(accountRepository.findAllActiveByIdInForUpdate(chunk)));
+        } catch (WriteDeadlineExceededException ex) {
+            if (chunk.size() == 1) {
+                throw ex;
+            }
+            log.warn("Bulk job chunk of {} ids missed the write deadline, writing it in halves: id={}", chunk.size(), job.id);
+            int half = chunk.size() / 2;
+            writeIds(job, chunk.subList(0, half), writer);
+            writeIds(job, chunk.subList(half, chunk.size()), writer);
+            return;
+        }
+        job.recordChunk(chunk.size(), affected);
+    }
+
+    private void runOnFilter(Job job, AccountBulkFilter filter, ChunkWriter writer) {
+        job.total = accountRepository.countMatching(filter.toListFilter(null, properties.getChunkSize()));
+
+        // Keyset paging on id, so accounts leaving the filter range once changed do not shift later pages
+        Long afterId = null;
+        int pageSize = properties.getChunkSize();
+        while (true) {
+            checkNotInterrupted();
+            AccountListFilter page = filter.toListFilter(afterId, pageSize);
+
+            Chunk chunk;
+            try {
+                chunk = transactionTemplate.execute(status -> {
+                    List<Account> accounts = accountRepository.findPageForUpdate(page);
+                    return new Chunk(accounts.size(), writer.write(accounts), accounts.isEmpty() ? null : accounts.getLast().getId());
+                });
+            } catch (WriteDeadlineExceededException ex) {
+                if (pageSize == 1) {
+                    throw ex;
+                }
+                pageSize /= 2;
+                log.warn("Bulk job chunk missed the write deadline, continuing with {} accounts per chunk: id={}", pageSize, job.id);
+                continue;
+            }
+            job.recordChunk(chunk.size(), chunk.written());
+
+            if (chunk.size() < pageSize) {
+                return;
+            }
+            afterId = chunk.lastId();
+        }
+    }
+
+    private int rename(List<Account> accounts, String name) {
+        List<Account> renamed = accounts.stream()
+                .filter(account -> account.isNameChanged(name))
+                .toList();
+        if (renamed.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int updated = accountRepository.updateNameWhereIdIn(idsOf(renamed), name, now);
+
+        for (Account account : renamed) {
+            account.setName(name);
+            account.setModifiedTime(now);
+            account.setVersion(account.getVersion() + 1);
+            publish(AccountChangedEvent.updated(account, account.getPhoneNr()));
+        }
+        return updated;
+    }
+
+    private int softDelete(List<Account> accounts) {
+        if (accounts.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int deleted = accountRepository.softDeleteWhereIdIn(idsOf(accounts), now);
+
+        for (Account account : accounts) {
+            account.setIsActive(null);
+            account.setDeletedTime(now);
+            account.setModifiedTime(now);
+            account.setVersion(account.getVersion() + 1);
+            publish(AccountChangedEvent.deleted(account));
+        }
+        return deleted;
+    }
+
+    // The accounts cache is transaction aware, so evictions only happen once the chunk commits
+    private void publish(AccountChangedEvent event) {
+        eventPublisher.publishEvent(event);
+
+        Cache cache = cacheManager.getCache(ACCOUNTS_CACHE);
+        if (cache != null) {
+            cache.evict(event.getAccountId());
+        }
+    }
+
+    private List<Long> validateTarget(List<Long> ids, AccountBulkFilter filter) {
+        if ((ids == null) == (filter == null)) {
+            throw new IllegalArgumentException("Exactly one of ids or filter is required");
+        }
+        if (filter != null) {
+            if (!filter.hasBounds()) {
+                throw new IllegalArgumentException("Filter must set at least one of createdFrom, createdTo, modifiedFrom or modifiedTo");
+            }
+            return null;
+        }
+
+        if (ids.isEmpty()) {
+            throw new IllegalArgumentException("Ids must not be empty");
+        }
+        if (ids.size() > properties.getMaxIds()) {
+            throw new IllegalArgumentException("At most " + properties.getMaxIds() + " ids can be given");
+        }
+        return ids.stream().distinct().toList();
+    }
+
+    private void removeExpiredJobs() {
+        LocalDateTime expiredBefore = LocalDateTime.now().minus(properties.getRetention());
+        jobs.values().removeIf(job -> job.finishedTime != null && job.finishedTime.isBefore(expiredBefore));
+    }
+
+    private static void checkNotInterrupted() {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new IllegalStateException("Bulk job interrupted by shutdown");
+        }
+    }
+
+    private static List<Long> idsOf(List<Account> accounts) {
+        return accounts.stream().map(Account::getId).toList();
+    }
+
+    @FunctionalInterface
+    private interface ChunkWriter {
+
+        // Applies the change to the locked accounts and returns the number of rows written
+        int write(List<Account> accounts);
+    }
+
+    private record Chunk(int size, int written, Long lastId) {
+    }
+
+    // Written by the job thread only, read by status requests
+    private static final class Job {
+
+        private final String id;
+        private final Type type;
+        private final LocalDateTime createdTime = LocalDateTime.now();
+
+        private volatile Status status = Status.QUEUED;
+        private volatile Long total;
+        private volatile long processed;
+        private volatile long affected;
+        private volatile long skipped;
+        private volatile LocalDateTime startedTime;
+        private volatile LocalDateTime finishedTime;
+        private volatile String error;
+
+        private Job(String id, Type type, Long total) {
+            this.id = id;
+            this.type = type;
+            this.total = total;
+        }
+
+        private void recordChunk(int size, int written) {
+            processed += size;
+            affected += written;
+            skipped += size - written;
+        }
+
+        private AccountBulkJobResponse toResponse() {
+            return AccountBulkJobResponse.builder()
+                    .id(id)
+                    .type(type)
+                    .status(status)
+                    .total(total)
+                    .processed(processed)
+                    .affected(affected)
+                    .skipped(skipped)
+                    .createdTime(createdTime)
+                    .startedTime(startedTime)
+                    .finishedTime(finishedTime)
+                    .error(error)
+                    .build();
+        }
+    }
+}
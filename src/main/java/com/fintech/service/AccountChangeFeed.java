@@ -0,0 +1,111 @@
+package com.fintech.service;
+
+import com.fintech.config.AccountChangesProperties;
+import com.fintech.dto.AccountChangesResponse;
+import com.fintech.dto.AccountResponse;
+import com.fintech.dto.ChangeWatermark;
+import com.fintech.entity.Account;
+import com.fintech.exception.ChangeFeedBusyException;
+import com.fintech.mapper.AccountMapper;
+import com.fintech.repository.AccountRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Feed of account creates, updates and soft deletes in {@code (modified_time, id)} order.
+ * Rows modified within the last {@code settle-delay} are held back, because a transaction that
+ * stamped an earlier time may still be committing. Long-polling requests are parked without a
+ * thread and released by a single index probe per poll interval, whatever the number of waiters.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AccountChangeFeed {
+
+    private final AccountRepository accountRepository;
+    private final AccountMapper accountMapper;
+    private final AccountChangesProperties properties;
+
+    private final Set<Waiter> waiters = ConcurrentHashMap.newKeySet();
+
+    public AccountChangesResponse findChanges(ChangeWatermark since, int limit) {
+        List<Account> accounts = accountRepository.findChangesAfter(
+                since.modifiedTime(), since.id(), settledBefore(), Limit.of(limit + 1));
+
+        boolean hasMore = accounts.size() > limit;
+        List<Account> page = hasMore ? accounts.subList(0, limit) : accounts;
+        List<AccountResponse> items = page.stream().map(accountMapper::toResponse).toList();
+
+        ChangeWatermark next = page.isEmpty() ? since : watermarkOf(page.getLast());
+        return new AccountChangesResponse(items, next.encode(), hasMore);
+    }
+
+    public DeferredResult<AccountChangesResponse> poll(ChangeWatermark since, int limit, Duration wait) {
+        AccountChangesResponse changes = findChanges(since, limit);
+
+        if (!changes.getItems().isEmpty() || wait.isZero()) {
+            DeferredResult<AccountChangesResponse> result = new DeferredResult<>();
+            result.setResult(changes);
+            return result;
+        }
+
+        // An empty answer would send the client straight back, so it is told when to retry instead
+        if (waiters.size() >= properties.getMaxWaiters()) {
+            throw new ChangeFeedBusyException(properties.getMaxWaiters(), properties.getPollInterval());
+        }
+
+        DeferredResult<AccountChangesResponse> result = new DeferredResult<>(wait.toMillis(), () -> changes);
+        Waiter waiter = new Waiter(since, limit, result);
+        result.onCompletion(() -> waiters.remove(waiter));
+        waiters.add(waiter);
+        return result;
+    }
+
+    @Scheduled(fixedDelayString = "${account.changes.poll-interval:1s}")
+    public void releaseWaiters() {
+        if (waiters.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<ChangeWatermark> latest = accountRepository.findLatestChange(settledBefore(), Limit.of(1));
+            if (latest.isEmpty()) {
+                return;
+            }
+
+            ChangeWatermark head = latest.getFirst();
+            for (Waiter waiter : waiters) {
+                if (head.compareTo(waiter.since()) > 0 && !waiter.result().isSetOrExpired()) {
+                    waiter.result().setResult(findChanges(waiter.since(), waiter.limit()));
+                }
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Failed to release change feed waiters: {}", ex.getMessage());
+        }
+    }
+
+    int waiterCount() {
+        return waiters.size();
+    }
+
+    private LocalDateTime settledBefore() {
+        return LocalDateTime.now().minus(properties.getSettleDelay());
+    }
+
+    private static ChangeWatermark watermarkOf(Account account) {
+        return new ChangeWatermark(account.getModifiedTime(), account.getId());
+    }
+
+    private record Waiter(ChangeWatermark since, int limit, DeferredResult<AccountChangesResponse> result) {
+    }
+}
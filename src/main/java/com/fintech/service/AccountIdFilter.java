@@ -0,0 +1,192 @@
+package com.fintech.service;
+
+import com.fintech.config.AccountChangesProperties;
+import com.fintech.config.AccountIdFilterProperties;
+import com.fintech.event.AccountChangedEvent;
+import com.fintech.repository.AccountRepository;
+import com.fintech.util.LongBloomFilter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Tells which account ids certainly do not exist, so lookups for them skip the database. An id is
+ * known absent if it was found missing within the negative time to live, or if it is at or below
+ * the scanned watermark and not in the Bloom filter of active ids. The filter is built in the
+ * background once the application is ready and extended on a schedule, each time only up to the
+ * highest id created more than the settle delay plus the max write duration ago.
+ * <p>
+ * Ids are allocated on insert, after the row is stamped, and {@link AccountWriteDeadline} rolls
+ * back writes not committed within the max write duration of their stamp. A row stamped at
+ * {@code t} therefore got its id before {@code t + max-write-duration}; any smaller id was
+ * allocated earlier, to a write stamped before then, which has committed or rolled back by
+ * {@code t + 2 * max-write-duration}. The settle delay being longer than the max write duration
+ * plus commit time, no write still in flight can end up behind the watermark, wherever it ran.
+ * Ids committed through this instance are also added as soon as they commit. Deleted ids stay in
+ * the filter and are caught by the negative cache.
+ */
+@Component
+@Slf4j
+public class AccountIdFilter {
+
+    public static final String REJECTIONS_COUNTER = "account.lookup.rejected";
+
+    private final AccountRepository accountRepository;
+    private final AccountIdFilterProperties properties;
+    private final AccountChangesProperties changesProperties;
+    private final Cache<Long, Boolean> absentIds;
+    // Ids committed lately, so a read that started before the commit cannot record them as absent
+    private final Cache<Long, Boolean> recentlyCreated;
+    private final LongAdder negativeCacheRejections = new LongAdder();
+    private final LongAdder filterRejections = new LongAdder();
+
+    private volatile LongBloomFilter activeIds;
+    private volatile long scannedUpTo;
+    private volatile boolean ready;
+
+    public AccountIdFilter(AccountRepository accountRepository,
+                           AccountIdFilterProperties properties,
+                           AccountChangesProperties changesProperties,
+                           MeterRegistry meterRegistry) {
+        this.accountRepository = accountRepository;
+        this.properties = properties;
+        this.changesProperties = changesProperties;
+        this.absentIds = Caffeine.newBuilder()
+                .maximumSize(properties.getNegativeMaximumSize())
+                .expireAfterWrite(properties.getNegativeTimeToLive())
+                .build();
+        this.recentlyCreated = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getNegativeTimeToLive())
+                .build();
+
+        FunctionCounter.builder(REJECTIONS_COUNTER, negativeCacheRejections, LongAdder::sum)
+                .description("Account lookups answered as missing without a database read")
+                .tag("source", "negative_cache")
+                .register(meterRegistry);
+        FunctionCounter.builder(REJECTIONS_COUNTER, filterRejections, LongAdder::sum)
+                .description("Account lookups answered as missing without a database read")
+                .tag("source", "id_filter")
+                .register(meterRegistry);
+    }
+
+    public boolean isKnownAbsent(Long id) {
+        if (!properties.isEnabled() || id == null) {
+            return false;
+        }
+
+        if (recentlyCreated.getIfPresent(id) != null) {
+            return false;
+        }
+
+        if (absentIds.getIfPresent(id) != null) {
+            negativeCacheRejections.increment();
+            return true;
+        }
+
+        // Reading the watermark first makes the ids added below it visible
+        if (id <= scannedUpTo && !activeIds.mightContain(id)) {
+            filterRejections.increment();
+            return true;
+        }
+        return false;
+    }
+
+    public void recordAbsent(Long id) {
+        if (properties.isEnabled() && recentlyCreated.getIfPresent(id) == null) {
+            absentIds.put(id, Boolean.TRUE);
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public long scannedUpTo() {
+        return scannedUpTo;
+    }
+
+    // Not read-only so that the scan runs on the primary, a lagging replica would leave ids out
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void warmUp() {
+        if (!properties.isEnabled()) {
+            log.info("Account id filter disabled");
+            return;
+        }
+
+        log.info("Building account id filter");
+        long start = System.nanoTime();
+
+        long upToId = Objects.requireNonNullElse(accountRepository.findMaxIdCreatedBefore(0, settledBefore()), 0L);
+        activeIds = new LongBloomFilter(Math.max(properties.getExpectedIds(), upToId), properties.getFalsePositiveRate());
+        long added = scan(upToId);
+        ready = true;
+
+        log.info("Account id filter ready: ids={}, scannedUpTo={}, bits={}, hashes={}, tookMs={}",
+                added, scannedUpTo, activeIds.bitCount(), activeIds.hashCount(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @Scheduled(fixedDelayString = "${account.id-filter.refresh-interval:30s}")
+    @Transactional
+    public void refresh() {
+        if (!ready) {
+            return;
+        }
+
+        Long upToId = accountRepository.findMaxIdCreatedBefore(scannedUpTo, settledBefore());
+        if (upToId != null) {
+            long added = scan(upToId);
+            log.debug("Account id filter extended: ids={}, scannedUpTo={}", added, upToId);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAccountChanged(AccountChangedEvent event) {
+        if (event.getType() == AccountChangedEvent.Type.CREATED) {
+            recentlyCreated.put(event.getAccountId(), Boolean.TRUE);
+            absentIds.invalidate(event.getAccountId());
+
+            LongBloomFilter filter = activeIds;
+            if (filter != null) {
+                filter.put(event.getAccountId());
+            }
+        }
+    }
+
+    private long scan(long upToId) {
+        long added = 0;
+        try (Stream<Long> ids = accountRepository.streamActiveIds(scannedUpTo, upToId)) {
+            Iterator<Long> iterator = ids.iterator();
+            while (iterator.hasNext()) {
+                activeIds.put(iterator.next());
+                added++;
+            }
+        }
+
+        scannedUpTo = upToId;
+        return added;
+    }
+
+    // A row's timestamp can precede its id by up to the max write duration, see the class comment
+    private LocalDateTime settledBefore() {
+        return LocalDateTime.now()
+                .minus(changesProperties.getSettleDelay())
+                .minus(changesProperties.getMaxWriteDuration());
+    }
+}
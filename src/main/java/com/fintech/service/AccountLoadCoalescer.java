@@ -0,0 +1,50 @@
+package com.fintech.service;
+
+import com.fintech.config.AccountCacheProperties;
+import com.fintech.dto.AccountResponse;
+import com.fintech.event.AccountChangedEvent;
+import com.fintech.util.SingleFlight;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Shares one database load between concurrent cache misses for the same account. A committed
+ * change detaches the load in flight, so reads starting after it do not share a result read before it.
+ */
+@Component
+public class AccountLoadCoalescer {
+
+    public static final String LOADS_COUNTER = "account.lookup.loads";
+
+    private final SingleFlight<Long, AccountResponse> loads;
+
+    public AccountLoadCoalescer(AccountCacheProperties properties, MeterRegistry meterRegistry) {
+        this.loads = new SingleFlight<>(properties.getCoalescingMaxWait());
+
+        register(meterRegistry, "executed", "Account lookups that ran their own database load", SingleFlight::executedCount);
+        register(meterRegistry, "coalesced", "Account lookups that shared a load already in flight", SingleFlight::coalescedCount);
+        register(meterRegistry, "timed_out", "Account lookups that stopped waiting for a shared load", SingleFlight::timedOutCount);
+    }
+
+    public AccountResponse load(Long id, Supplier<AccountResponse> loader) {
+        return loads.load(id, loader);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAccountChanged(AccountChangedEvent event) {
+        loads.forget(event.getAccountId());
+    }
+
+    private void register(MeterRegistry meterRegistry, String result, String description,
+                          ToDoubleFunction<SingleFlight<Long, AccountResponse>> count) {
+        FunctionCounter.builder(LOADS_COUNTER, loads, count)
+                .description(description)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
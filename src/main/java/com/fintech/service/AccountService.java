@@ -1,73 +1,548 @@
 package com.fintech.service;
 
+import com.fintech.config.AccountBatchProperties;
+import com.fintech.config.AccountUpdateProperties;
+import com.fintech.dto.AccountBatchItemResponse;
+import com.fintech.dto.AccountBatchResponse;
 import com.fintech.dto.AccountCreateRequest;
+import com.fintech.dto.AccountListFilter;
+import com.fintech.dto.AccountLookupItemResponse;
+import com.fintech.dto.AccountLookupResponse;
 import com.fintech.dto.AccountResponse;
 import com.fintech.dto.AccountUpdateRequest;
 import com.fintech.entity.Account;
+import com.fintech.event.AccountChangedEvent;
 import com.fintech.exception.AccountNotFoundException;
+import com.fintech.exception.AccountUpdateConflictException;
+import com.fintech.exception.AccountVersionMismatchException;
 import com.fintech.exception.DuplicatePhoneNumberException;
+import com.fintech.exception.WriteDeadlineExceededException;
 import com.fintech.mapper.AccountMapper;
 import com.fintech.repository.AccountRepository;
 import com.fintech.util.PhoneNumberValidator;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
 
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.fintech.config.CacheConfig.ACCOUNTS_CACHE;
+import static com.fintech.exception.ErrorCode.*;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class AccountService {
 
+    private static final int EXPORT_DETACH_INTERVAL = 1_000;
+    private static final String PHONE_NR_UNIQUE_CONSTRAINT = "uk_accounts_phone_nr_is_active";
+
     private final AccountRepository accountRepository;
     private final AccountMapper accountMapper;
+    private final Validator validator;
+    private final AccountBatchProperties batchProperties;
+    private final EntityManager entityManager;
+    private final PhoneNumberIndex phoneNumberIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AccountUpdateProperties updateProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheManager cacheManager;
+    private final AccountLoadCoalescer loadCoalescer;
+    private final AccountIdFilter accountIdFilter;
 
+    @Transactional
     public AccountResponse createAccount(AccountCreateRequest request) {
         log.info("Creating account: name={}", request.getName());
 
-        validatePhoneNumber(request.getPhoneNr());
+        // Uniqueness is enforced by the insert itself, so the create is a single round trip with or
+        // without a phone number index hit
+        if (StringUtils.hasText(request.getPhoneNr())) {
+            validatePhoneNumberFormat(request.getPhoneNr());
+        }
 
         Account account = accountMapper.toEntity(request);
-        Account savedAccount = accountRepository.save(account);
+        Account savedAccount = writeWithUniquePhoneNumber(account.getPhoneNr(), () -> accountRepository.saveAndFlush(account));
+        eventPublisher.publishEvent(AccountChangedEvent.created(savedAccount));
 
         log.info("Account created: id={}", savedAccount.getId());
         return accountMapper.toResponse(savedAccount);
     }
 
-    @Transactional
-    public AccountResponse updateAccount(Long id, AccountUpdateRequest request) {
-        log.info("Updating account: id={}", id);
+    // Not one transaction: every chunk commits on its own, see insertChunk
+    public AccountBatchResponse createAccounts(List<AccountCreateRequest> requests) {
+        validateBatchSize(requests);
+        log.info("Creating accounts in batch: size={}", requests.size());
+
+        AccountBatchItemResponse[] results = new AccountBatchItemResponse[requests.size()];
+        Map<String, Integer> indexByPhoneNr = new HashMap<>();
+        List<Integer> candidates = new ArrayList<>();
 
-        Account account = findAccountById(id);
+        for (int i = 0; i < requests.size(); i++) {
+            AccountCreateRequest request = requests.get(i);
+            String phoneNr = request == null ? null : request.getPhoneNr();
 
-        account.updateName(request.getName());
-        validateAndUpdatePhoneNumber(account, request.getPhoneNr());
+            AccountBatchItemResponse failure = validateBatchItem(i, request);
+            if (failure != null) {
+                results[i] = failure;
+            } else if (StringUtils.hasText(phoneNr) && indexByPhoneNr.putIfAbsent(phoneNr, i) != null) {
+                results[i] = duplicatePhoneNumber(i, phoneNr);
+            } else {
+                candidates.add(i);
+            }
+        }
+
+        // Queried for every number: the phone number index cannot vouch for numbers written by other instances
+        Set<String> existingPhoneNrs = queryExistingPhoneNrs(new ArrayList<>(indexByPhoneNr.keySet()));
+        List<Integer> insertIndexes = new ArrayList<>();
+        List<Account> accounts = new ArrayList<>();
+
+        for (Integer index : candidates) {
+            AccountCreateRequest request = requests.get(index);
+            if (existingPhoneNrs.contains(request.getPhoneNr())) {
+                results[index] = duplicatePhoneNumber(index, request.getPhoneNr());
+                continue;
+            }
+
+            accounts.add(accountMapper.toEntity(request));
+            insertIndexes.add(index);
+        }
+
+        try {
+            for (int from = 0; from < accounts.size(); from += batchProperties.getChunkSize()) {
+                int to = Math.min(from + batchProperties.getChunkSize(), accounts.size());
+                insertChunk(insertIndexes.subList(from, to), accounts.subList(from, to), results);
+            }
+        } catch (RuntimeException ex) {
+            if (Arrays.stream(results).noneMatch(result -> result != null
+                    && result.getStatus() == AccountBatchItemResponse.Status.CREATED)) {
+                throw ex;
+            }
+            // Earlier chunks are committed, so the response has to say which items exist
+            log.error("Batch create stopped part way, reporting the remaining items as failed", ex);
+            for (Integer index : insertIndexes) {
+                if (results[index] == null) {
+                    results[index] = AccountBatchItemResponse.failed(index, INTERNAL_ERROR,
+                            "Not created, the batch stopped at an error after earlier items were created");
+                }
+            }
+        }
+
+        AccountBatchResponse response = AccountBatchResponse.of(Arrays.asList(results));
+        log.info("Accounts created in batch: created={}, failed={}", response.getCreatedCount(), response.getFailedCount());
+        return response;
+    }
+
+    // Each chunk is stamped just before its insert and commits on its own, so every chunk commits within
+    // account.changes.max-write-duration of its timestamp whatever the batch size. A chunk that still
+    // runs past it is rolled back and written again in halves.
+    private void insertChunk(List<Integer> indexes, List<Account> accounts, AccountBatchItemResponse[] results) {
+        try {
+            transactionTemplate.execute(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                for (Account account : accounts) {
+                    account.setCreatedTime(now);
+                    account.setModifiedTime(now);
+                    account.setVersion(0L);
+                }
+                accountRepository.insertAll(accounts);
+                accounts.forEach(account -> eventPublisher.publishEvent(AccountChangedEvent.created(account)));
+                return null;
+            });
+        } catch (DataIntegrityViolationException ex) {
+            retryWithoutTakenPhoneNrs(ex, indexes, accounts, results);
+            return;
+        } catch (WriteDeadlineExceededException ex) {
+            if (accounts.size() == 1) {
+                throw ex;
+            }
+            log.warn("Batch chunk of {} accounts missed the write deadline, writing it in halves", accounts.size());
+            int half = accounts.size() / 2;
+            insertChunk(indexes.subList(0, half), accounts.subList(0, half), results);
+            insertChunk(indexes.subList(half, indexes.size()), accounts.subList(half, accounts.size()), results);
+            return;
+        }
+
+        for (int i = 0; i < accounts.size(); i++) {
+            int index = indexes.get(i);
+            results[index] = AccountBatchItemResponse.created(index, accountMapper.toResponse(accounts.get(i)));
+        }
+    }
+
+    @CachePut(cacheNames = ACCOUNTS_CACHE, key = "#id")
+    public AccountResponse updateAccount(Long id, AccountUpdateRequest request, Long expectedVersion) {
+        log.info("Updating account: id={}", id);
+
+        Account cached = findCachedAccount(id, expectedVersion);
+        AccountResponse response = cached == null
+                ? null
+                : transactionTemplate.execute(status -> updateCachedAccount(cached, request));
+        if (response == null) {
+            // A stale cached image is what the client last saw, so it is the baseline for the merge check
+            response = updateLoadedAccount(id, request, expectedVersion, cached == null ? null : AccountFields.of(cached));
+        }
 
         log.info("Account updated: id={}", id);
-        return accountMapper.toResponse(account);
+        return response;
     }
 
-    @Transactional
-    public void deleteAccount(Long id) {
+    @CacheEvict(cacheNames = ACCOUNTS_CACHE, key = "#id")
+    public void deleteAccount(Long id, Long expectedVersion) {
         log.info("Deleting account: id={}", id);
 
-        Account account = findAccountById(id);
-        account.softDelete();
+        Account cached = findCachedAccount(id, expectedVersion);
+        boolean deleted = cached != null
+                && Boolean.TRUE.equals(transactionTemplate.execute(status -> softDeleteCachedAccount(cached)));
+        if (!deleted) {
+            softDeleteLoadedAccount(id, expectedVersion);
+        }
 
         log.info("Account deleted: id={}", id);
     }
 
-    public AccountResponse findById(Long id) {
-        Account account = findAccountById(id);
+    private AccountResponse updateLoadedAccount(Long id, AccountUpdateRequest request, Long expectedVersion,
+                                                AccountFields baseline) {
+        AtomicReference<AccountFields> firstRead = new AtomicReference<>(baseline);
+        return retryOnConcurrentWrite(id, () -> {
+            Account account = findAccountById(id);
+            checkVersion(account, expectedVersion);
+            if (!firstRead.compareAndSet(null, AccountFields.of(account))) {
+                checkMergeable(account, firstRead.get(), request);
+            }
+            String previousPhoneNr = account.getPhoneNr();
+
+            account.updateName(request.getName());
+            validateAndUpdatePhoneNumber(account, request.getPhoneNr());
+
+            // Flush now so the response carries the incremented version, and a concurrent claim of
+            // the same number or a concurrent update surfaces here rather than at commit
+            writeWithUniquePhoneNumber(account.getPhoneNr(), () -> flushVersioned(account, expectedVersion));
+            eventPublisher.publishEvent(AccountChangedEvent.updated(account, previousPhoneNr));
+            return accountMapper.toResponse(account);
+        });
+    }
+
+    private void softDeleteLoadedAccount(Long id, Long expectedVersion) {
+        retryOnConcurrentWrite(id, () -> {
+            Account account = findAccountById(id);
+            checkVersion(account, expectedVersion);
+            account.softDelete();
+            flushVersioned(account, expectedVersion);
+            eventPublisher.publishEvent(AccountChangedEvent.deleted(account));
+            return null;
+        });
+    }
+
+    /**
+     * Writes only the changed columns with one UPDATE guarded by the cached version, so the row is
+     * never loaded. A matching version proves the cached image is the current row; zero updated rows
+     * means the cache was stale and the caller falls back to the load-and-flush path.
+     */
+    private AccountResponse updateCachedAccount(Account account, AccountUpdateRequest request) {
+        String name = changedValue(account.getName(), request.getName());
+        String phoneNr = changedValue(account.getPhoneNr(), request.getPhoneNr());
+        if (name == null && phoneNr == null) {
+            return null;
+        }
+        if (phoneNr != null) {
+            validatePhoneNumber(phoneNr);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int updated = writeWithUniquePhoneNumber(phoneNr,
+                () -> accountRepository.updateIfVersion(account.getId(), account.getVersion(), name, phoneNr, now));
+        if (updated == 0) {
+            return null;
+        }
+
+        String previousPhoneNr = account.getPhoneNr();
+        account.updateName(name);
+        account.updatePhoneNumber(phoneNr);
+        account.setModifiedTime(now);
+        account.setVersion(account.getVersion() + 1);
+        eventPublisher.publishEvent(AccountChangedEvent.updated(account, previousPhoneNr));
         return accountMapper.toResponse(account);
     }
 
+    private boolean softDeleteCachedAccount(Account account) {
+        account.softDelete();
+        if (accountRepository.softDeleteIfVersion(account.getId(), account.getVersion(), account.getDeletedTime()) == 0) {
+            return false;
+        }
+
+        account.setModifiedTime(account.getDeletedTime());
+        account.setVersion(account.getVersion() + 1);
+        eventPublisher.publishEvent(AccountChangedEvent.deleted(account));
+        return true;
+    }
+
+    private Account findCachedAccount(Long id, Long expectedVersion) {
+        Cache cache = cacheManager.getCache(ACCOUNTS_CACHE);
+        AccountResponse cached = cache == null ? null : cache.get(id, AccountResponse.class);
+        if (cached == null || cached.getVersion() == null
+                || (expectedVersion != null && !expectedVersion.equals(cached.getVersion()))) {
+            return null;
+        }
+        return accountMapper.toEntity(cached);
+    }
+
+    private static String changedValue(String current, String requested) {
+        return StringUtils.hasText(requested) && !Objects.equals(current, requested) ? requested : null;
+    }
+
+    // Not transactional, so callers waiting on a shared load do not hold a connection meanwhile
+    @Cacheable(cacheNames = ACCOUNTS_CACHE, key = "#id")
+    public AccountResponse findById(Long id) {
+        if (accountIdFilter.isKnownAbsent(id)) {
+            throw new AccountNotFoundException(id);
+        }
+
+        return loadCoalescer.load(id, () -> accountRepository.findById(id)
+                .map(accountMapper::toResponse)
+                .orElseThrow(() -> {
+                    accountIdFilter.recordAbsent(id);
+                    return new AccountNotFoundException(id);
+                }));
+    }
+
+    @Transactional(readOnly = true)
+    public AccountLookupResponse findByIds(List<Long> ids) {
+        Set<Long> candidateIds = ids.stream()
+                .filter(id -> !accountIdFilter.isKnownAbsent(id))
+                .collect(Collectors.toSet());
+        Map<Long, AccountResponse> accountsById = candidateIds.isEmpty()
+                ? Map.of()
+                : accountRepository.findAllActiveByIdIn(candidateIds).stream()
+                        .map(accountMapper::toResponse)
+                        .collect(Collectors.toMap(AccountResponse::getId, response -> response));
+        candidateIds.stream()
+                .filter(id -> !accountsById.containsKey(id))
+                .forEach(accountIdFilter::recordAbsent);
+
+        List<AccountLookupItemResponse> results = ids.stream()
+                .map(id -> accountsById.containsKey(id)
+                        ? AccountLookupItemResponse.found(accountsById.get(id))
+                        : AccountLookupItemResponse.notFound(id))
+                .toList();
+
+        return AccountLookupResponse.of(results);
+    }
+
+    @Transactional(readOnly = true)
+    public Long streamAccounts(AccountListFilter filter, Consumer<AccountResponse> consumer) {
+        Long lastId = null;
+        int count = 0;
+
+        try (Stream<Account> accounts = accountRepository.streamPage(filter)) {
+            Iterator<Account> iterator = accounts.iterator();
+            while (iterator.hasNext()) {
+                Account account = iterator.next();
+                consumer.accept(accountMapper.toResponse(account));
+                lastId = account.getId();
+                count++;
+            }
+        }
+
+        return count == filter.getLimit() ? lastId : null;
+    }
+
+    @Transactional(readOnly = true)
+    public long exportAccounts(long afterId, Consumer<AccountResponse> consumer) {
+        log.info("Exporting accounts: afterId={}", afterId);
+        long count = 0;
+
+        try (Stream<Account> accounts = accountRepository.streamAllAfterId(afterId)) {
+            Iterator<Account> iterator = accounts.iterator();
+            while (iterator.hasNext()) {
+                consumer.accept(accountMapper.toResponse(iterator.next()));
+
+                if (++count % EXPORT_DETACH_INTERVAL == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+
+        log.info("Accounts exported: count={}", count);
+        return count;
+    }
+
     private Account findAccountById(Long id) {
         return accountRepository.findById(id)
                 .orElseThrow(() -> new AccountNotFoundException(id));
     }
 
+    private void checkVersion(Account account, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(account.getVersion())) {
+            throw new AccountVersionMismatchException(account.getId(), expectedVersion);
+        }
+    }
+
+    /**
+     * Runs each attempt in its own transaction and retries when a concurrent write bumped the
+     * version between our read and our flush. Attempts with an If-Match version never get here,
+     * {@link #flushVersioned} reports them as a version mismatch instead.
+     */
+    private <T> T retryOnConcurrentWrite(Long id, Supplier<T> attempt) {
+        for (int attempts = 1; ; attempts++) {
+            try {
+                return transactionTemplate.execute(status -> attempt.get());
+            } catch (OptimisticLockingFailureException ex) {
+                if (attempts >= updateProperties.getMaxAttempts()) {
+                    throw new AccountUpdateConflictException(id);
+                }
+                log.debug("Concurrent write, retrying: id={}, attempt={}", id, attempts);
+            }
+        }
+    }
+
+    // A retry may only overwrite fields the concurrent writer left alone or set to the same value
+    private void checkMergeable(Account account, AccountFields firstRead, AccountUpdateRequest request) {
+        if (isConflicting(firstRead.name(), account.getName(), request.getName())) {
+            throw new AccountUpdateConflictException(account.getId(), "name");
+        }
+        if (isConflicting(firstRead.phoneNr(), account.getPhoneNr(), request.getPhoneNr())) {
+            throw new AccountUpdateConflictException(account.getId(), "phoneNr");
+        }
+    }
+
+    private static boolean isConflicting(String firstRead, String current, String requested) {
+        return StringUtils.hasText(requested) && !Objects.equals(firstRead, current) && !Objects.equals(current, requested);
+    }
+
+    private Account flushVersioned(Account account, Long expectedVersion) {
+        try {
+            accountRepository.flush();
+            return account;
+        } catch (OptimisticLockingFailureException ex) {
+            if (expectedVersion != null) {
+                throw new AccountVersionMismatchException(account.getId(), expectedVersion);
+            }
+            throw ex;
+        }
+    }
+
+    private void validateBatchSize(List<AccountCreateRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("Batch must contain at least one account");
+        }
+        if (requests.size() > batchProperties.getMaxSize()) {
+            throw new IllegalArgumentException("Batch size exceeds maximum of " + batchProperties.getMaxSize());
+        }
+    }
+
+    private AccountBatchItemResponse validateBatchItem(int index, AccountCreateRequest request) {
+        if (request == null) {
+            return AccountBatchItemResponse.failed(index, VALIDATION_FAILED, "Validation failed: account is required");
+        }
+
+        Set<ConstraintViolation<AccountCreateRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            String message = violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+            return AccountBatchItemResponse.failed(index, VALIDATION_FAILED, "Validation failed: " + message);
+        }
+
+        if (StringUtils.hasText(request.getPhoneNr())) {
+            try {
+                validatePhoneNumberFormat(request.getPhoneNr());
+            } catch (IllegalArgumentException ex) {
+                return AccountBatchItemResponse.failed(index, INVALID_REQUEST, ex.getMessage());
+            }
+        }
+
+        return null;
+    }
+
+    private Set<String> queryExistingPhoneNrs(List<String> phoneNrs) {
+        Set<String> existing = new HashSet<>();
+        for (int from = 0; from < phoneNrs.size(); from += batchProperties.getChunkSize()) {
+            existing.addAll(accountRepository.findExistingPhoneNrs(
+                    phoneNrs.subList(from, Math.min(from + batchProperties.getChunkSize(), phoneNrs.size()))));
+        }
+        return existing;
+    }
+
+    // A number taken by a concurrent create after the check: the chunk rolled back, so it is written
+    // again without the accounts whose numbers exist now
+    private void retryWithoutTakenPhoneNrs(DataIntegrityViolationException ex, List<Integer> indexes,
+                                           List<Account> accounts, AccountBatchItemResponse[] results) {
+        if (!isPhoneNumberConstraintViolation(ex)) {
+            throw ex;
+        }
+
+        Set<String> taken = queryExistingPhoneNrs(accounts.stream()
+                .map(Account::getPhoneNr)
+                .filter(StringUtils::hasText)
+                .toList());
+        if (taken.isEmpty()) {
+            throw ex;
+        }
+
+        List<Integer> remainingIndexes = new ArrayList<>();
+        List<Account> remaining = new ArrayList<>();
+        for (int i = 0; i < accounts.size(); i++) {
+            int index = indexes.get(i);
+            Account account = accounts.get(i);
+            if (taken.contains(account.getPhoneNr())) {
+                results[index] = duplicatePhoneNumber(index, account.getPhoneNr());
+            } else {
+                remainingIndexes.add(index);
+                remaining.add(account);
+            }
+        }
+        insertChunk(remainingIndexes, remaining, results);
+    }
+
+    private AccountBatchItemResponse duplicatePhoneNumber(int index, String phoneNr) {
+        return AccountBatchItemResponse.failed(index, DUPLICATE_PHONE_NUMBER,
+                new DuplicatePhoneNumberException(phoneNr).getMessage());
+    }
+
+    private <T> T writeWithUniquePhoneNumber(String phoneNr, Supplier<T> write) {
+        try {
+            return write.get();
+        } catch (DataIntegrityViolationException ex) {
+            if (isPhoneNumberConstraintViolation(ex)) {
+                throw new DuplicatePhoneNumberException(phoneNr);
+            }
+            throw ex;
+        }
+    }
+
+    private boolean isPhoneNumberConstraintViolation(DataIntegrityViolationException ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            String name = cause instanceof ConstraintViolationException violation
+                    ? violation.getConstraintName()
+                    : cause.getMessage();
+            if (name != null && name.toLowerCase(Locale.ROOT).contains(PHONE_NR_UNIQUE_CONSTRAINT)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private void validatePhoneNumber(String phoneNr) {
         if (StringUtils.hasText(phoneNr)) {
             validatePhoneNumberFormat(phoneNr);
@@ -82,15 +557,28 @@ public class AccountService {
     }
 
     private void checkPhoneNumberNotExists(String phoneNr) {
-        if (accountRepository.existsByPhoneNr(phoneNr)) {
+        boolean exists = switch (phoneNumberIndex.lookup(phoneNr)) {
+            case PRESENT -> true;
+            case ABSENT -> false;
+            case UNKNOWN -> accountRepository.existsByPhoneNr(phoneNr);
+        };
+
+        if (exists) {
             throw new DuplicatePhoneNumberException(phoneNr);
         }
     }
 
     private void validateAndUpdatePhoneNumber(Account account, String phoneNr) {
-        if (account.isPhoneNumberChanged(phoneNr)) {
+        if (StringUtils.hasText(phoneNr) && account.isPhoneNumberChanged(phoneNr)) {
             validatePhoneNumber(phoneNr);
             account.updatePhoneNumber(phoneNr);
         }
     }
+
+    private record AccountFields(String name, String phoneNr) {
+
+        private static AccountFields of(Account account) {
+            return new AccountFields(account.getName(), account.getPhoneNr());
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,79 @@
+package com.fintech.service;
+
+import com.fintech.config.AccountChangesProperties;
+import com.fintech.event.AccountChangedEvent;
+import com.fintech.exception.WriteDeadlineExceededException;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Rolls back account writes that would commit too late for the change watermarks. The change feed
+ * takes rows stamped more than the settle delay ago as committed, and the account id filter relies
+ * on the same bound, so a transaction must commit within the max write duration of the earliest
+ * time it stamped. The check
+ * runs last before commit, after the outbox insert, and the rest of the settle delay covers the
+ * commit itself.
+ */
+@Component
+public class AccountWriteDeadline {
+
+    private final AccountChangesProperties properties;
+
+    public AccountWriteDeadline(AccountChangesProperties properties) {
+        Assert.isTrue(properties.getMaxWriteDuration().compareTo(properties.getSettleDelay()) < 0,
+                "account.changes.max-write-duration must be shorter than account.changes.settle-delay");
+        this.properties = properties;
+    }
+
+    @EventListener
+    public void onAccountChanged(AccountChangedEvent event) {
+        LocalDateTime stampedTime = event.getAccount().getModifiedTime();
+        if (stampedTime == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        Deadline deadline = (Deadline) TransactionSynchronizationManager.getResource(this);
+        if (deadline == null) {
+            deadline = new Deadline(stampedTime);
+            TransactionSynchronizationManager.bindResource(this, deadline);
+            TransactionSynchronizationManager.registerSynchronization(deadline);
+        } else if (stampedTime.isBefore(deadline.earliestStampedTime)) {
+            deadline.earliestStampedTime = stampedTime;
+        }
+    }
+
+    private class Deadline implements TransactionSynchronization {
+
+        private LocalDateTime earliestStampedTime;
+
+        private Deadline(LocalDateTime earliestStampedTime) {
+            this.earliestStampedTime = earliestStampedTime;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            Duration elapsed = Duration.between(earliestStampedTime, LocalDateTime.now());
+            if (elapsed.compareTo(properties.getMaxWriteDuration()) > 0) {
+                // Not a TransactionException, which the transaction manager would take for a failed commit and not roll back
+                throw new WriteDeadlineExceededException(properties.getMaxWriteDuration(), elapsed);
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(AccountWriteDeadline.this);
+        }
+    }
+}
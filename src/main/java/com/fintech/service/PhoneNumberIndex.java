@@ -0,0 +1,138 @@
+package com.fintech.service;
+
+import com.fintech.config.AccountPhoneIndexProperties;
+import com.fintech.event.AccountChangedEvent;
+import com.fintech.repository.AccountRepository;
+import com.fintech.util.PackedPhoneNumberSet;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * In-memory index of the phone numbers held by active accounts, used to skip the database
+ * duplicate check when an account's phone number is changed to one that is not taken. Creates do
+ * not consult it: their insert enforces uniqueness in the same round trip a check would take. It
+ * is warmed in the background once the application is ready and answers {@link Presence#UNKNOWN}
+ * until then. The unique constraint on {@code (phone_nr, is_active)} remains the final arbiter.
+ */
+@Component
+@Slf4j
+public class PhoneNumberIndex {
+
+    private final AccountRepository accountRepository;
+    private final AccountPhoneIndexProperties properties;
+    private final PackedPhoneNumberSet phoneNumbers;
+
+    // Latest change per number seen while warming, replayed over the scan result
+    private final Map<Long, Boolean> changesDuringWarmUp = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+
+    public PhoneNumberIndex(AccountRepository accountRepository, AccountPhoneIndexProperties properties) {
+        this.accountRepository = accountRepository;
+        this.properties = properties;
+        this.phoneNumbers = new PackedPhoneNumberSet(properties.getInitialCapacity());
+    }
+
+    /**
+     * Returns {@link Presence#UNKNOWN} while warming, for numbers that cannot be packed and, when
+     * {@code verify-hits} is on, for hits that still have to be confirmed against the database.
+     */
+    public Presence lookup(String phoneNr) {
+        long key = PackedPhoneNumberSet.pack(phoneNr);
+        if (!ready || key == PackedPhoneNumberSet.UNPACKABLE) {
+            return Presence.UNKNOWN;
+        }
+        if (!phoneNumbers.contains(key)) {
+            return Presence.ABSENT;
+        }
+        return properties.isVerifyHits() ? Presence.UNKNOWN : Presence.PRESENT;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public long size() {
+        return phoneNumbers.size();
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warmUp() {
+        if (!properties.isEnabled()) {
+            log.info("Phone number index disabled");
+            return;
+        }
+
+        log.info("Warming phone number index");
+        long start = System.nanoTime();
+
+        try (Stream<String> activePhoneNrs = accountRepository.streamActivePhoneNrs()) {
+            Iterator<String> iterator = activePhoneNrs.iterator();
+            while (iterator.hasNext()) {
+                long key = PackedPhoneNumberSet.pack(iterator.next());
+                if (key != PackedPhoneNumberSet.UNPACKABLE) {
+                    phoneNumbers.add(key);
+                }
+            }
+        }
+
+        changesDuringWarmUp.forEach(this::apply);
+        ready = true;
+        changesDuringWarmUp.clear();
+
+        log.info("Phone number index ready: size={}, capacity={}, tookMs={}",
+                phoneNumbers.size(), phoneNumbers.capacity(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAccountChanged(AccountChangedEvent event) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        if (event.getPreviousPhoneNr() != null && !Objects.equals(event.getPreviousPhoneNr(), event.getPhoneNr())) {
+            record(event.getPreviousPhoneNr(), false);
+        }
+        if (event.getPhoneNr() != null) {
+            record(event.getPhoneNr(), true);
+        }
+    }
+
+    private void record(String phoneNr, boolean present) {
+        long key = PackedPhoneNumberSet.pack(phoneNr);
+        if (key == PackedPhoneNumberSet.UNPACKABLE) {
+            return;
+        }
+
+        apply(key, present);
+        if (!ready) {
+            changesDuringWarmUp.put(key, present);
+        }
+    }
+
+    private void apply(long key, boolean present) {
+        if (present) {
+            phoneNumbers.add(key);
+        } else {
+            phoneNumbers.remove(key);
+        }
+    }
+
+    public enum Presence {
+        PRESENT,
+        ABSENT,
+        UNKNOWN
+    }
+}
@@ -0,0 +1,83 @@
+package com.fintech.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Concurrent Bloom filter over {@code long} keys. {@link #mightContain(long)} never returns
+ * {@code false} for a key that was added, and returns {@code true} for a key that was not with
+ * roughly the configured probability while no more than the expected number of keys are added.
+ * Keys cannot be removed. Bits are set with CAS, so adds and lookups never lock.
+ */
+public class LongBloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+
+    public LongBloomFilter(long expectedKeys, double falsePositiveRate) {
+        if (expectedKeys < 1 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("expectedKeys must be positive and falsePositiveRate in (0, 1)");
+        }
+
+        long bits = (long) Math.ceil(-expectedKeys * Math.log(falsePositiveRate) / (LN2 * LN2));
+        int wordCount = Math.toIntExact(Math.max((bits + 63) >>> 6, 1));
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = (long) wordCount << 6;
+        this.hashCount = (int) Math.max(Math.round((double) bitCount / expectedKeys * LN2), 1);
+    }
+
+    public void put(long key) {
+        long h1 = mix(key);
+        long h2 = Long.rotateLeft(h1, 32) | 1;
+
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = index(h1 + i * h2);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+
+            long current = words.get(word);
+            while ((current & mask) == 0) {
+                long witness = words.compareAndExchange(word, current, current | mask);
+                if (witness == current) {
+                    break;
+                }
+                current = witness;
+            }
+        }
+    }
+
+    public boolean mightContain(long key) {
+        long h1 = mix(key);
+        long h2 = Long.rotateLeft(h1, 32) | 1;
+
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = index(h1 + i * h2);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long bitCount() {
+        return bitCount;
+    }
+
+    public int hashCount() {
+        return hashCount;
+    }
+
+    private long index(long combinedHash) {
+        return (combinedHash & Long.MAX_VALUE) % bitCount;
+    }
+
+    // splitmix64 finalizer: sequential ids must not land on neighbouring bits
+    private static long mix(long key) {
+        long z = key + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
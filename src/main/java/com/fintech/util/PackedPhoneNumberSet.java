@@ -0,0 +1,216 @@
+package com.fintech.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Concurrent set of E.164 phone numbers packed into {@code long}s, stored in an open-addressing
+ * table with linear probing. Lookups never lock; adds and removes claim slots with CAS and only
+ * wait while the table is being resized. Costs 8 bytes per slot instead of a {@code String} plus a
+ * hash-map node per number. The table is sized exactly rather than to a power of two and kept
+ * between 40% and 70% full, so a number costs 11 to 20 bytes; tens of millions fit in a few
+ * hundred megabytes.
+ */
+public class PackedPhoneNumberSet {
+
+    /** Returned by {@link #pack(String)} for numbers that cannot be packed. */
+    public static final long UNPACKABLE = -1L;
+
+    private static final long EMPTY = 0L;
+    private static final long TOMBSTONE = -1L;
+    private static final double MAX_LOAD_FACTOR = 0.7;
+    private static final double RESIZED_LOAD_FACTOR = 0.4;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+    private static final int MAX_DIGITS = 15;
+
+    private final ReadWriteLock resizeLock = new ReentrantReadWriteLock();
+    private final AtomicLong size = new AtomicLong();
+    private final int minimumCapacity;
+    private volatile Table table;
+
+    public PackedPhoneNumberSet(int initialCapacity) {
+        this.minimumCapacity = Math.max(initialCapacity, 16);
+        this.table = new Table(minimumCapacity);
+    }
+
+    /**
+     * Packs {@code +[1-9]\d{1,14}} into its numeric value. The leading digit is never zero, so the
+     * value alone identifies the number. Returns {@link #UNPACKABLE} for anything else.
+     */
+    public static long pack(String phoneNr) {
+        if (phoneNr == null || phoneNr.length() < 3 || phoneNr.length() > MAX_DIGITS + 1
+                || phoneNr.charAt(0) != '+' || phoneNr.charAt(1) == '0') {
+            return UNPACKABLE;
+        }
+
+        long value = 0;
+        for (int i = 1; i < phoneNr.length(); i++) {
+            char c = phoneNr.charAt(i);
+            if (c < '0' || c > '9') {
+                return UNPACKABLE;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    public boolean contains(long key) {
+        checkKey(key);
+        return table.indexOf(key) >= 0;
+    }
+
+    public boolean add(long key) {
+        checkKey(key);
+
+        while (true) {
+            Table current;
+            resizeLock.readLock().lock();
+            try {
+                current = table;
+                if (current.used.get() < current.threshold) {
+                    int result = current.add(key);
+                    if (result != Table.FULL) {
+                        if (result == Table.ADDED) {
+                            size.incrementAndGet();
+                        }
+                        return result == Table.ADDED;
+                    }
+                }
+            } finally {
+                resizeLock.readLock().unlock();
+            }
+            resize(current);
+        }
+    }
+
+    public boolean remove(long key) {
+        checkKey(key);
+
+        resizeLock.readLock().lock();
+        try {
+            if (table.remove(key)) {
+                size.decrementAndGet();
+                return true;
+            }
+            return false;
+        } finally {
+            resizeLock.readLock().unlock();
+        }
+    }
+
+    public long size() {
+        return size.get();
+    }
+
+    public int capacity() {
+        return table.slots.length();
+    }
+
+    private void resize(Table expected) {
+        resizeLock.writeLock().lock();
+        try {
+            if (table != expected) {
+                return;
+            }
+
+            int capacity = (int) Math.min(MAX_CAPACITY,
+                    Math.max(minimumCapacity, (long) Math.ceil(size.get() / RESIZED_LOAD_FACTOR)));
+            Table resized = new Table(capacity);
+            for (int i = 0; i < expected.slots.length(); i++) {
+                long key = expected.slots.get(i);
+                if (key != EMPTY && key != TOMBSTONE) {
+                    resized.add(key);
+                }
+            }
+            table = resized;
+        } finally {
+            resizeLock.writeLock().unlock();
+        }
+    }
+
+    private static void checkKey(long key) {
+        if (key <= 0) {
+            throw new IllegalArgumentException("Not a packed phone number: " + key);
+        }
+    }
+
+    private static int hash(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        return (int) key;
+    }
+
+    private static final class Table {
+
+        private static final int ADDED = 0;
+        private static final int PRESENT = 1;
+        private static final int FULL = 2;
+
+        private final AtomicLongArray slots;
+        private final AtomicInteger used = new AtomicInteger();
+        private final int capacity;
+        private final int threshold;
+
+        private Table(int capacity) {
+            this.slots = new AtomicLongArray(capacity);
+            this.capacity = capacity;
+            this.threshold = (int) (capacity * MAX_LOAD_FACTOR);
+        }
+
+        // Maps the hash onto any capacity with a multiply, so the table need not be a power of two
+        private int home(long key) {
+            return (int) (((hash(key) & 0xffffffffL) * capacity) >>> 32);
+        }
+
+        private int next(int index) {
+            return index + 1 == capacity ? 0 : index + 1;
+        }
+
+        // Slots only ever move EMPTY -> key -> TOMBSTONE, so concurrent adds of the same key
+        // probe the same sequence and race for the same empty slot
+        private int add(long key) {
+            int index = home(key);
+            for (int probes = 0; probes < capacity; probes++) {
+                long current = slots.get(index);
+                if (current == key) {
+                    return PRESENT;
+                }
+                if (current == EMPTY) {
+                    if (slots.compareAndSet(index, EMPTY, key)) {
+                        used.incrementAndGet();
+                        return ADDED;
+                    }
+                    if (slots.get(index) == key) {
+                        return PRESENT;
+                    }
+                }
+                index = next(index);
+            }
+            return FULL;
+        }
+
+        private boolean remove(long key) {
+            int index = indexOf(key);
+            return index >= 0 && slots.compareAndSet(index, key, TOMBSTONE);
+        }
+
+        private int indexOf(long key) {
+            int index = home(key);
+            for (int probes = 0; probes < capacity; probes++) {
+                long current = slots.get(index);
+                if (current == key) {
+                    return index;
+                }
+                if (current == EMPTY) {
+                    return -1;
+                }
+                index = next(index);
+            }
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.fintech.util;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent loads of the same key into one. The first caller for a key runs the loader
+ * on its own thread; callers arriving while that load is in flight wait up to {@code maxWait} for
+ * its value or exception instead of loading themselves. A caller that gives up waiting runs the
+ * loader on its own. Nothing is kept once a load completes, so this is not a cache.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final long maxWaitNanos;
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+
+    public SingleFlight(Duration maxWait) {
+        this.maxWaitNanos = maxWait.toNanos();
+    }
+
+    public V load(K key, Supplier<V> loader) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> leader = inFlight.putIfAbsent(key, flight);
+        if (leader != null) {
+            return await(key, leader, loader);
+        }
+
+        executed.increment();
+        try {
+            V value = loader.get();
+            flight.complete(value);
+            return value;
+        } catch (Throwable ex) {
+            flight.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * Detaches the load in flight for {@code key}, if any, so that later callers start a new one
+     * instead of sharing a result that may predate a change. Callers already waiting keep waiting.
+     */
+    public void forget(K key) {
+        inFlight.remove(key);
+    }
+
+    public long executedCount() {
+        return executed.sum();
+    }
+
+    public long coalescedCount() {
+        return coalesced.sum();
+    }
+
+    public long timedOutCount() {
+        return timedOut.sum();
+    }
+
+    int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private V await(K key, CompletableFuture<V> leader, Supplier<V> loader) {
+        try {
+            V value = leader.get(maxWaitNanos, TimeUnit.NANOSECONDS);
+            coalesced.increment();
+            return value;
+        } catch (ExecutionException ex) {
+            coalesced.increment();
+            throw rethrow(ex.getCause());
+        } catch (TimeoutException ex) {
+            timedOut.increment();
+            executed.increment();
+            return loader.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the load of " + key, ex);
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(cause);
+    }
+}
@@ -0,0 +1,40 @@
+package com.fintech.web;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Reads the {@code Accept-Encoding} request header. A coding listed with {@code q=0} is refused,
+ * any other q-value accepts it.
+ */
+public final class AcceptEncoding {
+
+    public static final String GZIP = "gzip";
+
+    private AcceptEncoding() {
+    }
+
+    public static boolean currentRequestAllowsGzip() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            return false;
+        }
+
+        return allowsGzip(servletAttributes.getRequest().getHeader(HttpHeaders.ACCEPT_ENCODING));
+    }
+
+    public static boolean allowsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase(GZIP) && !(parts.length > 1 && parts[1].trim().matches("q=0(\\.0*)?"))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,27 @@
+package com.fintech.web;
+
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+/**
+ * Gives a single request a longer async timeout than {@code spring.mvc.async.request-timeout}. A
+ * handler returning a {@code StreamingResponseBody} stores the timeout in {@link #TIMEOUT_ATTRIBUTE},
+ * and it is applied before the async processing starts.
+ */
+public class AsyncRequestTimeoutInterceptor implements CallableProcessingInterceptor {
+
+    public static final String TIMEOUT_ATTRIBUTE = AsyncRequestTimeoutInterceptor.class.getName() + ".timeout";
+
+    @Override
+    public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+        if (request instanceof AsyncWebRequest asyncRequest
+                && request.getAttribute(TIMEOUT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof Duration timeout) {
+            asyncRequest.setTimeout(timeout.toMillis());
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.fintech.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fintech.dto.ErrorResponse;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static com.fintech.exception.ErrorCode.SERVICE_UNAVAILABLE;
+
+/**
+ * Caps the requests in flight. A request that goes async, such as a streamed listing or export,
+ * keeps its permit until the async processing completes, because it keeps reading from the
+ * database. Handlers that park without a connection, like the change-feed long poll, call
+ * {@link #releaseOnAsyncStart()} to give the permit back once they return. Actuator requests
+ * bypass the limit, so health probes keep answering under load.
+ */
+@Slf4j
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final String RELEASE_ON_ASYNC_START_ATTRIBUTE = ConcurrencyLimitFilter.class.getName() + ".releaseOnAsyncStart";
+
+    private final Semaphore permits;
+    private final Duration acquireTimeout;
+    private final ObjectMapper objectMapper;
+    private final String excludedPath;
+
+    public ConcurrencyLimitFilter(int maxConcurrentRequests, Duration acquireTimeout, ObjectMapper objectMapper,
+                                  String excludedPath) {
+        this.permits = new Semaphore(maxConcurrentRequests, true);
+        this.acquireTimeout = acquireTimeout;
+        this.objectMapper = objectMapper;
+        this.excludedPath = excludedPath;
+    }
+
+    public static void releaseOnAsyncStart() {
+        RequestContextHolder.currentRequestAttributes()
+                .setAttribute(RELEASE_ON_ASYNC_START_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+    }
+
+    int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return path.equals(excludedPath) || path.startsWith(excludedPath + "/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!tryAcquire()) {
+            log.warn("Request rejected, concurrency limit reached: {} {}", request.getMethod(), request.getRequestURI());
+            writeServiceUnavailable(response);
+            return;
+        }
+
+        boolean releaseOnComplete = false;
+        try {
+            filterChain.doFilter(request, response);
+            if (request.isAsyncStarted() && request.getAttribute(RELEASE_ON_ASYNC_START_ATTRIBUTE) == null) {
+                request.getAsyncContext().addListener(new PermitReleasingListener());
+                releaseOnComplete = true;
+            }
+        } finally {
+            if (!releaseOnComplete) {
+                permits.release();
+            }
+        }
+    }
+
+    private boolean tryAcquire() {
+        try {
+            return permits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void writeServiceUnavailable(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(),
+                ErrorResponse.of(SERVICE_UNAVAILABLE, "Service is busy, please retry later"));
+    }
+
+    // The container always ends an async cycle with onComplete, also after a timeout or an error
+    private class PermitReleasingListener implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            permits.release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
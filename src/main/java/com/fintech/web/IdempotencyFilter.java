@@ -0,0 +1,278 @@
+package com.fintech.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fintech.dto.ErrorResponse;
+import com.fintech.exception.ErrorCode;
+import com.fintech.idempotency.IdempotencyRecord;
+import com.fintech.idempotency.IdempotencyStore;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.Principal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+
+import static com.fintech.exception.ErrorCode.IDEMPOTENCY_KEY_IN_USE;
+import static com.fintech.exception.ErrorCode.IDEMPOTENCY_KEY_MISMATCH;
+import static com.fintech.exception.ErrorCode.IDEMPOTENT_RESPONSE_NOT_STORED;
+import static com.fintech.exception.ErrorCode.INVALID_REQUEST;
+
+/**
+ * Deduplicates POST retries carrying an {@code Idempotency-Key} header. The first request claims
+ * the key, scoped to the caller and path, and its response is stored unless it failed with a
+ * server error. Retries with the same body get the stored response replayed, decompressed if it
+ * was stored gzip-encoded and the retry does not accept gzip; retries with a different body, or
+ * while the first request is still running, are rejected, as are retries of a request whose
+ * response was too large to store.
+ */
+@Slf4j
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    public static final String IDEMPOTENT_REPLAYED = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyStore store;
+    private final Duration ttl;
+    private final Duration lease;
+    private final ObjectMapper objectMapper;
+
+    public IdempotencyFilter(IdempotencyStore store, Duration ttl, Duration lease, ObjectMapper objectMapper) {
+        this.store = store;
+        this.ttl = ttl;
+        this.lease = lease;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod()) || request.getHeader(IDEMPOTENCY_KEY) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY);
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            writeError(response, HttpStatus.BAD_REQUEST, INVALID_REQUEST,
+                    IDEMPOTENCY_KEY + " must be between 1 and " + MAX_KEY_LENGTH + " characters");
+            return;
+        }
+
+        byte[] body = request.getInputStream().readAllBytes();
+        String fingerprint = fingerprint(body);
+        String key = scopedKey(request, idempotencyKey);
+
+        // Whole seconds, so the lease compares equal once stored in a TIMESTAMP column
+        LocalDateTime leaseExpiresAt = LocalDateTime.now().plus(lease).truncatedTo(ChronoUnit.SECONDS);
+        Optional<IdempotencyRecord> existing = store.claim(key, fingerprint, leaseExpiresAt);
+        if (existing.isPresent()) {
+            handleRetry(existing.get(), fingerprint, idempotencyKey, request, response);
+            return;
+        }
+
+        ContentCachingResponseWrapper cachingResponse = new ContentCachingResponseWrapper(response);
+        boolean completed = false;
+        try {
+            filterChain.doFilter(new CachedBodyRequest(request, body), cachingResponse);
+            if (cachingResponse.getStatus() < HttpStatus.INTERNAL_SERVER_ERROR.value()) {
+                completed = complete(key, fingerprint, cachingResponse);
+            }
+        } finally {
+            if (!completed) {
+                store.release(key, fingerprint, leaseExpiresAt);
+            }
+            cachingResponse.copyBodyToResponse();
+        }
+    }
+
+    private void handleRetry(IdempotencyRecord record, String fingerprint, String idempotencyKey,
+                             HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (!record.fingerprint().equals(fingerprint)) {
+            log.warn("Idempotency key reused with a different body: {}", idempotencyKey);
+            writeError(response, HttpStatus.UNPROCESSABLE_ENTITY, IDEMPOTENCY_KEY_MISMATCH,
+                    IDEMPOTENCY_KEY + " was already used with a different request body");
+            return;
+        }
+        if (!record.isCompleted()) {
+            writeError(response, HttpStatus.CONFLICT, IDEMPOTENCY_KEY_IN_USE,
+                    "A request with this " + IDEMPOTENCY_KEY + " is still in progress, please retry later");
+            return;
+        }
+
+        if (record.isBodyOmitted()) {
+            setHeaderIfPresent(response, HttpHeaders.LOCATION, record.location());
+            writeError(response, HttpStatus.CONFLICT, IDEMPOTENT_RESPONSE_NOT_STORED,
+                    "A request with this " + IDEMPOTENCY_KEY + " already completed with status " + record.status()
+                            + ", but its response was too large to store for replay");
+            return;
+        }
+
+        log.debug("Replaying stored response for idempotency key: {}", idempotencyKey);
+        response.setStatus(record.status());
+        setHeaderIfPresent(response, HttpHeaders.CONTENT_TYPE, record.contentType());
+        setHeaderIfPresent(response, HttpHeaders.VARY, record.vary());
+        setHeaderIfPresent(response, HttpHeaders.LOCATION, record.location());
+        setHeaderIfPresent(response, HttpHeaders.ETAG, record.eTag());
+        response.setHeader(IDEMPOTENT_REPLAYED, "true");
+
+        byte[] body = record.body();
+        if (AcceptEncoding.GZIP.equalsIgnoreCase(record.contentEncoding())
+                && !AcceptEncoding.allowsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+            body = gunzip(body);
+        } else {
+            setHeaderIfPresent(response, HttpHeaders.CONTENT_ENCODING, record.contentEncoding());
+        }
+        if (body != null) {
+            response.setContentLength(body.length);
+            response.getOutputStream().write(body);
+        }
+    }
+
+    // A response that cannot be stored is still sent; the key is released so a retry runs again
+    private boolean complete(String key, String fingerprint, ContentCachingResponseWrapper response) {
+        try {
+            store.complete(key, new IdempotencyRecord(
+                    fingerprint,
+                    response.getStatus(),
+                    response.getContentType(),
+                    response.getHeader(HttpHeaders.CONTENT_ENCODING),
+                    joinedHeader(response, HttpHeaders.VARY),
+                    response.getHeader(HttpHeaders.LOCATION),
+                    response.getHeader(HttpHeaders.ETAG),
+                    response.getContentAsByteArray(),
+                    LocalDateTime.now().plus(ttl)));
+            return true;
+        } catch (RuntimeException ex) {
+            log.warn("Failed to store idempotent response: {}", ex.getMessage());
+            return false;
+        }
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, ErrorCode errorCode, String message)
+            throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ErrorResponse.of(errorCode, message));
+    }
+
+    private static void setHeaderIfPresent(HttpServletResponse response, String name, String value) {
+        if (value != null) {
+            response.setHeader(name, value);
+        }
+    }
+
+    private static String joinedHeader(HttpServletResponse response, String name) {
+        Collection<String> values = response.getHeaders(name);
+        return values.isEmpty() ? null : String.join(", ", values);
+    }
+
+    private static byte[] gunzip(byte[] body) throws IOException {
+        if (body == null) {
+            return null;
+        }
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return input.readAllBytes();
+        }
+    }
+
+    private static String scopedKey(HttpServletRequest request, String idempotencyKey) {
+        Principal principal = request.getUserPrincipal();
+        String caller = principal == null ? "" : principal.getName();
+        return caller + ' ' + request.getRequestURI() + ' ' + idempotencyKey;
+    }
+
+    private static String fingerprint(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+
+    // The body was consumed for the fingerprint, so it is served again from memory
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return input.read(buffer, offset, length);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                // The whole body is in memory, so it can be read at once
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    try {
+                        if (!isFinished()) {
+                            listener.onDataAvailable();
+                        }
+                        if (isFinished()) {
+                            listener.onAllDataRead();
+                        }
+                    } catch (IOException ex) {
+                        listener.onError(ex);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding);
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.fintech.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fintech.dto.AccountResponse;
+import com.fintech.event.AccountChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * JSON of recently written account responses, kept in direct buffers outside the heap, optionally
+ * with a gzip variant. The buffers of an evicted entry are only released once the garbage
+ * collector finds them unreachable, so direct memory in use can exceed the configured maximum
+ * between collections; {@code -XX:MaxDirectMemorySize} is the hard limit. An entry is only used for a response equal to the one it was serialized
+ * from, so a changed account is never answered with old bytes, whether or not its entry has been
+ * invalidated yet. Committed changes still invalidate the entry to free the space early.
+ */
+public class SerializedAccountCache {
+
+    public static final String CACHE_NAME = "account-responses";
+
+    private static final int ENTRY_OVERHEAD = 256;
+
+    private final Cache<Long, SerializedAccount> entries;
+    private final ObjectWriter writer;
+    private final boolean compression;
+
+    /**
+     * @param compression whether every entry also gets a gzip variant
+     */
+    public SerializedAccountCache(ObjectMapper objectMapper, long maximumBytes, boolean compression,
+                                  MeterRegistry meterRegistry) {
+        this.writer = objectMapper.writerFor(AccountResponse.class);
+        this.compression = compression;
+        this.entries = Caffeine.newBuilder()
+                .maximumWeight(maximumBytes)
+                .weigher((Long id, SerializedAccount entry) -> entry.weight())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, entries, CACHE_NAME);
+    }
+
+    public SerializedAccount get(AccountResponse response) throws IOException {
+        SerializedAccount entry = entries.getIfPresent(response.getId());
+        if (entry != null && entry.isFor(response)) {
+            return entry;
+        }
+
+        entry = serialize(response);
+        entries.put(response.getId(), entry);
+        return entry;
+    }
+
+    public boolean compresses() {
+        return compression;
+    }
+
+    /**
+     * Whether a client that does or does not accept gzip gets the gzip variant. Depends on the
+     * configuration and the request only, so the ETag can be chosen without serializing the body.
+     */
+    public boolean usesGzip(boolean acceptsGzip) {
+        return compression && acceptsGzip;
+    }
+
+    public void invalidate(Long id) {
+        entries.invalidate(id);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAccountChanged(AccountChangedEvent event) {
+        invalidate(event.getAccountId());
+    }
+
+    long size() {
+        return entries.estimatedSize();
+    }
+
+    private SerializedAccount serialize(AccountResponse response) throws IOException {
+        byte[] json = writer.writeValueAsBytes(response);
+        return new SerializedAccount(response, toDirect(json), compression ? toDirect(gzip(json)) : null);
+    }
+
+    private static byte[] gzip(byte[] json) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(json.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(json);
+        }
+        return compressed.toByteArray();
+    }
+
+    private static ByteBuffer toDirect(byte[] bytes) {
+        return ByteBuffer.allocateDirect(bytes.length).put(bytes).flip().asReadOnlyBuffer();
+    }
+
+    /**
+     * Buffers are shared between requests, so readers must work on a {@link ByteBuffer#duplicate()}.
+     */
+    public record SerializedAccount(AccountResponse source, ByteBuffer json, ByteBuffer gzip) {
+
+        boolean isFor(AccountResponse response) {
+            return source == response || source.equals(response);
+        }
+
+        int weight() {
+            return ENTRY_OVERHEAD + json.capacity() + (gzip == null ? 0 : gzip.capacity());
+        }
+    }
+}
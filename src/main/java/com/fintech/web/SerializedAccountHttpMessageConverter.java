@@ -0,0 +1,66 @@
+package com.fintech.web;
+
+import com.fintech.dto.AccountResponse;
+import com.fintech.web.SerializedAccountCache.SerializedAccount;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+
+/**
+ * Writes {@link AccountResponse} bodies from the {@link SerializedAccountCache}, so a response for
+ * an unchanged account is neither mapped nor serialized again. Registered ahead of the Jackson
+ * converter and only used for writing. The response stream is wrapped by the security and async
+ * request handling, which must see every write, so the bytes are copied once from the direct
+ * buffer into it rather than handed to the connector directly. Whether the gzip variant is used
+ * is decided by {@link SerializedAccountCache#usesGzip(boolean)}, the same check that gives the
+ * response its ETag.
+ */
+public class SerializedAccountHttpMessageConverter extends AbstractHttpMessageConverter<AccountResponse> {
+
+    private final SerializedAccountCache cache;
+
+    public SerializedAccountHttpMessageConverter(SerializedAccountCache cache) {
+        super(MediaType.APPLICATION_JSON);
+        this.cache = cache;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return AccountResponse.class == clazz;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected AccountResponse readInternal(Class<? extends AccountResponse> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Account responses are only written", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(AccountResponse response, HttpOutputMessage outputMessage) throws IOException {
+        SerializedAccount serialized = cache.get(response);
+        HttpHeaders headers = outputMessage.getHeaders();
+
+        ByteBuffer body = serialized.json();
+        if (cache.compresses()) {
+            headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if (cache.usesGzip(AcceptEncoding.currentRequestAllowsGzip())) {
+                headers.set(HttpHeaders.CONTENT_ENCODING, AcceptEncoding.GZIP);
+                body = serialized.gzip();
+            }
+        }
+        headers.setContentLength(body.capacity());
+
+        Channels.newChannel(outputMessage.getBody()).write(body.duplicate());
+    }
+}
@@ -0,0 +1,4 @@
+-- InnoDB secondary indexes end in the primary key, so an equality on deleted_time (the status filter) reads rows in id
+-- order. Time ranges are read through the index and the matches sorted by id.
+CREATE INDEX idx_account_deleted_time ON account (deleted_time);
+CREATE INDEX idx_account_created_time ON account (created_time);
@@ -0,0 +1,10 @@
+-- Account change events written in the same transaction as the change and drained by the outbox relay
+CREATE TABLE account_outbox
+(
+    id           BIGINT      NOT NULL AUTO_INCREMENT,
+    account_id   BIGINT      NOT NULL,
+    event_type   VARCHAR(20) NOT NULL,
+    payload      TEXT        NOT NULL,
+    created_time TIMESTAMP   NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT pk_account_outbox PRIMARY KEY (id)
+);
@@ -0,0 +1,3 @@
+-- Change feed keyset: (modified_time, id) > (:modifiedTime, :id) ORDER BY modified_time, id.
+-- Also serves the modified-time range filter of the account listing.
+CREATE INDEX idx_account_modified_time_id ON account (modified_time, id);
@@ -0,0 +1,2 @@
+-- Optimistic locking version, also served as the account ETag
+ALTER TABLE account ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,16 @@
+-- Responses stored per Idempotency-Key and replayed to retries; status 0 marks a request still in progress
+CREATE TABLE idempotency_key
+(
+    idempotency_key VARCHAR(512)  NOT NULL,
+    fingerprint     CHAR(64)      NOT NULL,
+    status          SMALLINT      NOT NULL,
+    content_type    VARCHAR(255)  NULL,
+    location        VARCHAR(2048) NULL,
+    etag            VARCHAR(255)  NULL,
+    body            LONGBLOB      NULL,
+    expires_at      TIMESTAMP     NOT NULL,
+    created_time    TIMESTAMP     NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT pk_idempotency_key PRIMARY KEY (idempotency_key)
+);
+
+CREATE INDEX idx_idempotency_key_expires_at ON idempotency_key (expires_at);
@@ -0,0 +1,10 @@
+-- Names the one instance allowed to run the outbox relay until expires_time, timed by the database clock
+CREATE TABLE account_outbox_lease
+(
+    name         VARCHAR(64)  NOT NULL,
+    owner        VARCHAR(64)  NULL,
+    expires_time DATETIME(6)  NOT NULL,
+    CONSTRAINT pk_account_outbox_lease PRIMARY KEY (name)
+);
+
+INSERT INTO account_outbox_lease (name, owner, expires_time) VALUES ('relay', NULL, '2000-01-01 00:00:00');
@@ -0,0 +1,4 @@
+-- A stored gzip body is replayed with its Content-Encoding and Vary, or decoded for a client that does not accept gzip
+ALTER TABLE idempotency_key ADD COLUMN content_encoding VARCHAR(64) NULL;
+
+ALTER TABLE idempotency_key ADD COLUMN vary VARCHAR(255) NULL;
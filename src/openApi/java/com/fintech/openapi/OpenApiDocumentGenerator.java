@@ -0,0 +1,49 @@
+package com.fintech.openapi;
+
+import com.fintech.AccountManagementApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Boots the application on an embedded database and writes the OpenAPI document springdoc
+ * generates to the path given as the only argument. Run by the {@code generateOpenApiDocs} task
+ * for fast-startup builds, so the fast-startup profile can serve the document as a static
+ * resource instead of scanning the controllers at runtime.
+ */
+public final class OpenApiDocumentGenerator {
+
+    private OpenApiDocumentGenerator() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path output = Path.of(args[0]);
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(AccountManagementApplication.class)
+                .profiles("openapi")
+                .run("--springdoc.writer-with-order-by-keys=true",
+                        "--springdoc.writer-with-default-pretty-printer=true")) {
+            Environment environment = context.getEnvironment();
+            URI uri = URI.create("http://localhost:" + environment.getProperty("local.server.port")
+                    + environment.getProperty("server.servlet.context-path", "") + "/v3/api-docs");
+
+            HttpResponse<byte[]> response;
+            try (HttpClient client = HttpClient.newHttpClient()) {
+                response = client.send(HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.ofByteArray());
+            }
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("GET " + uri + " returned " + response.statusCode());
+            }
+
+            Files.createDirectories(output.getParent());
+            Files.write(output, response.body());
+        }
+    }
+}
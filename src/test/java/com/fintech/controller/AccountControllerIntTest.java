@@ -1,6 +1,18 @@
 package com.fintech.controller;
 
+import com.fintech.config.AccountBatchProperties;
+import com.fintech.dto.AccountBatchItemResponse;
+import com.fintech.dto.AccountBatchResponse;
+import com.fintech.dto.AccountBulkDeleteRequest;
+import com.fintech.dto.AccountBulkFilter;
+import com.fintech.dto.AccountBulkJobResponse;
+import com.fintech.dto.AccountBulkUpdateRequest;
+import com.fintech.dto.AccountChangesResponse;
 import com.fintech.dto.AccountCreateRequest;
+import com.fintech.dto.AccountLookupItemResponse;
+import com.fintech.dto.AccountLookupRequest;
+import com.fintech.dto.AccountLookupResponse;
+import com.fintech.dto.AccountPageResponse;
 import com.fintech.dto.AccountResponse;
 import com.fintech.dto.AccountUpdateRequest;
 import com.fintech.dto.ErrorResponse;
@@ -10,15 +22,27 @@ import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static com.fintech.exception.ErrorCode.*;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 
 @DisplayName("AccountController Integration Tests")
 class AccountControllerIntTest extends BaseIntegrationTest {
@@ -37,6 +61,9 @@ class AccountControllerIntTest extends BaseIntegrationTest {
     @Autowired
     private AccountRepository accountRepository;
 
+    @Autowired
+    private AccountBatchProperties batchProperties;
+
     private String accountsUrl;
 
     @BeforeEach
@@ -133,6 +160,82 @@ class AccountControllerIntTest extends BaseIntegrationTest {
 
             assertThat(accountRepository.count()).isEqualTo(1);
         }
+
+        @Test
+        @DisplayName("should_createExactlyOneAccount_when_samePhoneNumberCreatedConcurrently")
+        void should_createExactlyOneAccount_when_samePhoneNumberCreatedConcurrently() throws Exception {
+            accountRepository.deleteAll();
+
+            HttpEntity<AccountCreateRequest> entity = new HttpEntity<>(new AccountCreateRequest(JOHN_DOE_NAME, VALID_PHONE), headers);
+            List<Callable<HttpStatusCode>> creates = Collections.nCopies(8, () -> restTemplate.exchange(
+                    accountsUrl, HttpMethod.POST, entity, String.class).getStatusCode());
+
+            List<HttpStatusCode> statuses = new ArrayList<>();
+            try (ExecutorService executor = Executors.newFixedThreadPool(creates.size())) {
+                for (Future<HttpStatusCode> status : executor.invokeAll(creates)) {
+                    statuses.add(status.get());
+                }
+            }
+
+            assertThat(statuses).filteredOn(HttpStatus.CREATED::equals).hasSize(1);
+            assertThat(statuses).filteredOn(HttpStatus.BAD_REQUEST::equals).hasSize(creates.size() - 1);
+            assertThat(accountRepository.count()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /api/accounts/batch - Create Accounts In Batch")
+    class CreateAccountsBatchTests {
+
+        @Test
+        @DisplayName("should_createValidAccountsAndReportDuplicates_when_batchProvided")
+        void should_createValidAccountsAndReportDuplicates_when_batchProvided() {
+            accountRepository.deleteAll();
+
+            createAccountViaApi(JOHN_DOE_NAME, VALID_PHONE);
+
+            List<AccountCreateRequest> request = List.of(
+                    new AccountCreateRequest(JANE_SMITH_NAME, ANOTHER_VALID_PHONE),
+                    new AccountCreateRequest(JANE_SMITH_NAME, ANOTHER_VALID_PHONE),
+                    new AccountCreateRequest(JANE_SMITH_NAME, VALID_PHONE),
+                    new AccountCreateRequest(JANE_SMITH_NAME, null));
+            HttpEntity<List<AccountCreateRequest>> entity = new HttpEntity<>(request, headers);
+
+            ResponseEntity<AccountBatchResponse> response = restTemplate.exchange(
+                    accountsUrl + "/batch", HttpMethod.POST, entity, AccountBatchResponse.class);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody()).isNotNull();
+            assertThat(response.getBody().getCreatedCount()).isEqualTo(2);
+            assertThat(response.getBody().getFailedCount()).isEqualTo(2);
+            assertThat(response.getBody().getResults())
+                    .extracting(AccountBatchItemResponse::getStatus)
+                    .containsExactly(AccountBatchItemResponse.Status.CREATED, AccountBatchItemResponse.Status.FAILED,
+                            AccountBatchItemResponse.Status.FAILED, AccountBatchItemResponse.Status.CREATED);
+            assertThat(response.getBody().getResults().get(0).getAccount().getId()).isNotNull();
+
+            assertThat(accountRepository.count()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("should_createEveryAccount_when_batchHasMaximumSize")
+        void should_createEveryAccount_when_batchHasMaximumSize() {
+            accountRepository.deleteAll();
+
+            List<AccountCreateRequest> request = new ArrayList<>();
+            for (int i = 0; i < batchProperties.getMaxSize(); i++) {
+                request.add(new AccountCreateRequest(JOHN_DOE_NAME, "+1" + (1_000_000_000L + i)));
+            }
+            HttpEntity<List<AccountCreateRequest>> entity = new HttpEntity<>(request, headers);
+
+            ResponseEntity<AccountBatchResponse> response = restTemplate.exchange(
+                    accountsUrl + "/batch", HttpMethod.POST, entity, AccountBatchResponse.class);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody()).isNotNull();
+            assertThat(response.getBody().getCreatedCount()).isEqualTo(batchProperties.getMaxSize());
+            assertThat(accountRepository.count()).isEqualTo(batchProperties.getMaxSize());
+        }
     }
 
     @Nested
@@ -160,6 +263,25 @@ class AccountControllerIntTest extends BaseIntegrationTest {
             assertThat(response.getBody().getIsActive()).isTrue();
         }
 
+        @Test
+        @DisplayName("should_returnNotModified_when_eTagMatches")
+        void should_returnNotModified_when_eTagMatches() {
+            accountRepository.deleteAll();
+
+            AccountResponse createdAccount = createAccountViaApi(JOHN_DOE_NAME, VALID_PHONE);
+            ResponseEntity<AccountResponse> first = restTemplate.getForEntity(
+                    accountsUrl + "/" + createdAccount.getId(), AccountResponse.class);
+
+            HttpHeaders conditional = new HttpHeaders();
+            conditional.setIfNoneMatch(first.getHeaders().getETag());
+            ResponseEntity<String> second = restTemplate.exchange(
+                    accountsUrl + "/" + createdAccount.getId(), HttpMethod.GET, new HttpEntity<>(conditional), String.class);
+
+            assertThat(first.getHeaders().getETag()).isEqualTo("\"0\"");
+            assertThat(second.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+            assertThat(second.getBody()).isNull();
+        }
+
         @Test
         @DisplayName("should_returnNotFound_when_accountDoesNotExist")
         void should_returnNotFound_when_accountDoesNotExist() {
@@ -180,6 +302,195 @@ class AccountControllerIntTest extends BaseIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("POST /api/accounts/lookup - Look Up Accounts")
+    class LookupAccountsTests {
+
+        @Test
+        @DisplayName("should_returnAccountsInRequestOrder_when_someIdsDoNotExist")
+        void should_returnAccountsInRequestOrder_when_someIdsDoNotExist() {
+            accountRepository.deleteAll();
+
+            AccountResponse john = createAccountViaApi(JOHN_DOE_NAME, VALID_PHONE);
+            AccountResponse jane = createAccountViaApi(JANE_SMITH_NAME, ANOTHER_VALID_PHONE);
+            restTemplate.exchange(accountsUrl + "/" + jane.getId(), HttpMethod.DELETE, null, Void.class);
+
+            AccountLookupRequest request = new AccountLookupRequest(List.of(NON_EXISTENT_ID, john.getId(), jane.getId()));
+            HttpEntity<AccountLookupRequest> entity = new HttpEntity<>(request, headers);
+
+            ResponseEntity<AccountLookupResponse> response = restTemplate.exchange(
+                    accountsUrl + "/lookup", HttpMethod.POST, entity, AccountLookupResponse.class);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody()).isNotNull();
+            assertThat(response.getBody().getResults()).extracting(AccountLookupItemResponse::getId)
+                    .containsExactly(NON_EXISTENT_ID, john.getId(), jane.getId());
+            assertThat(response.getBody().getResults()).extracting(AccountLookupItemResponse::isFound)
+                    .containsExactly(false, true, false);
+            assertThat(response.getBody().getResults().get(1).getAccount().getName()).isEqualTo(JOHN_DOE_NAME);
+        }
+
+        @Test
+        @DisplayName("should_returnBadRequest_when_idsAreEmpty")
+        void should_returnBadRequest_when_idsAreEmpty() {
+            AccountLookupRequest request = new AccountLookupRequest(List.of());
+            HttpEntity<AccountLookupRequest> entity = new HttpEntity<>(request, headers);
+
+            ResponseEntity<ErrorResponse> response = restTemplate.exchange(
+                    accountsUrl + "/lookup", HttpMethod.POST, entity, ErrorResponse.class);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+            assertThat(response.getBody()).isNotNull();
+            assertThat(response.getBody().getErrorCode()).isEqualTo(VALIDATION_FAILED);
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/accounts - List Accounts")
+    class ListAccountsTests {
+
+        @Test
+        @DisplayName("should_pageThroughAccounts_when_cursorFollowed")
+        void should_pageThroughAccounts_when_cursorFollowed() {
+            accountRepository.deleteAll();
+
+            AccountResponse john = createAccountViaApi(JOHN_DOE_NAME, VALID_PHONE);
+            AccountResponse jane = createAccountViaApi(JANE_SMITH_NAME, ANOTHER_VALID_PHONE);
+
+            ResponseEntity<AccountPageResponse> firstPage = restTemplate.getForEntity(
+                    accountsUrl + "?limit=1", AccountPageResponse.class);
+
+            assertThat(firstPage.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(firstPage.getBody()).isNotNull();
+            assertThat(firstPage.getBody().getItems()).extracting(AccountResponse::getId).containsExactly(john.getId());
+            assertThat(firstPage.getBody().getNextCursor()).isEqualTo(john.getId());
+
+            ResponseEntity<AccountPageResponse> secondPage = restTemplate.getForEntity(
+                    accountsUrl + "?limit=1&afterId=" + firstPage.getBody().getNextCursor(), AccountPageResponse.class);
+
+            assertThat(secondPage.getBody()).isNotNull();
+            assertThat(secondPage.getBody().getItems()).extracting(AccountResponse::getId).containsExactly(jane.getId());
+        }
+
+        @Test
+        @DisplayName("should_returnOnlyDeletedAccounts_when_deletedStatusRequested")
+        void should_returnOnlyDeletedAccounts_when_deletedStatusRequested() {
+            accountRepository.deleteAll();
+
+            createAccountViaApi(JOHN_DOE_NAME, VALID_PHONE);
+            AccountResponse jane = createAccountViaApi(JANE_SMITH_NAME, ANOTHER_VALID_PHONE);
+            restTemplate.exchange(accountsUrl + "/" + jane.getId(), HttpMethod.DELETE, null, Void.class);
+
+            ResponseEntity<AccountPageResponse> response = restTemplate.getForEntity(
+                    accountsUrl + "?status=DELETED", AccountPageResponse.class);
+
+            assertThat(response.getBody()).isNotNull();
+            assertThat(response.getBody().getItems()).extracting(AccountResponse::getId).containsExactly(jane.getId());
+            assertThat(response.getBody().getNextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("should_returnBadRequest_when_limitTooLarge")
+        void should_returnBadRequest_when_limitTooLarge() {
+            ResponseEntity<ErrorResponse> response = restTemplate.getForEntity(
+                    accountsUrl + "?limit=100000", ErrorResponse.class);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+            assertThat(response.getBody()).isNotNull();
+            assertThat(response.getBody().getErrorCode()).isEqualTo(VALIDATION_FAILED);
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/accounts/export - Export Accounts")
+    class ExportAccountsTests {
+
+        @Test
+        @DisplayName("should_streamAccountsAsNdjson_when_resumingFromLastSeenId")
+        void should_streamAccountsAsNdjson_when_resumingFromLastSeenId() {
+            accountRepository.deleteAll();
+
+            AccountResponse john = createAccountViaApi(JOHN_DOE_NAME, VALID_PHONE);
+            AccountResponse jane = createAccountViaApi(JANE_SMITH_NAME, ANOTHER_VALID_PHONE);
+
+            ResponseEntity<String> fullExport = restTemplate.getForEntity(accountsUrl + "/export", String.class);
+            ResponseEntity<String> resumedExport = restTemplate.getForEntity(
+                    accountsUrl + "/export?afterId=" + john.getId(), String.class);
+
+            assertThat(fullExport.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(fullExport.getBody()).isNotNull();
+            assertThat(fullExport.getBody().lines()).hasSize(2);
+            assertThat(resumedExport.getBody()).isNotNull();
+            assertThat(resumedExport.getBody().lines()).singleElement()
+                    .asString().contains("\"id\":" + jane.getId());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/accounts/changes - Get Account Changes")
+    class AccountChangesTests {
+
+        @Test
+        @DisplayName("should_returnUpdatedAndDeletedAccounts_when_followingWatermark")
+        void should_returnUpdatedAndDeletedAccounts_when_followingWatermark() {
+            accountRepository.deleteAll();
+
+            AccountResponse john = createAccountViaApi(JOHN_DOE_NAME, VALID_PHONE);
+            AccountResponse jane = createAccountViaApi(JANE_SMITH_NAME, ANOTHER_VALID_PHONE);
+
+            // A long poll answers once the first change has settled, which can be before the second one has
+            ResponseEntity<AccountChangesResponse> created = await().atMost(Duration.ofSeconds(5)).until(
+                    () -> restTemplate.getForEntity(accountsUrl + "/changes?waitSeconds=5", AccountChangesResponse.class),
+                    response -> response.getBody() != null && response.getBody().getItems().size() >= 2);
+
+            assertThat(created.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(created.getBody()).isNotNull();
+            assertThat(created.getBody().getItems()).extracting(AccountResponse::getId)
+                    .containsExactly(john.getId(), jane.getId());
+
+            restTemplate.exchange(accountsUrl + "/" + jane.getId(), HttpMethod.DELETE, null, Void.class);
+
+            ResponseEntity<AccountChangesResponse> deleted = restTemplate.getForEntity(
+                    accountsUrl + "/changes?waitSeconds=5&since=" + created.getBody().getNextWatermark(),
+                    AccountChangesResponse.class);
+
+            assertThat(deleted.getBody()).isNotNull();
+            assertThat(deleted.getBody().getItems()).singleElement()
+                    .satisfies(account -> {
+                        assertThat(account.getId()).isEqualTo(jane.getId());
+                        assertThat(account.getDeletedTime()).isNotNull();
+                    });
+        }
+
+        @Test
+        @DisplayName("should_returnEmptyBatch_when_waitElapsesWithoutChanges")
+        void should_returnEmptyBatch_when_waitElapsesWithoutChanges() {
+            accountRepository.deleteAll();
+
+            ResponseEntity<AccountChangesResponse> first = restTemplate.getForEntity(
+                    accountsUrl + "/changes", AccountChangesResponse.class);
+            ResponseEntity<AccountChangesResponse> second = restTemplate.getForEntity(
+                    accountsUrl + "/changes?waitSeconds=1&since=" + first.getBody().getNextWatermark(),
+                    AccountChangesResponse.class);
+
+            assertThat(second.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(second.getBody()).isNotNull();
+            assertThat(second.getBody().getItems()).isEmpty();
+            assertThat(second.getBody().getNextWatermark()).isEqualTo(first.getBody().getNextWatermark());
+        }
+
+        @Test
+        @DisplayName("should_returnBadRequest_when_watermarkMalformed")
+        void should_returnBadRequest_when_watermarkMalformed() {
+            ResponseEntity<ErrorResponse> response = restTemplate.getForEntity(
+                    accountsUrl + "/changes?since=not-a-watermark", ErrorResponse.class);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+            assertThat(response.getBody()).isNotNull();
+            assertThat(response.getBody().getErrorCode()).isEqualTo(INVALID_REQUEST);
+        }
+    }
+
     @Nested
     @DisplayName("PATCH /api/accounts/{id} - Update Account")
     class UpdateAccountTests {
@@ -211,6 +522,33 @@ class AccountControllerIntTest extends BaseIntegrationTest {
             assertThat(updatedAccount.getPhoneNr()).isEqualTo(ANOTHER_VALID_PHONE);
         }
 
+        @Test
+        @DisplayName("should_returnNoContentWithETag_when_minimalReturnPreferred")
+        void should_returnNoContentWithETag_when_minimalReturnPreferred() {
+            accountRepository.deleteAll();
+
+            AccountResponse createdAccount = createAccountViaApi(JOHN_DOE_NAME, VALID_PHONE);
+            restTemplate.exchange(accountsUrl + "/" + createdAccount.getId(), HttpMethod.GET,
+                    new HttpEntity<>(headers), AccountResponse.class);
+
+            HttpHeaders minimal = new HttpHeaders();
+            minimal.setContentType(MediaType.APPLICATION_JSON);
+            minimal.set("Prefer", "return=minimal");
+            HttpEntity<AccountUpdateRequest> entity = new HttpEntity<>(new AccountUpdateRequest(JANE_SMITH_NAME, null), minimal);
+
+            ResponseEntity<String> response = restTemplate.exchange(
+                    accountsUrl + "/" + createdAccount.getId(), HttpMethod.PATCH, entity, String.class);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+            assertThat(response.getHeaders().getETag()).isEqualTo("\"1\"");
+            assertThat(response.getHeaders().getFirst("Preference-Applied")).isEqualTo("return=minimal");
+            assertThat(response.getBody()).isNull();
+
+            Account updatedAccount = accountRepository.findById(createdAccount.getId()).orElseThrow();
+            assertThat(updatedAccount.getName()).isEqualTo(JANE_SMITH_NAME);
+            assertThat(updatedAccount.getVersion()).isEqualTo(1L);
+        }
+
         @Test
         @DisplayName("should_returnNotFound_when_accountDoesNotExist")
         void should_returnNotFound_when_accountDoesNotExist() {
@@ -244,6 +582,56 @@ class AccountControllerIntTest extends BaseIntegrationTest {
             assertThat(response.getBody().getMessage())
                     .contains("Invalid phone number format: " + INVALID_PHONE);
         }
+
+        @Test
+        @DisplayName("should_keepBothChanges_when_differentFieldsPatchedConcurrently")
+        void should_keepBothChanges_when_differentFieldsPatchedConcurrently() throws Exception {
+            accountRepository.deleteAll();
+
+            AccountResponse createdAccount = createAccountViaApi(JOHN_DOE_NAME, VALID_PHONE);
+            String accountUrl = accountsUrl + "/" + createdAccount.getId();
+            List<Callable<HttpStatusCode>> updates = List.of(
+                    () -> restTemplate.exchange(accountUrl, HttpMethod.PATCH,
+                            new HttpEntity<>(new AccountUpdateRequest(JANE_SMITH_NAME, null), headers), String.class).getStatusCode(),
+                    () -> restTemplate.exchange(accountUrl, HttpMethod.PATCH,
+                            new HttpEntity<>(new AccountUpdateRequest(null, ANOTHER_VALID_PHONE), headers), String.class).getStatusCode());
+
+            List<HttpStatusCode> statuses = new ArrayList<>();
+            try (ExecutorService executor = Executors.newFixedThreadPool(updates.size())) {
+                for (Future<HttpStatusCode> status : executor.invokeAll(updates)) {
+                    statuses.add(status.get());
+                }
+            }
+
+            assertThat(statuses).containsOnly(HttpStatus.OK);
+            Account updatedAccount = accountRepository.findById(createdAccount.getId()).orElseThrow();
+            assertThat(updatedAccount.getName()).isEqualTo(JANE_SMITH_NAME);
+            assertThat(updatedAccount.getPhoneNr()).isEqualTo(ANOTHER_VALID_PHONE);
+            assertThat(updatedAccount.getVersion()).isEqualTo(2L);
+        }
+
+        @Test
+        @DisplayName("should_returnPreconditionFailed_when_ifMatchIsStale")
+        void should_returnPreconditionFailed_when_ifMatchIsStale() {
+            accountRepository.deleteAll();
+
+            AccountResponse createdAccount = createAccountViaApi(JOHN_DOE_NAME, VALID_PHONE);
+            HttpHeaders conditional = new HttpHeaders();
+            conditional.setContentType(MediaType.APPLICATION_JSON);
+            conditional.setIfMatch("\"0\"");
+
+            ResponseEntity<AccountResponse> first = restTemplate.exchange(accountsUrl + "/" + createdAccount.getId(),
+                    HttpMethod.PATCH, new HttpEntity<>(new AccountUpdateRequest(JANE_SMITH_NAME, null), conditional), AccountResponse.class);
+            ResponseEntity<ErrorResponse> second = restTemplate.exchange(accountsUrl + "/" + createdAccount.getId(),
+                    HttpMethod.PATCH, new HttpEntity<>(new AccountUpdateRequest(JOHN_DOE_NAME, null), conditional), ErrorResponse.class);
+
+            assertThat(first.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(first.getHeaders().getETag()).isEqualTo("\"1\"");
+            assertThat(second.getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED);
+            assertThat(second.getBody()).isNotNull();
+            assertThat(second.getBody().getErrorCode()).isEqualTo(PRECONDITION_FAILED);
+            assertThat(accountRepository.findById(createdAccount.getId()).orElseThrow().getName()).isEqualTo(JANE_SMITH_NAME);
+        }
     }
 
     @Nested
@@ -286,6 +674,135 @@ class AccountControllerIntTest extends BaseIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("POST /accounts/bulk-delete and /accounts/bulk-update - Bulk Changes")
+    class BulkChangeTests {
+
+        @Test
+        @DisplayName("should_softDeleteAccounts_when_idsGiven")
+        void should_softDeleteAccounts_when_idsGiven() {
+            accountRepository.deleteAll();
+
+            AccountResponse first = createAccountViaApi(JOHN_DOE_NAME, VALID_PHONE);
+            AccountResponse second = createAccountViaApi(JANE_SMITH_NAME, ANOTHER_VALID_PHONE);
+            AccountBulkDeleteRequest request = new AccountBulkDeleteRequest(List.of(first.getId(), second.getId(), NON_EXISTENT_ID), null);
+
+            ResponseEntity<AccountBulkJobResponse> response = restTemplate.exchange(accountsUrl + "/bulk-delete",
+                    HttpMethod.POST, new HttpEntity<>(request, headers), AccountBulkJobResponse.class);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody()).isNotNull();
+            assertThat(response.getBody().getStatus()).isEqualTo(AccountBulkJobResponse.Status.COMPLETED);
+            assertThat(response.getBody().getAffected()).isEqualTo(2);
+            assertThat(response.getBody().getSkipped()).isEqualTo(1);
+
+            assertThat(accountRepository.findById(first.getId())).isEmpty();
+            assertThat(accountRepository.findById(second.getId())).isEmpty();
+
+            ResponseEntity<AccountBulkJobResponse> job = restTemplate.exchange(
+                    accountsUrl + "/bulk-jobs/" + response.getBody().getId(), HttpMethod.GET, null, AccountBulkJobResponse.class);
+            assertThat(job.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(job.getBody()).isNotNull();
+            assertThat(job.getBody().getProcessed()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("should_renameAccountsAndBumpVersion_when_filterGiven")
+        void should_renameAccountsAndBumpVersion_when_filterGiven() {
+            accountRepository.deleteAll();
+
+            AccountResponse created = createAccountViaApi(JOHN_DOE_NAME, VALID_PHONE);
+            AccountBulkFilter filter = AccountBulkFilter.builder().createdTo(LocalDateTime.now().plusMinutes(1)).build();
+            AccountBulkUpdateRequest request = new AccountBulkUpdateRequest(null, filter, JANE_SMITH_NAME);
+
+            ResponseEntity<AccountBulkJobResponse> response = restTemplate.exchange(accountsUrl + "/bulk-update",
+                    HttpMethod.POST, new HttpEntity<>(request, headers), AccountBulkJobResponse.class);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+            assertThat(response.getHeaders().getLocation()).isNotNull();
+
+            await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
+                Account account = accountRepository.findById(created.getId()).orElseThrow();
+                assertThat(account.getName()).isEqualTo(JANE_SMITH_NAME);
+                assertThat(account.getVersion()).isEqualTo(1L);
+            });
+        }
+
+        @Test
+        @DisplayName("should_returnBadRequest_when_noTargetGiven")
+        void should_returnBadRequest_when_noTargetGiven() {
+            ResponseEntity<ErrorResponse> response = restTemplate.exchange(accountsUrl + "/bulk-delete",
+                    HttpMethod.POST, new HttpEntity<>(new AccountBulkDeleteRequest(), headers), ErrorResponse.class);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+            assertThat(response.getBody()).isNotNull();
+            assertThat(response.getBody().getMessage()).isEqualTo("Exactly one of ids or filter is required");
+        }
+    }
+
+    @Nested
+    @DisplayName("Idempotency-Key")
+    class IdempotencyKeyTests {
+
+        @Test
+        @DisplayName("should_replayResponseWithoutCreating_when_sameKeyRetried")
+        void should_replayResponseWithoutCreating_when_sameKeyRetried() {
+            accountRepository.deleteAll();
+
+            HttpEntity<AccountCreateRequest> entity = new HttpEntity<>(
+                    new AccountCreateRequest(JOHN_DOE_NAME, null), idempotencyHeaders("create-replay"));
+
+            ResponseEntity<AccountResponse> first = restTemplate.exchange(accountsUrl, HttpMethod.POST, entity, AccountResponse.class);
+            ResponseEntity<AccountResponse> retry = restTemplate.exchange(accountsUrl, HttpMethod.POST, entity, AccountResponse.class);
+
+            assertThat(first.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+            assertThat(retry.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+            assertThat(retry.getHeaders().getFirst("Idempotent-Replayed")).isEqualTo("true");
+            assertThat(retry.getHeaders().getETag()).isEqualTo(first.getHeaders().getETag());
+            assertThat(retry.getBody()).isEqualTo(first.getBody());
+            assertThat(accountRepository.count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should_returnUnprocessableEntity_when_keyReusedWithDifferentBody")
+        void should_returnUnprocessableEntity_when_keyReusedWithDifferentBody() {
+            accountRepository.deleteAll();
+
+            HttpHeaders idempotencyHeaders = idempotencyHeaders("create-mismatch");
+            restTemplate.exchange(accountsUrl, HttpMethod.POST,
+                    new HttpEntity<>(new AccountCreateRequest(JOHN_DOE_NAME, null), idempotencyHeaders), AccountResponse.class);
+
+            ResponseEntity<ErrorResponse> response = restTemplate.exchange(accountsUrl, HttpMethod.POST,
+                    new HttpEntity<>(new AccountCreateRequest(JANE_SMITH_NAME, null), idempotencyHeaders), ErrorResponse.class);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+            assertThat(response.getBody()).isNotNull();
+            assertThat(response.getBody().getErrorCode()).isEqualTo(IDEMPOTENCY_KEY_MISMATCH);
+            assertThat(accountRepository.count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should_createTwice_when_keysDiffer")
+        void should_createTwice_when_keysDiffer() {
+            accountRepository.deleteAll();
+
+            AccountCreateRequest request = new AccountCreateRequest(JOHN_DOE_NAME, null);
+            restTemplate.exchange(accountsUrl, HttpMethod.POST,
+                    new HttpEntity<>(request, idempotencyHeaders("create-first")), AccountResponse.class);
+            restTemplate.exchange(accountsUrl, HttpMethod.POST,
+                    new HttpEntity<>(request, idempotencyHeaders("create-second")), AccountResponse.class);
+
+            assertThat(accountRepository.count()).isEqualTo(2);
+        }
+
+        private HttpHeaders idempotencyHeaders(String key) {
+            HttpHeaders idempotencyHeaders = new HttpHeaders();
+            idempotencyHeaders.putAll(headers);
+            idempotencyHeaders.set("Idempotency-Key", key);
+            return idempotencyHeaders;
+        }
+    }
+
     private AccountResponse createAccountViaApi(String name, String phone) {
         AccountCreateRequest request = new AccountCreateRequest(name, phone);
         HttpEntity<AccountCreateRequest> entity = new HttpEntity<>(request, headers);
@@ -0,0 +1,184 @@
+package com.fintech.datasource;
+
+import com.fintech.entity.Account;
+import com.fintech.event.AccountChangedEvent;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.fintech.config.CacheConfig.ACCOUNTS_CACHE;
+import static com.fintech.datasource.ReplicaLagGuard.PRIMARY_READS_COOKIE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReplicaLagGuard Tests")
+class ReplicaLagGuardTest {
+
+    private static final Duration WINDOW = Duration.ofSeconds(5);
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache accountsCache;
+
+    private final AtomicLong now = new AtomicLong(1_000_000);
+    private ReplicaLagGuard lagGuard;
+
+    @BeforeEach
+    void setUp() {
+        lagGuard = new ReplicaLagGuard(WINDOW, cacheManager, now::get);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Nested
+    @DisplayName("Read Your Writes")
+    class ReadYourWritesTests {
+
+        @Test
+        @DisplayName("should_routeOnlyWritingCaller_when_twoCallersShareIdentity")
+        void should_routeOnlyWritingCaller_when_twoCallersShareIdentity() {
+            MockHttpServletResponse writeResponse = new MockHttpServletResponse();
+            enterRequest(new MockHttpServletRequest(), writeResponse);
+            lagGuard.onAccountChanged(changed(1L));
+            Cookie writeToken = writeResponse.getCookie(PRIMARY_READS_COOKIE);
+
+            MockHttpServletRequest writer = new MockHttpServletRequest();
+            writer.setCookies(writeToken);
+            enterRequest(writer, new MockHttpServletResponse());
+            assertThat(lagGuard.isRecentWriter()).isTrue();
+
+            enterRequest(new MockHttpServletRequest(), new MockHttpServletResponse());
+            assertThat(lagGuard.isRecentWriter()).isFalse();
+        }
+
+        @Test
+        @DisplayName("should_readFromReplicaAgain_when_windowPassed")
+        void should_readFromReplicaAgain_when_windowPassed() {
+            MockHttpServletResponse writeResponse = new MockHttpServletResponse();
+            enterRequest(new MockHttpServletRequest(), writeResponse);
+            lagGuard.onAccountChanged(changed(1L));
+
+            MockHttpServletRequest writer = new MockHttpServletRequest();
+            writer.setCookies(writeResponse.getCookie(PRIMARY_READS_COOKIE));
+            enterRequest(writer, new MockHttpServletResponse());
+            now.addAndGet(WINDOW.toMillis());
+
+            assertThat(lagGuard.isRecentWriter()).isFalse();
+        }
+
+        @Test
+        @DisplayName("should_setCookieOnce_when_requestChangesManyAccounts")
+        void should_setCookieOnce_when_requestChangesManyAccounts() {
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            enterRequest(request, response);
+
+            lagGuard.onAccountChanged(changed(1L));
+            lagGuard.onAccountChanged(changed(2L));
+
+            assertThat(response.getHeaders(HttpHeaders.SET_COOKIE)).hasSize(1);
+            assertThat(lagGuard.isRecentWriter()).isTrue();
+        }
+
+        @Test
+        @DisplayName("should_ignoreCookie_when_itOutlastsWindow")
+        void should_ignoreCookie_when_itOutlastsWindow() {
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.setCookies(new Cookie(PRIMARY_READS_COOKIE, Long.toString(Long.MAX_VALUE)));
+            enterRequest(request, new MockHttpServletResponse());
+
+            assertThat(lagGuard.isRecentWriter()).isFalse();
+        }
+
+        @Test
+        @DisplayName("should_notRoutePrimary_when_changeHadNoRequest")
+        void should_notRoutePrimary_when_changeHadNoRequest() {
+            lagGuard.onAccountChanged(changed(1L));
+            enterRequest(new MockHttpServletRequest(), new MockHttpServletResponse());
+
+            assertThat(lagGuard.isRecentWriter()).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("Eviction")
+    class EvictionTests {
+
+        @Test
+        @DisplayName("should_evictAccountsInOnePass_when_windowPassed")
+        void should_evictAccountsInOnePass_when_windowPassed() {
+            when(cacheManager.getCache(ACCOUNTS_CACHE)).thenReturn(accountsCache);
+            for (long id = 1; id <= 1_000; id++) {
+                lagGuard.onAccountChanged(changed(id));
+            }
+
+            lagGuard.evictDue();
+            verifyNoInteractions(accountsCache);
+
+            now.addAndGet(WINDOW.toMillis() + 1_000);
+            lagGuard.evictDue();
+
+            verify(accountsCache, times(1_000)).evict(anyLong());
+            assertThat(lagGuard.pendingEvictionCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("should_evictOnce_when_accountChangedRepeatedlyWithinBucket")
+        void should_evictOnce_when_accountChangedRepeatedlyWithinBucket() {
+            when(cacheManager.getCache(ACCOUNTS_CACHE)).thenReturn(accountsCache);
+            lagGuard.onAccountChanged(changed(7L));
+            lagGuard.onAccountChanged(changed(7L));
+
+            now.addAndGet(WINDOW.toMillis() + 1_000);
+            lagGuard.evictDue();
+
+            verify(accountsCache, times(1)).evict(7L);
+        }
+
+        @Test
+        @DisplayName("should_keepLaterAccounts_when_onlyEarlierWindowPassed")
+        void should_keepLaterAccounts_when_onlyEarlierWindowPassed() {
+            when(cacheManager.getCache(ACCOUNTS_CACHE)).thenReturn(accountsCache);
+            lagGuard.onAccountChanged(changed(1L));
+            now.addAndGet(3_000);
+            lagGuard.onAccountChanged(changed(2L));
+
+            now.addAndGet(WINDOW.toMillis() - 1_000);
+            lagGuard.evictDue();
+
+            verify(accountsCache).evict(1L);
+            verify(accountsCache, never()).evict(2L);
+            assertThat(lagGuard.pendingEvictionCount()).isEqualTo(1);
+        }
+    }
+
+    private static void enterRequest(MockHttpServletRequest request, MockHttpServletResponse response) {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+    }
+
+    private static AccountChangedEvent changed(Long id) {
+        return AccountChangedEvent.created(Account.builder().id(id).build());
+    }
+}
@@ -0,0 +1,171 @@
+package com.fintech.datasource;
+
+import com.fintech.entity.Account;
+import com.fintech.event.AccountChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReplicaRoutingDataSource Tests")
+class ReplicaRoutingDataSourceTest {
+
+    private static final Duration WINDOW = Duration.ofSeconds(5);
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource firstReplica;
+
+    @Mock
+    private DataSource secondReplica;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection firstConnection;
+
+    @Mock
+    private Connection secondConnection;
+
+    private ReadReplicas readReplicas;
+    private ReplicaLagGuard lagGuard;
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        Map<String, DataSource> pools = new LinkedHashMap<>();
+        pools.put("replica-1", firstReplica);
+        pools.put("replica-2", secondReplica);
+        readReplicas = new ReadReplicas(pools, Duration.ofSeconds(1));
+        lagGuard = new ReplicaLagGuard(WINDOW, cacheManager);
+        routingDataSource = new ReplicaRoutingDataSource(primary, readReplicas, lagGuard);
+
+        lenient().when(primary.getConnection()).thenReturn(primaryConnection);
+        lenient().when(firstReplica.getConnection()).thenReturn(firstConnection);
+        lenient().when(secondReplica.getConnection()).thenReturn(secondConnection);
+        RequestContextHolder.setRequestAttributes(
+                new ServletRequestAttributes(new MockHttpServletRequest(), new MockHttpServletResponse()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Nested
+    @DisplayName("Routing")
+    class RoutingTests {
+
+        @Test
+        @DisplayName("should_alternateReplicas_when_allHealthy")
+        void should_alternateReplicas_when_allHealthy() throws SQLException {
+            assertThat(routingDataSource.getConnection()).isSameAs(firstConnection);
+            assertThat(routingDataSource.getConnection()).isSameAs(secondConnection);
+            assertThat(routingDataSource.getConnection()).isSameAs(firstConnection);
+
+            verifyNoInteractions(primary);
+        }
+
+        @Test
+        @DisplayName("should_usePrimary_when_callerWroteRecently")
+        void should_usePrimary_when_callerWroteRecently() throws SQLException {
+            lagGuard.onAccountChanged(AccountChangedEvent.created(Account.builder().id(1L).build()));
+
+            assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+            verifyNoInteractions(firstReplica, secondReplica);
+        }
+
+        @Test
+        @DisplayName("should_useReplica_when_otherRequestWroteRecently")
+        void should_useReplica_when_otherRequestWroteRecently() throws SQLException {
+            lagGuard.onAccountChanged(AccountChangedEvent.created(Account.builder().id(1L).build()));
+            RequestContextHolder.setRequestAttributes(
+                    new ServletRequestAttributes(new MockHttpServletRequest(), new MockHttpServletResponse()));
+
+            assertThat(routingDataSource.getConnection()).isSameAs(firstConnection);
+        }
+    }
+
+    @Nested
+    @DisplayName("Failover")
+    class FailoverTests {
+
+        @Test
+        @DisplayName("should_skipReplica_when_itFailsToConnect")
+        void should_skipReplica_when_itFailsToConnect() throws SQLException {
+            when(firstReplica.getConnection()).thenThrow(new SQLTransientConnectionException("Connection refused"));
+
+            assertThat(routingDataSource.getConnection()).isSameAs(secondConnection);
+            assertThat(routingDataSource.getConnection()).isSameAs(secondConnection);
+
+            assertThat(readReplicas.healthyCount()).isEqualTo(1);
+            verify(firstReplica, times(1)).getConnection();
+        }
+
+        @Test
+        @DisplayName("should_usePrimary_when_noReplicaAvailable")
+        void should_usePrimary_when_noReplicaAvailable() throws SQLException {
+            when(firstReplica.getConnection()).thenThrow(new SQLTransientConnectionException("Connection refused"));
+            when(secondReplica.getConnection()).thenThrow(new SQLTransientConnectionException("Connection refused"));
+
+            assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+            assertThat(readReplicas.healthyCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("should_restoreReplica_when_healthCheckSucceeds")
+        void should_restoreReplica_when_healthCheckSucceeds() throws SQLException {
+            when(firstReplica.getConnection())
+                    .thenThrow(new SQLTransientConnectionException("Connection refused"))
+                    .thenReturn(firstConnection);
+            when(firstConnection.isValid(anyInt())).thenReturn(true);
+            when(secondConnection.isValid(anyInt())).thenReturn(true);
+            routingDataSource.getConnection();
+
+            readReplicas.checkHealth();
+
+            assertThat(readReplicas.healthyCount()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("should_takeReplicaOut_when_connectionInvalid")
+        void should_takeReplicaOut_when_connectionInvalid() throws SQLException {
+            when(firstConnection.isValid(eq(1))).thenReturn(false);
+            when(secondConnection.isValid(eq(1))).thenReturn(true);
+
+            readReplicas.checkHealth();
+
+            assertThat(readReplicas.healthyCount()).isEqualTo(1);
+            assertThat(routingDataSource.getConnection()).isSameAs(secondConnection);
+        }
+    }
+}
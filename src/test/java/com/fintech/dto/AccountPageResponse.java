@@ -0,0 +1,17 @@
+package com.fintech.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountPageResponse {
+
+    private List<AccountResponse> items;
+
+    private Long nextCursor;
+}
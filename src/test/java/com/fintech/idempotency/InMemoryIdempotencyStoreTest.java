@@ -0,0 +1,204 @@
+package com.fintech.idempotency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("InMemoryIdempotencyStore Tests")
+class InMemoryIdempotencyStoreTest {
+
+    private static final String KEY = "fakeUser /api/v1/accounts key-1";
+    private static final String FINGERPRINT = "a".repeat(64);
+
+    private final InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(4, 1024 * 1024, 1024);
+
+    @Nested
+    @DisplayName("Claim")
+    class ClaimTests {
+
+        @Test
+        @DisplayName("should_returnInProgressRecord_when_keyAlreadyClaimed")
+        void should_returnInProgressRecord_when_keyAlreadyClaimed() {
+            assertThat(store.claim(KEY, FINGERPRINT, inMinutes(1))).isEmpty();
+
+            Optional<IdempotencyRecord> existing = store.claim(KEY, FINGERPRINT, inMinutes(1));
+
+            assertThat(existing).isPresent();
+            assertThat(existing.get().isCompleted()).isFalse();
+            assertThat(existing.get().fingerprint()).isEqualTo(FINGERPRINT);
+        }
+
+        @Test
+        @DisplayName("should_returnStoredResponse_when_keyCompleted")
+        void should_returnStoredResponse_when_keyCompleted() {
+            store.claim(KEY, FINGERPRINT, inMinutes(1));
+            store.complete(KEY, completed(new byte[] {1, 2, 3}, inMinutes(60)));
+
+            Optional<IdempotencyRecord> existing = store.claim(KEY, FINGERPRINT, inMinutes(1));
+
+            assertThat(existing).isPresent();
+            assertThat(existing.get().status()).isEqualTo(201);
+            assertThat(existing.get().body()).containsExactly(1, 2, 3);
+        }
+
+        @Test
+        @DisplayName("should_allowNewClaim_when_keyReleased")
+        void should_allowNewClaim_when_keyReleased() {
+            LocalDateTime lease = inMinutes(1);
+            store.claim(KEY, FINGERPRINT, lease);
+            store.release(KEY, FINGERPRINT, lease);
+
+            assertThat(store.claim(KEY, FINGERPRINT, inMinutes(1))).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should_keepRetryClaim_when_releasedAfterLeaseTakenOver")
+        void should_keepRetryClaim_when_releasedAfterLeaseTakenOver() {
+            LocalDateTime expiredLease = LocalDateTime.now().minusSeconds(1);
+            store.claim(KEY, FINGERPRINT, expiredLease);
+            assertThat(store.claim(KEY, FINGERPRINT, inMinutes(1))).isEmpty();
+
+            store.release(KEY, FINGERPRINT, expiredLease);
+
+            Optional<IdempotencyRecord> existing = store.claim(KEY, FINGERPRINT, inMinutes(1));
+            assertThat(existing).isPresent();
+            assertThat(existing.get().isCompleted()).isFalse();
+        }
+
+        @Test
+        @DisplayName("should_keepCompletedRecord_when_releasedAfterCompletion")
+        void should_keepCompletedRecord_when_releasedAfterCompletion() {
+            LocalDateTime lease = inMinutes(1);
+            store.claim(KEY, FINGERPRINT, lease);
+            store.complete(KEY, completed(new byte[] {1}, inMinutes(60)));
+
+            store.release(KEY, FINGERPRINT, lease);
+
+            assertThat(store.claim(KEY, FINGERPRINT, inMinutes(1))).get()
+                    .extracting(IdempotencyRecord::status).isEqualTo(201);
+        }
+
+        @Test
+        @DisplayName("should_allowNewClaim_when_recordExpired")
+        void should_allowNewClaim_when_recordExpired() {
+            store.claim(KEY, FINGERPRINT, inMinutes(1));
+            store.complete(KEY, completed(new byte[0], LocalDateTime.now().minusSeconds(1)));
+
+            assertThat(store.claim(KEY, FINGERPRINT, inMinutes(1))).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should_keepNewClaim_when_completedAfterLeaseTakenOver")
+        void should_keepNewClaim_when_completedAfterLeaseTakenOver() {
+            String otherFingerprint = "b".repeat(64);
+            store.claim(KEY, FINGERPRINT, LocalDateTime.now().minusSeconds(1));
+            assertThat(store.claim(KEY, otherFingerprint, inMinutes(1))).isEmpty();
+
+            store.complete(KEY, completed(new byte[] {1}, inMinutes(60)));
+
+            Optional<IdempotencyRecord> existing = store.claim(KEY, otherFingerprint, inMinutes(1));
+            assertThat(existing).isPresent();
+            assertThat(existing.get().isCompleted()).isFalse();
+            assertThat(existing.get().fingerprint()).isEqualTo(otherFingerprint);
+        }
+
+        @Test
+        @DisplayName("should_dropExpiredRecords_when_shardClaimed")
+        void should_dropExpiredRecords_when_shardClaimed() {
+            InMemoryIdempotencyStore singleShard = new InMemoryIdempotencyStore(1, 1024 * 1024, 1024);
+            singleShard.claim("expired", FINGERPRINT, LocalDateTime.now().minusSeconds(1));
+
+            singleShard.claim(KEY, FINGERPRINT, inMinutes(1));
+
+            assertThat(singleShard.size()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("Memory Budget")
+    class MemoryBudgetTests {
+
+        @Test
+        @DisplayName("should_evictOldestRecords_when_overBudget")
+        void should_evictOldestRecords_when_overBudget() {
+            InMemoryIdempotencyStore singleShard = new InMemoryIdempotencyStore(1, 3000, 1024);
+            for (int i = 0; i < 3; i++) {
+                singleShard.claim("key-" + i, FINGERPRINT, inMinutes(1));
+                singleShard.complete("key-" + i, completed(new byte[1000], inMinutes(60)));
+            }
+
+            assertThat(singleShard.size()).isEqualTo(2);
+            assertThat(singleShard.claim("key-0", FINGERPRINT, inMinutes(1))).isEmpty();
+            assertThat(singleShard.claim("key-2", FINGERPRINT, inMinutes(1))).isPresent();
+        }
+
+        @Test
+        @DisplayName("should_neverEvictInProgressClaims_when_overBudget")
+        void should_neverEvictInProgressClaims_when_overBudget() {
+            InMemoryIdempotencyStore singleShard = new InMemoryIdempotencyStore(1, 1000, 1024);
+            for (int i = 0; i < 10; i++) {
+                singleShard.claim("key-" + i, FINGERPRINT, inMinutes(1));
+            }
+
+            assertThat(singleShard.size()).isEqualTo(10);
+            for (int i = 0; i < 10; i++) {
+                assertThat(singleShard.claim("key-" + i, FINGERPRINT, inMinutes(1))).isPresent();
+            }
+        }
+
+        @Test
+        @DisplayName("should_evictCompletedRecordsOfOtherShards_when_budgetShared")
+        void should_evictCompletedRecordsOfOtherShards_when_budgetShared() {
+            InMemoryIdempotencyStore sharded = new InMemoryIdempotencyStore(64, 20_000, 1024);
+            for (int i = 0; i < 100; i++) {
+                sharded.claim("key-" + i, FINGERPRINT, inMinutes(1));
+                sharded.complete("key-" + i, completed(new byte[1000], inMinutes(60)));
+            }
+
+            // Bounded by the one shared budget, not by 64 separate shares of it
+            assertThat(sharded.size()).isLessThanOrEqualTo(20_000 / 1000);
+        }
+
+        @Test
+        @DisplayName("should_keepOtherKeys_when_responseTooLargeToStore")
+        void should_keepOtherKeys_when_responseTooLargeToStore() {
+            InMemoryIdempotencyStore singleShard = new InMemoryIdempotencyStore(1, 3000, 1024);
+            singleShard.claim("small", FINGERPRINT, inMinutes(1));
+            singleShard.complete("small", completed(new byte[1000], inMinutes(60)));
+            singleShard.claim("running", FINGERPRINT, inMinutes(1));
+
+            singleShard.claim("large", FINGERPRINT, inMinutes(1));
+            singleShard.complete("large", completed(new byte[100_000], inMinutes(60)));
+
+            Optional<IdempotencyRecord> large = singleShard.claim("large", FINGERPRINT, inMinutes(1));
+            assertThat(large).isPresent();
+            assertThat(large.get().isBodyOmitted()).isTrue();
+            assertThat(large.get().status()).isEqualTo(201);
+            assertThat(singleShard.claim("small", FINGERPRINT, inMinutes(1))).get()
+                    .extracting(IdempotencyRecord::body).isEqualTo(new byte[1000]);
+            assertThat(singleShard.claim("running", FINGERPRINT, inMinutes(1))).isPresent();
+        }
+
+        @Test
+        @DisplayName("should_throwException_when_sizingNotPositive")
+        void should_throwException_when_sizingNotPositive() {
+            assertThatThrownBy(() -> new InMemoryIdempotencyStore(0, 1024, 1024))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Shard count, max bytes and max body bytes must be positive");
+        }
+    }
+
+    private static IdempotencyRecord completed(byte[] body, LocalDateTime expiresAt) {
+        return new IdempotencyRecord(FINGERPRINT, 201, "application/json", null, null, null, "\"0\"", body, expiresAt);
+    }
+
+    private static LocalDateTime inMinutes(long minutes) {
+        return LocalDateTime.now().plusMinutes(minutes);
+    }
+}
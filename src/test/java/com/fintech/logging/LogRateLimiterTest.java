@@ -0,0 +1,43 @@
+package com.fintech.logging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.fintech.logging.LogRateLimiter.DENIED;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LogRateLimiter Tests")
+class LogRateLimiterTest {
+
+    private static final Duration WINDOW = Duration.ofSeconds(1);
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private final LogRateLimiter limiter = new LogRateLimiter(2, WINDOW, nanoTime::get);
+
+    @Test
+    @DisplayName("should_denyBeyondPermits_when_windowNotOver")
+    void should_denyBeyondPermits_when_windowNotOver() {
+        assertThat(limiter.tryAcquire()).isZero();
+        assertThat(limiter.tryAcquire()).isZero();
+        assertThat(limiter.tryAcquire()).isEqualTo(DENIED);
+
+        nanoTime.addAndGet(WINDOW.toNanos() - 1);
+        assertThat(limiter.tryAcquire()).isEqualTo(DENIED);
+    }
+
+    @Test
+    @DisplayName("should_reportSuppressedCount_when_nextWindowStarts")
+    void should_reportSuppressedCount_when_nextWindowStarts() {
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire();
+        }
+
+        nanoTime.addAndGet(WINDOW.toNanos());
+
+        assertThat(limiter.tryAcquire()).isEqualTo(3);
+        assertThat(limiter.tryAcquire()).isZero();
+    }
+}
@@ -0,0 +1,63 @@
+package com.fintech.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SamplingTurboFilter Tests")
+class SamplingTurboFilterTest {
+
+    private static final String SERVICE_LOGGER = "com.fintech.service.AccountService";
+    private static final int RATE = 10;
+    private static final int EVENTS = 10_000;
+
+    private LoggerContext context;
+    private SamplingTurboFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        context = new LoggerContext();
+
+        filter = new SamplingTurboFilter();
+        filter.setContext(context);
+        filter.setLoggerName(SERVICE_LOGGER);
+        filter.setLevel(Level.INFO);
+        filter.setRate(RATE);
+        filter.start();
+    }
+
+    @Test
+    @DisplayName("should_keepRoughlyOneInRate_when_infoLoggedBySampledLogger")
+    void should_keepRoughlyOneInRate_when_infoLoggedBySampledLogger() {
+        long kept = countKept(context.getLogger(SERVICE_LOGGER), Level.INFO);
+
+        assertThat(kept).isBetween((long) EVENTS / RATE / 2, (long) EVENTS / RATE * 2);
+    }
+
+    @Test
+    @DisplayName("should_keepAllEvents_when_levelMoreSevereThanSampledLevel")
+    void should_keepAllEvents_when_levelMoreSevereThanSampledLevel() {
+        assertThat(countKept(context.getLogger(SERVICE_LOGGER), Level.WARN)).isEqualTo(EVENTS);
+    }
+
+    @Test
+    @DisplayName("should_keepAllEvents_when_loggerNotSampled")
+    void should_keepAllEvents_when_loggerNotSampled() {
+        assertThat(countKept(context.getLogger("com.fintech.controller.AccountController"), Level.INFO)).isEqualTo(EVENTS);
+    }
+
+    private long countKept(Logger logger, Level level) {
+        return IntStream.range(0, EVENTS)
+                .mapToObj(i -> filter.decide(null, logger, level, "message", null, null))
+                .filter(reply -> reply == FilterReply.NEUTRAL)
+                .count();
+    }
+}
@@ -0,0 +1,112 @@
+package com.fintech.metrics;
+
+import com.fintech.dto.AccountResponse;
+import com.fintech.dto.AccountUpdateRequest;
+import com.fintech.exception.AccountNotFoundException;
+import com.fintech.exception.DuplicatePhoneNumberException;
+import com.fintech.service.AccountService;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.concurrent.TimeUnit;
+
+import static com.fintech.metrics.AccountServiceMetricsAspect.DATABASE_TIMER;
+import static com.fintech.metrics.AccountServiceMetricsAspect.OPERATION_TIMER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AccountServiceMetricsAspect Tests")
+class AccountServiceMetricsAspectTest {
+
+    private static final Long EXISTENT_ID = 1L;
+    private static final String VALID_PHONE = "+1234567890";
+
+    @Mock
+    private AccountService target;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AccountService accountService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new AccountServiceMetricsAspect(meterRegistry));
+        accountService = proxyFactory.getProxy();
+    }
+
+    @Test
+    @DisplayName("should_recordSuccess_when_operationCompletes")
+    void should_recordSuccess_when_operationCompletes() {
+        when(target.findById(EXISTENT_ID)).thenReturn(AccountResponse.builder().id(EXISTENT_ID).build());
+
+        accountService.findById(EXISTENT_ID);
+
+        assertThat(timer(OPERATION_TIMER, "findById", "success").count()).isEqualTo(1);
+        assertThat(timer(DATABASE_TIMER, "findById", "success").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should_tagOutcome_when_operationFails")
+    void should_tagOutcome_when_operationFails() {
+        when(target.findById(EXISTENT_ID)).thenThrow(new AccountNotFoundException(EXISTENT_ID));
+        when(target.updateAccount(any(), any(), any())).thenThrow(new DuplicatePhoneNumberException(VALID_PHONE));
+        when(target.createAccount(any())).thenThrow(new IllegalArgumentException("Invalid phone number format"));
+
+        assertThatThrownBy(() -> accountService.findById(EXISTENT_ID)).isInstanceOf(AccountNotFoundException.class);
+        assertThatThrownBy(() -> accountService.updateAccount(EXISTENT_ID, new AccountUpdateRequest(), null))
+                .isInstanceOf(DuplicatePhoneNumberException.class);
+        assertThatThrownBy(() -> accountService.createAccount(null)).isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(timer(OPERATION_TIMER, "findById", "not_found").count()).isEqualTo(1);
+        assertThat(timer(OPERATION_TIMER, "updateAccount", "duplicate_phone").count()).isEqualTo(1);
+        assertThat(timer(OPERATION_TIMER, "createAccount", "validation_failure").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should_recordDatabaseTime_when_statementsExecutedDuringOperation")
+    void should_recordDatabaseTime_when_statementsExecutedDuringOperation(
+            @Mock DataSource dataSource, @Mock Connection connection, @Mock PreparedStatement statement) throws Exception {
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.execute()).thenAnswer(invocation -> {
+            Thread.sleep(20);
+            return true;
+        });
+        DataSource timingDataSource = new DatabaseTimingDataSource(dataSource);
+
+        when(target.findById(EXISTENT_ID)).thenAnswer(invocation -> {
+            try (Connection timedConnection = timingDataSource.getConnection()) {
+                timedConnection.prepareStatement("SELECT 1").execute();
+            }
+            return null;
+        });
+
+        accountService.findById(EXISTENT_ID);
+
+        Timer database = timer(DATABASE_TIMER, "findById", "success");
+        Timer total = timer(OPERATION_TIMER, "findById", "success");
+        assertThat(database.totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(20);
+        assertThat(database.totalTime(TimeUnit.NANOSECONDS)).isLessThanOrEqualTo(total.totalTime(TimeUnit.NANOSECONDS));
+    }
+
+    private Timer timer(String name, String operation, String outcome) {
+        return meterRegistry.get(name).tags("operation", operation, "outcome", outcome).timer();
+    }
+}
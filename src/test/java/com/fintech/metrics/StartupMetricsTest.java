@@ -0,0 +1,40 @@
+package com.fintech.metrics;
+
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.support.StaticApplicationContext;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static com.fintech.metrics.StartupMetrics.JVM_READY_TIME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("StartupMetrics Tests")
+class StartupMetricsTest {
+
+    @Test
+    @DisplayName("should_recordTimeSinceJvmLaunch_when_applicationReady")
+    void should_recordTimeSinceJvmLaunch_when_applicationReady() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        long uptimeBefore = ManagementFactory.getRuntimeMXBean().getUptime();
+
+        new StartupMetrics(meterRegistry).onApplicationReady(readyEvent());
+        System.gc();
+
+        TimeGauge gauge = meterRegistry.get(JVM_READY_TIME).timeGauge();
+        assertThat(gauge.value(TimeUnit.MILLISECONDS))
+                .isGreaterThanOrEqualTo(uptimeBefore)
+                .isLessThanOrEqualTo(ManagementFactory.getRuntimeMXBean().getUptime());
+    }
+
+    private static ApplicationReadyEvent readyEvent() {
+        return new ApplicationReadyEvent(new SpringApplication(), new String[0],
+                new StaticApplicationContext(), Duration.ofMillis(1500));
+    }
+}
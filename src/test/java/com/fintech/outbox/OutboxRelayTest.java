@@ -0,0 +1,134 @@
+package com.fintech.outbox;
+
+import com.fintech.config.AccountOutboxProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxRelay Tests")
+class OutboxRelayTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    @Mock
+    private OutboxRepository outboxRepository;
+
+    @Mock
+    private OutboxSink sink;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AccountOutboxProperties properties;
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new AccountOutboxProperties();
+        properties.setBatchSize(BATCH_SIZE);
+        properties.setMaxBatchesPerPoll(3);
+        properties.setPollInterval(Duration.ofMinutes(1));
+
+        outboxRelay = new OutboxRelay(outboxRepository, sink, properties, meterRegistry);
+        lenient().when(outboxRepository.tryTakeLease(anyString(), eq(properties.getLeaseDuration()))).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("should_publishThenDeleteEachBatch_when_outboxHasEvents")
+    void should_publishThenDeleteEachBatch_when_outboxHasEvents() throws Exception {
+        List<OutboxEvent> first = events(1, 2);
+        List<OutboxEvent> second = events(3);
+        when(outboxRepository.findBatch(BATCH_SIZE)).thenReturn(first, second);
+
+        outboxRelay.relay();
+
+        InOrder inOrder = inOrder(sink, outboxRepository);
+        inOrder.verify(sink).publish(first);
+        inOrder.verify(outboxRepository).deleteAll(List.of(1L, 2L));
+        inOrder.verify(sink).publish(second);
+        inOrder.verify(outboxRepository).deleteAll(List.of(3L));
+        verify(outboxRepository, times(2)).findBatch(BATCH_SIZE);
+        assertThat(meterRegistry.get("account.outbox.relayed").counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("should_stopAfterMaxBatches_when_backlogExceedsPollBudget")
+    void should_stopAfterMaxBatches_when_backlogExceedsPollBudget() throws Exception {
+        when(outboxRepository.findBatch(BATCH_SIZE)).thenReturn(events(1, 2), events(3, 4), events(5, 6), events(7, 8));
+
+        outboxRelay.relay();
+
+        verify(sink, times(3)).publish(anyList());
+        verify(outboxRepository, times(3)).findBatch(BATCH_SIZE);
+    }
+
+    @Test
+    @DisplayName("should_keepEventsAndBackOff_when_sinkFails")
+    void should_keepEventsAndBackOff_when_sinkFails() throws Exception {
+        when(outboxRepository.findBatch(BATCH_SIZE)).thenReturn(events(1, 2));
+        doThrow(new IOException("disk full")).when(sink).publish(any());
+
+        outboxRelay.relay();
+        outboxRelay.relay();
+
+        verify(outboxRepository, never()).deleteAll(anyCollection());
+        verify(outboxRepository, times(1)).findBatch(BATCH_SIZE);
+        assertThat(meterRegistry.get("account.outbox.failures").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should_skipPoll_when_leaseHeldByOtherInstance")
+    void should_skipPoll_when_leaseHeldByOtherInstance() {
+        when(outboxRepository.tryTakeLease(anyString(), any())).thenReturn(false);
+
+        outboxRelay.relay();
+
+        verify(outboxRepository, never()).findBatch(anyInt());
+        verifyNoInteractions(sink);
+    }
+
+    @Test
+    @DisplayName("should_stopPublishing_when_leaseLostBetweenBatches")
+    void should_stopPublishing_when_leaseLostBetweenBatches() throws Exception {
+        when(outboxRepository.tryTakeLease(anyString(), any())).thenReturn(true, false);
+        when(outboxRepository.findBatch(BATCH_SIZE)).thenReturn(events(1, 2));
+
+        outboxRelay.relay();
+
+        verify(sink, times(1)).publish(anyList());
+        verify(outboxRepository).deleteAll(List.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("should_doNothing_when_relayDisabled")
+    void should_doNothing_when_relayDisabled() {
+        properties.setRelayEnabled(false);
+
+        outboxRelay.relay();
+
+        verifyNoInteractions(outboxRepository, sink);
+    }
+
+    private static List<OutboxEvent> events(long... ids) {
+        return LongStream.of(ids)
+                .mapToObj(id -> OutboxEvent.builder().id(id).accountId(id).type("CREATED").payload("{}").build())
+                .toList();
+    }
+}
@@ -0,0 +1,98 @@
+package com.fintech.outbox;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fintech.dto.AccountResponse;
+import com.fintech.entity.Account;
+import com.fintech.event.AccountChangedEvent;
+import com.fintech.mapper.AccountMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxWriter Tests")
+class OutboxWriterTest {
+
+    private static final Long EXISTENT_ID = 1L;
+    private static final String JOHN_DOE_NAME = "John Doe";
+
+    @Mock
+    private OutboxRepository outboxRepository;
+
+    @Mock
+    private AccountMapper accountMapper;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().setSerializationInclusion(JsonInclude.Include.NON_NULL);
+
+    @Mock
+    private EntityManager entityManager;
+
+    @InjectMocks
+    private OutboxWriter outboxWriter;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.unbindResourceIfPossible(outboxWriter);
+    }
+
+    @Test
+    @DisplayName("should_writeAllEventsInOneBatchAfterFlush_when_transactionCommits")
+    @SuppressWarnings("unchecked")
+    void should_writeAllEventsInOneBatchAfterFlush_when_transactionCommits() {
+        Account account = Account.builder().id(EXISTENT_ID).name(JOHN_DOE_NAME).build();
+        when(accountMapper.toResponse(account))
+                .thenReturn(AccountResponse.builder().id(EXISTENT_ID).name(JOHN_DOE_NAME).build());
+        TransactionSynchronizationManager.initSynchronization();
+
+        outboxWriter.onAccountChanged(AccountChangedEvent.created(account));
+        outboxWriter.onAccountChanged(AccountChangedEvent.updated(account, null));
+        verifyNoInteractions(outboxRepository);
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        assertThat(synchronizations).hasSize(1);
+        synchronizations.getFirst().beforeCommit(false);
+        synchronizations.getFirst().afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+
+        ArgumentCaptor<List<OutboxEvent>> captor = ArgumentCaptor.forClass(List.class);
+        InOrder inOrder = inOrder(entityManager, outboxRepository);
+        inOrder.verify(entityManager).flush();
+        inOrder.verify(outboxRepository).insertAll(captor.capture());
+
+        assertThat(captor.getValue()).extracting(OutboxEvent::getType).containsExactly("CREATED", "UPDATED");
+        assertThat(captor.getValue().getFirst().getAccountId()).isEqualTo(EXISTENT_ID);
+        assertThat(captor.getValue().getFirst().getPayload()).isEqualTo("{\"id\":1,\"name\":\"John Doe\"}");
+        assertThat(TransactionSynchronizationManager.hasResource(outboxWriter)).isFalse();
+    }
+
+    @Test
+    @DisplayName("should_throwIllegalStateException_when_noTransactionActive")
+    void should_throwIllegalStateException_when_noTransactionActive() {
+        Account account = Account.builder().id(EXISTENT_ID).build();
+
+        assertThatThrownBy(() -> outboxWriter.onAccountChanged(AccountChangedEvent.created(account)))
+                .isInstanceOf(IllegalStateException.class);
+        verify(outboxRepository, never()).insertAll(any());
+    }
+}
@@ -0,0 +1,254 @@
+package com.fintech.service;
+
+import com.fintech.config.AccountBulkProperties;
+import com.fintech.dto.AccountBulkDeleteRequest;
+import com.fintech.dto.AccountBulkFilter;
+import com.fintech.dto.AccountBulkJobResponse;
+import com.fintech.dto.AccountBulkUpdateRequest;
+import com.fintech.dto.AccountListFilter;
+import com.fintech.entity.Account;
+import com.fintech.event.AccountChangedEvent;
+import com.fintech.exception.BulkJobNotFoundException;
+import com.fintech.exception.WriteDeadlineExceededException;
+import com.fintech.repository.AccountRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.fintech.config.CacheConfig.ACCOUNTS_CACHE;
+import static com.fintech.dto.AccountBulkJobResponse.Status.COMPLETED;
+import static com.fintech.dto.AccountBulkJobResponse.Status.FAILED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AccountBulkService Tests")
+class AccountBulkServiceTest {
+
+    private static final LocalDateTime CREATED_TO = LocalDateTime.of(2020, 1, 1, 0, 0);
+    private static final String NEW_NAME = "Archived Customer";
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache accountsCache;
+
+    private AccountBulkProperties properties;
+    private AccountBulkService bulkService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new AccountBulkProperties();
+        properties.setChunkSize(2);
+        bulkService = new AccountBulkService(accountRepository, properties, transactionTemplate, eventPublisher, cacheManager);
+
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        lenient().when(cacheManager.getCache(ACCOUNTS_CACHE)).thenReturn(accountsCache);
+    }
+
+    @AfterEach
+    void tearDown() {
+        bulkService.shutdown();
+    }
+
+    @Nested
+    @DisplayName("Bulk Delete")
+    class BulkDeleteTests {
+
+        @Test
+        @DisplayName("should_completeBeforeResponding_when_idsFitInOneChunk")
+        void should_completeBeforeResponding_when_idsFitInOneChunk() {
+            when(accountRepository.findAllActiveByIdInForUpdate(List.of(1L, 2L))).thenReturn(List.of(account(1)));
+            when(accountRepository.softDeleteWhereIdIn(eq(List.of(1L)), any())).thenReturn(1);
+
+            AccountBulkJobResponse job = bulkService.submitDelete(new AccountBulkDeleteRequest(List.of(1L, 2L, 1L), null));
+
+            assertThat(job.getStatus()).isEqualTo(COMPLETED);
+            assertThat(job.getTotal()).isEqualTo(2);
+            assertThat(job.getAffected()).isEqualTo(1);
+            assertThat(job.getSkipped()).isEqualTo(1);
+
+            ArgumentCaptor<AccountChangedEvent> event = ArgumentCaptor.forClass(AccountChangedEvent.class);
+            verify(eventPublisher).publishEvent(event.capture());
+            assertThat(event.getValue().getType()).isEqualTo(AccountChangedEvent.Type.DELETED);
+            assertThat(event.getValue().getAccount().getVersion()).isEqualTo(1L);
+            verify(accountsCache).evict(1L);
+        }
+
+        @Test
+        @DisplayName("should_pageByIdInBackground_when_filterGiven")
+        void should_pageByIdInBackground_when_filterGiven() {
+            when(accountRepository.countMatching(any())).thenReturn(3L);
+            when(accountRepository.findPageForUpdate(any()))
+                    .thenReturn(List.of(account(1), account(2)), List.of(account(3)));
+            when(accountRepository.softDeleteWhereIdIn(any(), any()))
+                    .thenAnswer(invocation -> invocation.<List<Long>>getArgument(0).size());
+
+            AccountBulkJobResponse submitted = bulkService.submitDelete(
+                    new AccountBulkDeleteRequest(null, AccountBulkFilter.builder().createdTo(CREATED_TO).build()));
+
+            await().atMost(Duration.ofSeconds(5))
+                    .until(() -> bulkService.findJob(submitted.getId()).getStatus() == COMPLETED);
+
+            AccountBulkJobResponse job = bulkService.findJob(submitted.getId());
+            assertThat(job.getTotal()).isEqualTo(3);
+            assertThat(job.getProcessed()).isEqualTo(3);
+            assertThat(job.getAffected()).isEqualTo(3);
+
+            ArgumentCaptor<AccountListFilter> pages = ArgumentCaptor.forClass(AccountListFilter.class);
+            verify(accountRepository, times(2)).findPageForUpdate(pages.capture());
+            assertThat(pages.getAllValues()).extracting(AccountListFilter::getAfterId).containsExactly(null, 2L);
+            assertThat(pages.getAllValues()).allSatisfy(page -> {
+                assertThat(page.getStatus()).isEqualTo(AccountListFilter.Status.ACTIVE);
+                assertThat(page.getCreatedTo()).isEqualTo(CREATED_TO);
+            });
+        }
+
+        @Test
+        @DisplayName("should_writeChunkInHalves_when_chunkMissesWriteDeadline")
+        void should_writeChunkInHalves_when_chunkMissesWriteDeadline() {
+            when(accountRepository.findAllActiveByIdInForUpdate(any()))
+                    .thenAnswer(invocation -> invocation.<List<Long>>getArgument(0).stream().map(id -> account(id)).toList());
+            when(accountRepository.softDeleteWhereIdIn(any(), any()))
+                    .thenAnswer(invocation -> invocation.<List<Long>>getArgument(0).size());
+            doThrow(new WriteDeadlineExceededException(Duration.ofSeconds(4), Duration.ofSeconds(5)))
+                    .doAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null))
+                    .when(transactionTemplate).execute(any());
+
+            AccountBulkJobResponse job = bulkService.submitDelete(new AccountBulkDeleteRequest(List.of(1L, 2L), null));
+
+            assertThat(job.getStatus()).isEqualTo(COMPLETED);
+            assertThat(job.getProcessed()).isEqualTo(2);
+            assertThat(job.getAffected()).isEqualTo(2);
+            verify(accountRepository).findAllActiveByIdInForUpdate(List.of(1L));
+            verify(accountRepository).findAllActiveByIdInForUpdate(List.of(2L));
+        }
+
+        @Test
+        @DisplayName("should_markJobFailed_when_chunkFails")
+        void should_markJobFailed_when_chunkFails() {
+            when(accountRepository.findAllActiveByIdInForUpdate(any()))
+                    .thenReturn(List.of(account(1), account(2)))
+                    .thenThrow(new QueryTimeoutException("Lock wait timeout exceeded"));
+            when(accountRepository.softDeleteWhereIdIn(any(), any())).thenReturn(2);
+
+            AccountBulkJobResponse submitted = bulkService.submitDelete(new AccountBulkDeleteRequest(List.of(1L, 2L, 3L), null));
+
+            await().atMost(Duration.ofSeconds(5))
+                    .until(() -> bulkService.findJob(submitted.getId()).getStatus() == FAILED);
+
+            AccountBulkJobResponse job = bulkService.findJob(submitted.getId());
+            assertThat(job.getProcessed()).isEqualTo(2);
+            assertThat(job.getError()).isEqualTo("Lock wait timeout exceeded");
+            assertThat(job.getFinishedTime()).isNotNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("Bulk Update")
+    class BulkUpdateTests {
+
+        @Test
+        @DisplayName("should_renameOnlyChangedAccounts_when_idsGiven")
+        void should_renameOnlyChangedAccounts_when_idsGiven() {
+            Account alreadyRenamed = account(2);
+            alreadyRenamed.setName(NEW_NAME);
+            when(accountRepository.findAllActiveByIdInForUpdate(List.of(1L, 2L))).thenReturn(List.of(account(1), alreadyRenamed));
+            when(accountRepository.updateNameWhereIdIn(eq(List.of(1L)), eq(NEW_NAME), any())).thenReturn(1);
+
+            AccountBulkJobResponse job = bulkService.submitUpdate(new AccountBulkUpdateRequest(List.of(1L, 2L), null, NEW_NAME));
+
+            assertThat(job.getStatus()).isEqualTo(COMPLETED);
+            assertThat(job.getAffected()).isEqualTo(1);
+            assertThat(job.getSkipped()).isEqualTo(1);
+            verify(eventPublisher, times(1)).publishEvent(any(AccountChangedEvent.class));
+            verify(accountsCache).evict(1L);
+        }
+    }
+
+    @Nested
+    @DisplayName("Validation")
+    class ValidationTests {
+
+        @Test
+        @DisplayName("should_throwException_when_neitherOrBothTargetsGiven")
+        void should_throwException_when_neitherOrBothTargetsGiven() {
+            AccountBulkFilter filter = AccountBulkFilter.builder().createdTo(CREATED_TO).build();
+
+            assertThatThrownBy(() -> bulkService.submitDelete(new AccountBulkDeleteRequest(null, null)))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Exactly one of ids or filter is required");
+            assertThatThrownBy(() -> bulkService.submitDelete(new AccountBulkDeleteRequest(List.of(1L), filter)))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Exactly one of ids or filter is required");
+        }
+
+        @Test
+        @DisplayName("should_throwException_when_filterHasNoBounds")
+        void should_throwException_when_filterHasNoBounds() {
+            assertThatThrownBy(() -> bulkService.submitDelete(new AccountBulkDeleteRequest(null, new AccountBulkFilter())))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageStartingWith("Filter must set at least one of");
+
+            verifyNoInteractions(accountRepository);
+        }
+
+        @Test
+        @DisplayName("should_throwException_when_tooManyIds")
+        void should_throwException_when_tooManyIds() {
+            properties.setMaxIds(2);
+
+            assertThatThrownBy(() -> bulkService.submitDelete(new AccountBulkDeleteRequest(List.of(1L, 2L, 3L), null)))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("At most 2 ids can be given");
+        }
+
+        @Test
+        @DisplayName("should_throwNotFound_when_jobUnknown")
+        void should_throwNotFound_when_jobUnknown() {
+            assertThatThrownBy(() -> bulkService.findJob("unknown"))
+                    .isInstanceOf(BulkJobNotFoundException.class)
+                    .hasMessage("Bulk job not found with ID: unknown");
+        }
+    }
+
+    private static Account account(long id) {
+        return Account.builder()
+                .id(id)
+                .name("John Doe")
+                .phoneNr("+123456789" + id)
+                .createdTime(CREATED_TO.minusDays(1))
+                .modifiedTime(CREATED_TO.minusDays(1))
+                .version(0L)
+                .build();
+    }
+}
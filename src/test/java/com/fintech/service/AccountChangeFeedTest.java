@@ -0,0 +1,213 @@
+package com.fintech.service;
+
+import com.fintech.config.AccountChangesProperties;
+import com.fintech.dto.AccountChangesResponse;
+import com.fintech.dto.AccountResponse;
+import com.fintech.dto.ChangeWatermark;
+import com.fintech.entity.Account;
+import com.fintech.exception.ChangeFeedBusyException;
+import com.fintech.mapper.AccountMapper;
+import com.fintech.repository.AccountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AccountChangeFeed Tests")
+class AccountChangeFeedTest {
+
+    private static final LocalDateTime MODIFIED_TIME = LocalDateTime.of(2025, 8, 25, 10, 30);
+    private static final Duration WAIT = Duration.ofSeconds(30);
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private AccountMapper accountMapper;
+
+    private AccountChangesProperties properties;
+    private AccountChangeFeed changeFeed;
+
+    @BeforeEach
+    void setUp() {
+        properties = new AccountChangesProperties();
+        changeFeed = new AccountChangeFeed(accountRepository, accountMapper, properties);
+    }
+
+    @Nested
+    @DisplayName("Find Changes")
+    class FindChangesTests {
+
+        @Test
+        @DisplayName("should_returnBatchAndLastWatermark_when_moreChangesThanLimit")
+        void should_returnBatchAndLastWatermark_when_moreChangesThanLimit() {
+            List<Account> accounts = List.of(account(1, MODIFIED_TIME), account(2, MODIFIED_TIME), account(3, MODIFIED_TIME.plusSeconds(1)));
+            when(accountRepository.findChangesAfter(eq(ChangeWatermark.INITIAL.modifiedTime()), eq(0L), any(), eq(Limit.of(3))))
+                    .thenReturn(accounts);
+            when(accountMapper.toResponse(any(Account.class)))
+                    .thenAnswer(invocation -> response(invocation.getArgument(0)));
+
+            AccountChangesResponse changes = changeFeed.findChanges(ChangeWatermark.INITIAL, 2);
+
+            assertThat(changes.getItems()).extracting(AccountResponse::getId).containsExactly(1L, 2L);
+            assertThat(changes.isHasMore()).isTrue();
+            assertThat(ChangeWatermark.parse(changes.getNextWatermark())).isEqualTo(new ChangeWatermark(MODIFIED_TIME, 2));
+        }
+
+        @Test
+        @DisplayName("should_keepWatermark_when_noChanges")
+        void should_keepWatermark_when_noChanges() {
+            ChangeWatermark since = new ChangeWatermark(MODIFIED_TIME, 7);
+            when(accountRepository.findChangesAfter(eq(MODIFIED_TIME), eq(7L), any(), any())).thenReturn(List.of());
+
+            AccountChangesResponse changes = changeFeed.findChanges(since, 10);
+
+            assertThat(changes.getItems()).isEmpty();
+            assertThat(changes.isHasMore()).isFalse();
+            assertThat(changes.getNextWatermark()).isEqualTo(since.encode());
+        }
+
+        @Test
+        @DisplayName("should_holdBackUnsettledChanges_when_querying")
+        void should_holdBackUnsettledChanges_when_querying() {
+            properties.setSettleDelay(Duration.ofHours(1));
+            when(accountRepository.findChangesAfter(any(), anyLong(), any(), any())).thenReturn(List.of());
+
+            LocalDateTime before = LocalDateTime.now();
+            changeFeed.findChanges(ChangeWatermark.INITIAL, 10);
+
+            verify(accountRepository).findChangesAfter(any(), anyLong(),
+                    argThat(settledBefore -> settledBefore.isBefore(before.minusMinutes(59))), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Long Polling")
+    class LongPollingTests {
+
+        @Test
+        @DisplayName("should_respondImmediately_when_changesAvailable")
+        void should_respondImmediately_when_changesAvailable() {
+            Account account = account(1, MODIFIED_TIME);
+            when(accountRepository.findChangesAfter(any(), anyLong(), any(), any())).thenReturn(List.of(account));
+            when(accountMapper.toResponse(account)).thenReturn(response(account));
+
+            DeferredResult<AccountChangesResponse> result = changeFeed.poll(ChangeWatermark.INITIAL, 10, WAIT);
+
+            assertThat(result.hasResult()).isTrue();
+            assertThat(changeFeed.waiterCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("should_releaseWaiter_when_newerChangeSettles")
+        void should_releaseWaiter_when_newerChangeSettles() {
+            ChangeWatermark since = new ChangeWatermark(MODIFIED_TIME, 1);
+            Account account = account(2, MODIFIED_TIME);
+            when(accountRepository.findChangesAfter(any(), anyLong(), any(), any())).thenReturn(List.of(), List.of(account));
+            when(accountRepository.findLatestChange(any(), eq(Limit.of(1)))).thenReturn(List.of(since), List.of(new ChangeWatermark(MODIFIED_TIME, 2)));
+            when(accountMapper.toResponse(account)).thenReturn(response(account));
+
+            DeferredResult<AccountChangesResponse> result = changeFeed.poll(since, 10, WAIT);
+            assertThat(result.hasResult()).isFalse();
+            assertThat(changeFeed.waiterCount()).isEqualTo(1);
+
+            changeFeed.releaseWaiters();
+            assertThat(result.hasResult()).isFalse();
+
+            changeFeed.releaseWaiters();
+            assertThat(result.hasResult()).isTrue();
+            assertThat(((AccountChangesResponse) result.getResult()).getItems()).extracting(AccountResponse::getId).containsExactly(2L);
+        }
+
+        @Test
+        @DisplayName("should_throwChangeFeedBusyException_when_waiterLimitReached")
+        void should_throwChangeFeedBusyException_when_waiterLimitReached() {
+            properties.setMaxWaiters(1);
+            when(accountRepository.findChangesAfter(any(), anyLong(), any(), any())).thenReturn(List.of());
+
+            DeferredResult<AccountChangesResponse> first = changeFeed.poll(ChangeWatermark.INITIAL, 10, WAIT);
+
+            assertThat(first.hasResult()).isFalse();
+            assertThatThrownBy(() -> changeFeed.poll(ChangeWatermark.INITIAL, 10, WAIT))
+                    .isInstanceOf(ChangeFeedBusyException.class)
+                    .extracting("retryAfter").isEqualTo(properties.getPollInterval());
+        }
+
+        @Test
+        @DisplayName("should_skipProbe_when_noWaiters")
+        void should_skipProbe_when_noWaiters() {
+            changeFeed.releaseWaiters();
+
+            verifyNoInteractions(accountRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("Watermark")
+    class WatermarkTests {
+
+        @Test
+        @DisplayName("should_roundTripWatermark_when_encodedAndParsed")
+        void should_roundTripWatermark_when_encodedAndParsed() {
+            ChangeWatermark watermark = new ChangeWatermark(MODIFIED_TIME.withNano(123_456_789), Long.MAX_VALUE);
+
+            assertThat(ChangeWatermark.parse(watermark.encode())).isEqualTo(watermark);
+        }
+
+        @Test
+        @DisplayName("should_startFromBeginning_when_noWatermarkGiven")
+        void should_startFromBeginning_when_noWatermarkGiven() {
+            assertThat(ChangeWatermark.parse(null)).isEqualTo(ChangeWatermark.INITIAL);
+            assertThat(ChangeWatermark.parse("")).isEqualTo(ChangeWatermark.INITIAL);
+        }
+
+        @Test
+        @DisplayName("should_throwException_when_watermarkMalformed")
+        void should_throwException_when_watermarkMalformed() {
+            assertThatThrownBy(() -> ChangeWatermark.parse("not-a-watermark"))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Invalid watermark: not-a-watermark");
+        }
+
+        @Test
+        @DisplayName("should_orderByModifiedTimeThenId_when_compared")
+        void should_orderByModifiedTimeThenId_when_compared() {
+            assertThat(new ChangeWatermark(MODIFIED_TIME, 2)).isGreaterThan(new ChangeWatermark(MODIFIED_TIME, 1));
+            assertThat(new ChangeWatermark(MODIFIED_TIME.plusSeconds(1), 1)).isGreaterThan(new ChangeWatermark(MODIFIED_TIME, 2));
+        }
+    }
+
+    private static Account account(long id, LocalDateTime modifiedTime) {
+        return Account.builder()
+                .id(id)
+                .name("John Doe")
+                .createdTime(modifiedTime)
+                .modifiedTime(modifiedTime)
+                .build();
+    }
+
+    private static AccountResponse response(Account account) {
+        return AccountResponse.builder()
+                .id(account.getId())
+                .name(account.getName())
+                .modifiedTime(account.getModifiedTime())
+                .build();
+    }
+}
@@ -0,0 +1,188 @@
+package com.fintech.service;
+
+import com.fintech.config.AccountChangesProperties;
+import com.fintech.config.AccountIdFilterProperties;
+import com.fintech.entity.Account;
+import com.fintech.event.AccountChangedEvent;
+import com.fintech.repository.AccountRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import static com.fintech.service.AccountIdFilter.REJECTIONS_COUNTER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AccountIdFilter Tests")
+class AccountIdFilterTest {
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    private final AccountIdFilterProperties properties = new AccountIdFilterProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private AccountIdFilter accountIdFilter;
+
+    @BeforeEach
+    void setUp() {
+        properties.setExpectedIds(1_000);
+        accountIdFilter = new AccountIdFilter(accountRepository, properties, new AccountChangesProperties(), meterRegistry);
+    }
+
+    @Nested
+    @DisplayName("Negative Cache")
+    class NegativeCacheTests {
+
+        @Test
+        @DisplayName("should_reportAbsent_when_idRecordedMissing")
+        void should_reportAbsent_when_idRecordedMissing() {
+            accountIdFilter.recordAbsent(42L);
+
+            assertThat(accountIdFilter.isKnownAbsent(42L)).isTrue();
+            assertThat(accountIdFilter.isKnownAbsent(43L)).isFalse();
+            assertThat(meterRegistry.get(REJECTIONS_COUNTER).tag("source", "negative_cache").functionCounter().count())
+                    .isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should_forgetAbsence_when_accountCreated")
+        void should_forgetAbsence_when_accountCreated() {
+            accountIdFilter.recordAbsent(42L);
+
+            accountIdFilter.onAccountChanged(AccountChangedEvent.created(Account.builder().id(42L).build()));
+
+            assertThat(accountIdFilter.isKnownAbsent(42L)).isFalse();
+        }
+
+        @Test
+        @DisplayName("should_ignoreAbsence_when_recordedAfterCreate")
+        void should_ignoreAbsence_when_recordedAfterCreate() {
+            accountIdFilter.onAccountChanged(AccountChangedEvent.created(Account.builder().id(42L).build()));
+
+            accountIdFilter.recordAbsent(42L);
+
+            assertThat(accountIdFilter.isKnownAbsent(42L)).isFalse();
+        }
+
+        @Test
+        @DisplayName("should_neverReportAbsent_when_disabled")
+        void should_neverReportAbsent_when_disabled() {
+            properties.setEnabled(false);
+
+            accountIdFilter.recordAbsent(42L);
+            accountIdFilter.warmUp();
+
+            assertThat(accountIdFilter.isKnownAbsent(42L)).isFalse();
+            verifyNoInteractions(accountRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("Id Filter")
+    class IdFilterTests {
+
+        @Test
+        @DisplayName("should_reportNothingAbsent_when_notWarmedUp")
+        void should_reportNothingAbsent_when_notWarmedUp() {
+            assertThat(accountIdFilter.isReady()).isFalse();
+            assertThat(accountIdFilter.isKnownAbsent(2L)).isFalse();
+        }
+
+        @Test
+        @DisplayName("should_reportAbsent_when_idScannedButNotActive")
+        void should_reportAbsent_when_idScannedButNotActive() {
+            when(accountRepository.findMaxIdCreatedBefore(eq(0L), any(LocalDateTime.class))).thenReturn(5L);
+            when(accountRepository.streamActiveIds(0L, 5L)).thenReturn(Stream.of(1L, 3L, 5L));
+
+            accountIdFilter.warmUp();
+
+            assertThat(accountIdFilter.isReady()).isTrue();
+            assertThat(accountIdFilter.isKnownAbsent(1L)).isFalse();
+            assertThat(accountIdFilter.isKnownAbsent(2L)).isTrue();
+            assertThat(accountIdFilter.isKnownAbsent(4L)).isTrue();
+            assertThat(accountIdFilter.isKnownAbsent(5L)).isFalse();
+            // Above the watermark ids may still be in flight, so they go to the database
+            assertThat(accountIdFilter.isKnownAbsent(6L)).isFalse();
+        }
+
+        @Test
+        @DisplayName("should_extendWatermark_when_settledAccountsAdded")
+        void should_extendWatermark_when_settledAccountsAdded() {
+            when(accountRepository.findMaxIdCreatedBefore(eq(0L), any(LocalDateTime.class))).thenReturn(2L);
+            when(accountRepository.streamActiveIds(0L, 2L)).thenReturn(Stream.of(1L, 2L));
+            when(accountRepository.findMaxIdCreatedBefore(eq(2L), any(LocalDateTime.class))).thenReturn(4L);
+            when(accountRepository.streamActiveIds(2L, 4L)).thenReturn(Stream.of(4L));
+            accountIdFilter.warmUp();
+
+            accountIdFilter.refresh();
+
+            assertThat(accountIdFilter.scannedUpTo()).isEqualTo(4L);
+            assertThat(accountIdFilter.isKnownAbsent(3L)).isTrue();
+            assertThat(accountIdFilter.isKnownAbsent(4L)).isFalse();
+        }
+
+        @Test
+        @DisplayName("should_reportPresent_when_longTransactionCommitsBelowWatermark")
+        void should_reportPresent_when_longTransactionCommitsBelowWatermark() {
+            // Without the recently created cache, so only the filter can answer for the late id
+            properties.setNegativeTimeToLive(Duration.ZERO);
+            accountIdFilter = new AccountIdFilter(accountRepository, properties, new AccountChangesProperties(), meterRegistry);
+            when(accountRepository.findMaxIdCreatedBefore(eq(0L), any(LocalDateTime.class))).thenReturn(5L);
+            when(accountRepository.streamActiveIds(0L, 5L)).thenReturn(Stream.of(1L, 3L, 5L));
+            accountIdFilter.warmUp();
+
+            accountIdFilter.onAccountChanged(AccountChangedEvent.created(Account.builder().id(4L).build()));
+
+            assertThat(accountIdFilter.isKnownAbsent(4L)).isFalse();
+            assertThat(accountIdFilter.isKnownAbsent(2L)).isTrue();
+        }
+
+        @Test
+        @DisplayName("should_keepWatermarkBelowInFlightIds_when_olderRowHoldsLargerId")
+        void should_keepWatermarkBelowInFlightIds_when_olderRowHoldsLargerId() {
+            // Without the recently created cache, so only the watermark protects the in-flight id
+            properties.setNegativeTimeToLive(Duration.ZERO);
+            AccountChangesProperties changesProperties = new AccountChangesProperties();
+            accountIdFilter = new AccountIdFilter(accountRepository, properties, changesProperties, meterRegistry);
+
+            // Row 10 was stamped 6s ago and got its id at the end of its write. Row 5 was stamped 4s ago,
+            // got the smaller id before that and may still commit within the max write duration of its stamp.
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime row10Stamped = now.minusSeconds(6);
+            assertThat(changesProperties.getSettleDelay()).isLessThan(Duration.ofSeconds(6));
+            when(accountRepository.findMaxIdCreatedBefore(eq(0L), any(LocalDateTime.class)))
+                    .thenAnswer(invocation -> invocation.<LocalDateTime>getArgument(1).isAfter(row10Stamped) ? 10L : null);
+            lenient().when(accountRepository.streamActiveIds(0L, 10L)).thenReturn(Stream.of(10L));
+
+            accountIdFilter.warmUp();
+
+            assertThat(accountIdFilter.scannedUpTo()).isZero();
+            assertThat(accountIdFilter.isKnownAbsent(5L)).isFalse();
+        }
+
+        @Test
+        @DisplayName("should_keepWatermark_when_noSettledAccountsAdded")
+        void should_keepWatermark_when_noSettledAccountsAdded() {
+            when(accountRepository.findMaxIdCreatedBefore(eq(0L), any(LocalDateTime.class))).thenReturn(null);
+            accountIdFilter.warmUp();
+
+            accountIdFilter.refresh();
+
+            assertThat(accountIdFilter.scannedUpTo()).isZero();
+            assertThat(accountIdFilter.isKnownAbsent(1L)).isFalse();
+            verify(accountRepository, times(2)).findMaxIdCreatedBefore(eq(0L), any(LocalDateTime.class));
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.fintech.service;
+
+import com.fintech.config.AccountBatchProperties;
+import com.fintech.config.AccountCacheProperties;
+import com.fintech.config.AccountUpdateProperties;
+import com.fintech.config.CacheConfig;
+import com.fintech.dto.AccountResponse;
+import com.fintech.dto.AccountUpdateRequest;
+import com.fintech.entity.Account;
+import com.fintech.exception.AccountNotFoundException;
+import com.fintech.mapper.AccountMapper;
+import com.fintech.repository.AccountRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+
+import static com.fintech.config.CacheConfig.ACCOUNTS_CACHE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@SpringJUnitConfig
+@Import({CacheConfig.class, AccountService.class, AccountLoadCoalescer.class, SimpleMeterRegistry.class,
+        ValidationAutoConfiguration.class})
+@EnableConfigurationProperties({AccountCacheProperties.class, AccountBatchProperties.class, AccountUpdateProperties.class})
+@DisplayName("AccountService Cache Tests")
+class AccountServiceCacheTest {
+
+    private static final Long EXISTENT_ID = 1L;
+    private static final String JOHN_DOE_NAME = "John Doe";
+    private static final String JANE_SMITH_NAME = "Jane Smith";
+
+    @MockitoBean
+    private AccountRepository accountRepository;
+
+    @MockitoBean
+    private AccountMapper accountMapper;
+
+    @MockitoBean
+    private EntityManager entityManager;
+
+    @MockitoBean
+    private PhoneNumberIndex phoneNumberIndex;
+
+    @MockitoBean
+    private TransactionTemplate transactionTemplate;
+
+    @MockitoBean
+    private AccountIdFilter accountIdFilter;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Account testAccount;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(ACCOUNTS_CACHE).clear();
+
+        testAccount = Account.builder()
+                .id(EXISTENT_ID)
+                .name(JOHN_DOE_NAME)
+                .isActive(true)
+                .build();
+
+        when(accountRepository.findById(EXISTENT_ID)).thenReturn(Optional.of(testAccount));
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(accountMapper.toResponse(any(Account.class))).thenAnswer(invocation -> {
+            Account account = invocation.getArgument(0);
+            return AccountResponse.builder()
+                    .id(account.getId())
+                    .name(account.getName())
+                    .isActive(account.getIsActive())
+                    .build();
+        });
+    }
+
+    @Test
+    @DisplayName("should_readFromCache_when_accountRequestedRepeatedly")
+    void should_readFromCache_when_accountRequestedRepeatedly() {
+        accountService.findById(EXISTENT_ID);
+        AccountResponse result = accountService.findById(EXISTENT_ID);
+
+        assertThat(result.getName()).isEqualTo(JOHN_DOE_NAME);
+        verify(accountRepository, times(1)).findById(EXISTENT_ID);
+    }
+
+    @Test
+    @DisplayName("should_refreshCachedAccount_when_accountUpdated")
+    void should_refreshCachedAccount_when_accountUpdated() {
+        accountService.findById(EXISTENT_ID);
+
+        accountService.updateAccount(EXISTENT_ID, new AccountUpdateRequest(JANE_SMITH_NAME, null), null);
+        AccountResponse result = accountService.findById(EXISTENT_ID);
+
+        assertThat(result.getName()).isEqualTo(JANE_SMITH_NAME);
+        verify(accountRepository, times(2)).findById(EXISTENT_ID);
+    }
+
+    @Test
+    @DisplayName("should_evictCachedAccount_when_accountDeleted")
+    void should_evictCachedAccount_when_accountDeleted() {
+        accountService.findById(EXISTENT_ID);
+
+        accountService.deleteAccount(EXISTENT_ID, null);
+        when(accountRepository.findById(EXISTENT_ID)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> accountService.findById(EXISTENT_ID))
+                .isInstanceOf(AccountNotFoundException.class);
+    }
+}
@@ -1,28 +1,68 @@
 package com.fintech.service;
 
+import com.fintech.config.AccountBatchProperties;
+import com.fintech.config.AccountCacheProperties;
+import com.fintech.config.AccountUpdateProperties;
+import com.fintech.dto.AccountBatchItemResponse;
+import com.fintech.dto.AccountBatchResponse;
 import com.fintech.dto.AccountCreateRequest;
+import com.fintech.dto.AccountListFilter;
+import com.fintech.dto.AccountLookupItemResponse;
+import com.fintech.dto.AccountLookupResponse;
 import com.fintech.dto.AccountResponse;
 import com.fintech.dto.AccountUpdateRequest;
 import com.fintech.entity.Account;
+import com.fintech.event.AccountChangedEvent;
 import com.fintech.exception.AccountNotFoundException;
+import com.fintech.exception.AccountUpdateConflictException;
+import com.fintech.exception.AccountVersionMismatchException;
 import com.fintech.exception.DuplicatePhoneNumberException;
+import com.fintech.exception.WriteDeadlineExceededException;
 import com.fintech.mapper.AccountMapper;
 import com.fintech.repository.AccountRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
+import org.hibernate.exception.ConstraintViolationException;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.SQLException;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static com.fintech.config.CacheConfig.ACCOUNTS_CACHE;
+import static com.fintech.exception.ErrorCode.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -42,6 +82,39 @@ class AccountServiceTest {
     @Mock
     private AccountMapper accountMapper;
 
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Spy
+    private AccountBatchProperties batchProperties = new AccountBatchProperties();
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PhoneNumberIndex phoneNumberIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private AccountUpdateProperties updateProperties = new AccountUpdateProperties();
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache accountsCache;
+
+    @Spy
+    private AccountLoadCoalescer loadCoalescer = new AccountLoadCoalescer(new AccountCacheProperties(), new SimpleMeterRegistry());
+
+    @Mock
+    private AccountIdFilter accountIdFilter;
+
     @InjectMocks
     private AccountService accountService;
 
@@ -57,6 +130,10 @@ class AccountServiceTest {
 
         createRequest = new AccountCreateRequest(JOHN_DOE_NAME, VALID_PHONE);
         updateRequest = new AccountUpdateRequest(JANE_SMITH_NAME, ANOTHER_VALID_PHONE);
+
+        lenient().when(phoneNumberIndex.lookup(any())).thenReturn(PhoneNumberIndex.Presence.UNKNOWN);
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
     }
 
     @Nested
@@ -66,9 +143,8 @@ class AccountServiceTest {
         @Test
         @DisplayName("should_createAccountSuccessfully_when_validRequestProvided")
         void should_createAccountSuccessfully_when_validRequestProvided() {
-            when(accountRepository.existsByPhoneNr(createRequest.getPhoneNr())).thenReturn(false);
             when(accountMapper.toEntity(createRequest)).thenReturn(testAccount);
-            when(accountRepository.save(any(Account.class))).thenReturn(testAccount);
+            when(accountRepository.saveAndFlush(any(Account.class))).thenReturn(testAccount);
             when(accountMapper.toResponse(testAccount)).thenReturn(testAccountResponse);
 
             AccountResponse result = accountService.createAccount(createRequest);
@@ -78,22 +154,238 @@ class AccountServiceTest {
             assertThat(result.getName()).isEqualTo(JOHN_DOE_NAME);
             assertThat(result.getPhoneNr()).isEqualTo(VALID_PHONE);
 
-            verify(accountRepository).existsByPhoneNr(VALID_PHONE);
             verify(accountMapper).toEntity(createRequest);
-            verify(accountRepository).save(any(Account.class));
+            verify(accountRepository).saveAndFlush(any(Account.class));
+            verify(accountRepository, never()).existsByPhoneNr(any());
             verify(accountMapper).toResponse(testAccount);
         }
 
         @Test
-        @DisplayName("should_throwIllegalArgumentException_when_phoneNumberAlreadyExists")
-        void should_throwIllegalArgumentException_when_phoneNumberAlreadyExists() {
-            when(accountRepository.existsByPhoneNr(createRequest.getPhoneNr())).thenReturn(true);
+        @DisplayName("should_throwDuplicatePhoneNumberException_when_insertViolatesPhoneNumberConstraint")
+        void should_throwDuplicatePhoneNumberException_when_insertViolatesPhoneNumberConstraint() {
+            when(accountMapper.toEntity(createRequest)).thenReturn(testAccount);
+            when(accountRepository.saveAndFlush(any(Account.class))).thenThrow(phoneNumberConstraintViolation());
 
             assertThatThrownBy(() -> accountService.createAccount(createRequest))
                     .isInstanceOf(DuplicatePhoneNumberException.class)
                     .hasMessage("Phone number already exists: " + VALID_PHONE);
 
-            verify(accountRepository, never()).save(any(Account.class));
+            verify(eventPublisher, never()).publishEvent(any());
+        }
+
+        @Test
+        @DisplayName("should_rethrow_when_insertViolatesOtherConstraint")
+        void should_rethrow_when_insertViolatesOtherConstraint() {
+            DataIntegrityViolationException otherViolation = new DataIntegrityViolationException("could not execute statement",
+                    new ConstraintViolationException("Column 'name' cannot be null", new SQLException(), "name"));
+            when(accountMapper.toEntity(createRequest)).thenReturn(testAccount);
+            when(accountRepository.saveAndFlush(any(Account.class))).thenThrow(otherViolation);
+
+            assertThatThrownBy(() -> accountService.createAccount(createRequest))
+                    .isSameAs(otherViolation);
+        }
+
+        @Test
+        @DisplayName("should_insertWithoutIndexLookup_when_phoneNumberGiven")
+        void should_insertWithoutIndexLookup_when_phoneNumberGiven() {
+            when(accountMapper.toEntity(createRequest)).thenReturn(testAccount);
+            when(accountRepository.saveAndFlush(any(Account.class))).thenReturn(testAccount);
+            when(accountMapper.toResponse(testAccount)).thenReturn(testAccountResponse);
+
+            accountService.createAccount(createRequest);
+
+            verify(phoneNumberIndex, never()).lookup(any());
+            verify(accountRepository, never()).existsByPhoneNr(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Batch Create Account Tests")
+    class BatchCreateAccountTests {
+
+        @Test
+        @DisplayName("should_insertValidItemsAndReportFailures_when_batchContainsInvalidItems")
+        void should_insertValidItemsAndReportFailures_when_batchContainsInvalidItems() {
+            List<AccountCreateRequest> requests = Arrays.asList(
+                    new AccountCreateRequest(JOHN_DOE_NAME, VALID_PHONE),
+                    new AccountCreateRequest(JANE_SMITH_NAME, VALID_PHONE),
+                    new AccountCreateRequest(null, ANOTHER_VALID_PHONE),
+                    new AccountCreateRequest(JANE_SMITH_NAME, "123"),
+                    null);
+
+            when(accountRepository.findExistingPhoneNrs(anyCollection())).thenReturn(Set.of());
+            when(accountMapper.toEntity(any(AccountCreateRequest.class))).thenReturn(testAccount);
+            when(accountMapper.toResponse(testAccount)).thenReturn(testAccountResponse);
+
+            AccountBatchResponse result = accountService.createAccounts(requests);
+
+            assertThat(result.getCreatedCount()).isEqualTo(1);
+            assertThat(result.getFailedCount()).isEqualTo(4);
+            assertThat(result.getResults()).extracting(AccountBatchItemResponse::getErrorCode)
+                    .containsExactly(null, DUPLICATE_PHONE_NUMBER, VALIDATION_FAILED, INVALID_REQUEST, VALIDATION_FAILED);
+            assertThat(result.getResults().get(0).getAccount()).isEqualTo(testAccountResponse);
+
+            verify(accountRepository).findExistingPhoneNrs(List.of(VALID_PHONE));
+            verify(accountRepository).insertAll(List.of(testAccount));
+            verify(accountRepository, never()).existsByPhoneNr(any());
+        }
+
+        @Test
+        @DisplayName("should_rejectItem_when_phoneNumberAlreadyExistsInDatabase")
+        void should_rejectItem_when_phoneNumberAlreadyExistsInDatabase() {
+            List<AccountCreateRequest> requests = List.of(new AccountCreateRequest(JOHN_DOE_NAME, VALID_PHONE));
+
+            when(accountRepository.findExistingPhoneNrs(anyCollection())).thenReturn(Set.of(VALID_PHONE));
+
+            AccountBatchResponse result = accountService.createAccounts(requests);
+
+            assertThat(result.getCreatedCount()).isZero();
+            assertThat(result.getResults().get(0).getErrorCode()).isEqualTo(DUPLICATE_PHONE_NUMBER);
+            assertThat(result.getResults().get(0).getMessage()).isEqualTo("Phone number already exists: " + VALID_PHONE);
+
+            verify(accountRepository, never()).insertAll(anyList());
+        }
+
+        @Test
+        @DisplayName("should_rejectItem_when_phoneNumberIndexMissesRowInDatabase")
+        void should_rejectItem_when_phoneNumberIndexMissesRowInDatabase() {
+            List<AccountCreateRequest> requests = List.of(new AccountCreateRequest(JOHN_DOE_NAME, VALID_PHONE));
+
+            lenient().when(phoneNumberIndex.lookup(VALID_PHONE)).thenReturn(PhoneNumberIndex.Presence.ABSENT);
+            when(accountRepository.findExistingPhoneNrs(anyCollection())).thenReturn(Set.of(VALID_PHONE));
+
+            AccountBatchResponse result = accountService.createAccounts(requests);
+
+            assertThat(result.getCreatedCount()).isZero();
+            assertThat(result.getResults().get(0).getErrorCode()).isEqualTo(DUPLICATE_PHONE_NUMBER);
+
+            verify(accountRepository).findExistingPhoneNrs(List.of(VALID_PHONE));
+            verify(accountRepository, never()).insertAll(anyList());
+        }
+
+        @Test
+        @DisplayName("should_rejectItemAndInsertRest_when_concurrentCreateViolatesPhoneNumberConstraint")
+        void should_rejectItemAndInsertRest_when_concurrentCreateViolatesPhoneNumberConstraint() {
+            List<AccountCreateRequest> requests = List.of(
+                    new AccountCreateRequest(JOHN_DOE_NAME, VALID_PHONE),
+                    new AccountCreateRequest(JANE_SMITH_NAME, ANOTHER_VALID_PHONE));
+
+            when(accountRepository.findExistingPhoneNrs(anyCollection())).thenReturn(Set.of(), Set.of(VALID_PHONE));
+            when(accountMapper.toEntity(any(AccountCreateRequest.class)))
+                    .thenAnswer(invocation -> account(invocation.getArgument(0)));
+            when(accountMapper.toResponse(any(Account.class))).thenReturn(testAccountResponse);
+            doThrow(phoneNumberConstraintViolation()).doNothing().when(accountRepository).insertAll(anyList());
+
+            AccountBatchResponse result = accountService.createAccounts(requests);
+
+            assertThat(result.getResults()).extracting(AccountBatchItemResponse::getErrorCode)
+                    .containsExactly(DUPLICATE_PHONE_NUMBER, null);
+            assertThat(result.getResults().get(0).getMessage()).isEqualTo("Phone number already exists: " + VALID_PHONE);
+
+            ArgumentCaptor<List<Account>> inserted = ArgumentCaptor.forClass(List.class);
+            verify(accountRepository, times(2)).insertAll(inserted.capture());
+            assertThat(inserted.getAllValues().get(1)).extracting(Account::getPhoneNr).containsExactly(ANOTHER_VALID_PHONE);
+        }
+
+        @Test
+        @DisplayName("should_createEveryAccount_when_batchHasMaximumSize")
+        void should_createEveryAccount_when_batchHasMaximumSize() {
+            List<AccountCreateRequest> requests = IntStream.range(0, batchProperties.getMaxSize())
+                    .mapToObj(i -> new AccountCreateRequest(JOHN_DOE_NAME, "+1" + (1_000_000_000L + i)))
+                    .toList();
+            List<LocalDateTime> chunkStamps = new ArrayList<>();
+
+            when(accountRepository.findExistingPhoneNrs(anyCollection())).thenReturn(Set.of());
+            when(accountMapper.toEntity(any(AccountCreateRequest.class)))
+                    .thenAnswer(invocation -> account(invocation.getArgument(0)));
+            when(accountMapper.toResponse(any(Account.class))).thenReturn(testAccountResponse);
+            doAnswer(invocation -> {
+                List<Account> chunk = invocation.getArgument(0);
+                assertThat(chunk).extracting(Account::getCreatedTime).containsOnly(chunk.getFirst().getCreatedTime());
+                chunkStamps.add(chunk.getFirst().getCreatedTime());
+                return null;
+            }).when(accountRepository).insertAll(anyList());
+
+            AccountBatchResponse result = accountService.createAccounts(requests);
+
+            assertThat(result.getCreatedCount()).isEqualTo(batchProperties.getMaxSize());
+            assertThat(result.getFailedCount()).isZero();
+
+            // One transaction per chunk, each stamped when it is inserted
+            int chunks = batchProperties.getMaxSize() / batchProperties.getChunkSize();
+            verify(transactionTemplate, times(chunks)).execute(any());
+            assertThat(chunkStamps).hasSize(chunks).isSorted();
+        }
+
+        @Test
+        @DisplayName("should_writeChunkInHalves_when_chunkMissesWriteDeadline")
+        void should_writeChunkInHalves_when_chunkMissesWriteDeadline() {
+            List<AccountCreateRequest> requests = List.of(
+                    new AccountCreateRequest(JOHN_DOE_NAME, VALID_PHONE),
+                    new AccountCreateRequest(JANE_SMITH_NAME, ANOTHER_VALID_PHONE));
+
+            when(accountRepository.findExistingPhoneNrs(anyCollection())).thenReturn(Set.of());
+            when(accountMapper.toEntity(any(AccountCreateRequest.class)))
+                    .thenAnswer(invocation -> account(invocation.getArgument(0)));
+            when(accountMapper.toResponse(any(Account.class))).thenReturn(testAccountResponse);
+            doThrow(new WriteDeadlineExceededException(Duration.ofSeconds(4), Duration.ofSeconds(5)))
+                    .doAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null))
+                    .when(transactionTemplate).execute(any());
+
+            AccountBatchResponse result = accountService.createAccounts(requests);
+
+            assertThat(result.getCreatedCount()).isEqualTo(2);
+            verify(accountRepository, times(2)).insertAll(argThat(chunk -> chunk.size() == 1));
+        }
+
+        @Test
+        @DisplayName("should_reportRemainingItemsFailed_when_laterChunkFails")
+        void should_reportRemainingItemsFailed_when_laterChunkFails() {
+            batchProperties.setChunkSize(1);
+            List<AccountCreateRequest> requests = List.of(
+                    new AccountCreateRequest(JOHN_DOE_NAME, VALID_PHONE),
+                    new AccountCreateRequest(JANE_SMITH_NAME, ANOTHER_VALID_PHONE));
+
+            when(accountRepository.findExistingPhoneNrs(anyCollection())).thenReturn(Set.of());
+            when(accountMapper.toEntity(any(AccountCreateRequest.class)))
+                    .thenAnswer(invocation -> account(invocation.getArgument(0)));
+            when(accountMapper.toResponse(any(Account.class))).thenReturn(testAccountResponse);
+            doNothing().doThrow(new QueryTimeoutException("Lock wait timeout exceeded"))
+                    .when(accountRepository).insertAll(anyList());
+
+            AccountBatchResponse result = accountService.createAccounts(requests);
+
+            assertThat(result.getCreatedCount()).isEqualTo(1);
+            assertThat(result.getResults()).extracting(AccountBatchItemResponse::getErrorCode)
+                    .containsExactly(null, INTERNAL_ERROR);
+        }
+
+        @Test
+        @DisplayName("should_throwException_when_firstChunkFails")
+        void should_throwException_when_firstChunkFails() {
+            List<AccountCreateRequest> requests = List.of(new AccountCreateRequest(JOHN_DOE_NAME, VALID_PHONE));
+
+            when(accountRepository.findExistingPhoneNrs(anyCollection())).thenReturn(Set.of());
+            when(accountMapper.toEntity(any(AccountCreateRequest.class))).thenReturn(testAccount);
+            doThrow(new QueryTimeoutException("Lock wait timeout exceeded")).when(accountRepository).insertAll(anyList());
+
+            assertThatThrownBy(() -> accountService.createAccounts(requests))
+                    .isInstanceOf(QueryTimeoutException.class);
+        }
+
+        @Test
+        @DisplayName("should_throwIllegalArgumentException_when_batchExceedsMaximumSize")
+        void should_throwIllegalArgumentException_when_batchExceedsMaximumSize() {
+            batchProperties.setMaxSize(1);
+            List<AccountCreateRequest> requests = List.of(
+                    new AccountCreateRequest(JOHN_DOE_NAME, VALID_PHONE),
+                    new AccountCreateRequest(JANE_SMITH_NAME, ANOTHER_VALID_PHONE));
+
+            assertThatThrownBy(() -> accountService.createAccounts(requests))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Batch size exceeds maximum of 1");
+
+            verifyNoInteractions(accountRepository);
         }
     }
 
@@ -128,6 +420,120 @@ class AccountServiceTest {
                     .hasMessage("Account not found with ID: " + NON_EXISTENT_ID);
 
             verify(accountRepository).findById(NON_EXISTENT_ID);
+            verify(accountIdFilter).recordAbsent(NON_EXISTENT_ID);
+        }
+
+        @Test
+        @DisplayName("should_throwWithoutQuery_when_idKnownAbsent")
+        void should_throwWithoutQuery_when_idKnownAbsent() {
+            when(accountIdFilter.isKnownAbsent(NON_EXISTENT_ID)).thenReturn(true);
+
+            assertThatThrownBy(() -> accountService.findById(NON_EXISTENT_ID))
+                    .isInstanceOf(AccountNotFoundException.class)
+                    .hasMessage("Account not found with ID: " + NON_EXISTENT_ID);
+
+            assertThat(new AccountNotFoundException(NON_EXISTENT_ID).getStackTrace()).isEmpty();
+            verifyNoInteractions(accountRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("Lookup Account Tests")
+    class LookupAccountTests {
+
+        @Test
+        @DisplayName("should_returnResultsInRequestOrder_when_someAccountsDoNotExist")
+        void should_returnResultsInRequestOrder_when_someAccountsDoNotExist() {
+            when(accountRepository.findAllActiveByIdIn(Set.of(NON_EXISTENT_ID, EXISTENT_ID))).thenReturn(List.of(testAccount));
+            when(accountMapper.toResponse(testAccount)).thenReturn(testAccountResponse);
+
+            AccountLookupResponse result = accountService.findByIds(List.of(NON_EXISTENT_ID, EXISTENT_ID, NON_EXISTENT_ID));
+
+            assertThat(result.getFoundCount()).isEqualTo(1);
+            assertThat(result.getNotFoundCount()).isEqualTo(2);
+            assertThat(result.getResults()).extracting(AccountLookupItemResponse::getId)
+                    .containsExactly(NON_EXISTENT_ID, EXISTENT_ID, NON_EXISTENT_ID);
+            assertThat(result.getResults()).extracting(AccountLookupItemResponse::isFound)
+                    .containsExactly(false, true, false);
+            assertThat(result.getResults().get(1).getAccount()).isEqualTo(testAccountResponse);
+
+            verify(accountRepository, never()).findById(any());
+            verify(accountIdFilter).recordAbsent(NON_EXISTENT_ID);
+        }
+
+        @Test
+        @DisplayName("should_queryOnlyCandidates_when_someIdsKnownAbsent")
+        void should_queryOnlyCandidates_when_someIdsKnownAbsent() {
+            when(accountIdFilter.isKnownAbsent(NON_EXISTENT_ID)).thenReturn(true);
+            when(accountRepository.findAllActiveByIdIn(Set.of(EXISTENT_ID))).thenReturn(List.of(testAccount));
+            when(accountMapper.toResponse(testAccount)).thenReturn(testAccountResponse);
+
+            AccountLookupResponse result = accountService.findByIds(List.of(NON_EXISTENT_ID, EXISTENT_ID));
+
+            assertThat(result.getResults()).extracting(AccountLookupItemResponse::isFound)
+                    .containsExactly(false, true);
+            verify(accountIdFilter, never()).recordAbsent(any());
+        }
+
+        @Test
+        @DisplayName("should_skipQuery_when_allIdsKnownAbsent")
+        void should_skipQuery_when_allIdsKnownAbsent() {
+            when(accountIdFilter.isKnownAbsent(NON_EXISTENT_ID)).thenReturn(true);
+
+            AccountLookupResponse result = accountService.findByIds(List.of(NON_EXISTENT_ID));
+
+            assertThat(result.getNotFoundCount()).isEqualTo(1);
+            verifyNoInteractions(accountRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("List Account Tests")
+    class ListAccountTests {
+
+        @Test
+        @DisplayName("should_returnNextCursor_when_pageIsFull")
+        void should_returnNextCursor_when_pageIsFull() {
+            AccountListFilter filter = AccountListFilter.builder().limit(1).build();
+            List<AccountResponse> written = new ArrayList<>();
+
+            when(accountRepository.streamPage(filter)).thenReturn(Stream.of(testAccount));
+            when(accountMapper.toResponse(testAccount)).thenReturn(testAccountResponse);
+
+            Long nextCursor = accountService.streamAccounts(filter, written::add);
+
+            assertThat(nextCursor).isEqualTo(EXISTENT_ID);
+            assertThat(written).containsExactly(testAccountResponse);
+        }
+
+        @Test
+        @DisplayName("should_returnNoCursor_when_lastPageReached")
+        void should_returnNoCursor_when_lastPageReached() {
+            AccountListFilter filter = AccountListFilter.builder().limit(2).build();
+
+            when(accountRepository.streamPage(filter)).thenReturn(Stream.of(testAccount));
+            when(accountMapper.toResponse(testAccount)).thenReturn(testAccountResponse);
+
+            Long nextCursor = accountService.streamAccounts(filter, account -> { });
+
+            assertThat(nextCursor).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("Export Account Tests")
+    class ExportAccountTests {
+
+        @Test
+        @DisplayName("should_detachEntitiesPeriodically_when_exportingManyAccounts")
+        void should_detachEntitiesPeriodically_when_exportingManyAccounts() {
+            when(accountRepository.streamAllAfterId(0L)).thenReturn(Stream.generate(() -> testAccount).limit(2_500));
+            when(accountMapper.toResponse(testAccount)).thenReturn(testAccountResponse);
+
+            long count = accountService.exportAccounts(0L, account -> { });
+
+            assertThat(count).isEqualTo(2_500);
+            verify(entityManager, times(2)).clear();
         }
     }
 
@@ -150,7 +556,7 @@ class AccountServiceTest {
             when(accountRepository.existsByPhoneNr(updateRequest.getPhoneNr())).thenReturn(false);
             when(accountMapper.toResponse(any(Account.class))).thenReturn(updatedResponse);
 
-            AccountResponse result = accountService.updateAccount(EXISTENT_ID, updateRequest);
+            AccountResponse result = accountService.updateAccount(EXISTENT_ID, updateRequest, null);
 
             assertThat(result).isNotNull();
             assertThat(result.getId()).isEqualTo(EXISTENT_ID);
@@ -166,7 +572,7 @@ class AccountServiceTest {
         void should_throwAccountNotFoundException_when_accountDoesNotExist() {
             when(accountRepository.findById(NON_EXISTENT_ID)).thenReturn(Optional.empty());
 
-            assertThatThrownBy(() -> accountService.updateAccount(NON_EXISTENT_ID, updateRequest))
+            assertThatThrownBy(() -> accountService.updateAccount(NON_EXISTENT_ID, updateRequest, null))
                     .isInstanceOf(AccountNotFoundException.class)
                     .hasMessage("Account not found with ID: " + NON_EXISTENT_ID);
 
@@ -180,10 +586,104 @@ class AccountServiceTest {
             when(accountRepository.findById(EXISTENT_ID)).thenReturn(Optional.of(testAccount));
             when(accountRepository.existsByPhoneNr(updateRequest.getPhoneNr())).thenReturn(true);
 
-            assertThatThrownBy(() -> accountService.updateAccount(EXISTENT_ID, updateRequest))
+            assertThatThrownBy(() -> accountService.updateAccount(EXISTENT_ID, updateRequest, null))
+                    .isInstanceOf(DuplicatePhoneNumberException.class)
+                    .hasMessage("Phone number already exists: " + ANOTHER_VALID_PHONE);
+        }
+
+        @Test
+        @DisplayName("should_throwDuplicatePhoneNumberException_when_flushViolatesPhoneNumberConstraint")
+        void should_throwDuplicatePhoneNumberException_when_flushViolatesPhoneNumberConstraint() {
+            when(accountRepository.findById(EXISTENT_ID)).thenReturn(Optional.of(testAccount));
+            when(accountRepository.existsByPhoneNr(updateRequest.getPhoneNr())).thenReturn(false);
+            doThrow(phoneNumberConstraintViolation()).when(accountRepository).flush();
+
+            assertThatThrownBy(() -> accountService.updateAccount(EXISTENT_ID, updateRequest, null))
                     .isInstanceOf(DuplicatePhoneNumberException.class)
                     .hasMessage("Phone number already exists: " + ANOTHER_VALID_PHONE);
         }
+
+        @Test
+        @DisplayName("should_throwVersionMismatch_when_expectedVersionIsStale")
+        void should_throwVersionMismatch_when_expectedVersionIsStale() {
+            when(accountRepository.findById(EXISTENT_ID)).thenReturn(Optional.of(testAccount));
+
+            assertThatThrownBy(() -> accountService.updateAccount(EXISTENT_ID, updateRequest, 2L))
+                    .isInstanceOf(AccountVersionMismatchException.class)
+                    .hasMessage("Account with ID " + EXISTENT_ID + " has been modified since version 2");
+
+            assertThat(testAccount.getName()).isEqualTo(JOHN_DOE_NAME);
+            verify(accountRepository, never()).flush();
+        }
+
+        @Test
+        @DisplayName("should_throwVersionMismatch_when_concurrentUpdateWinsBeforeFlush")
+        void should_throwVersionMismatch_when_concurrentUpdateWinsBeforeFlush() {
+            when(accountRepository.findById(EXISTENT_ID)).thenReturn(Optional.of(testAccount));
+            doThrow(new ObjectOptimisticLockingFailureException(Account.class, EXISTENT_ID)).when(accountRepository).flush();
+
+            assertThatThrownBy(() -> accountService.updateAccount(EXISTENT_ID, new AccountUpdateRequest(JANE_SMITH_NAME, null), 3L))
+                    .isInstanceOf(AccountVersionMismatchException.class);
+        }
+
+        @Test
+        @DisplayName("should_mergeIntoFreshAccount_when_concurrentUpdateChangedOtherField")
+        void should_mergeIntoFreshAccount_when_concurrentUpdateChangedOtherField() {
+            Account concurrentlyUpdated = createTestAccount();
+            concurrentlyUpdated.setPhoneNr(ANOTHER_VALID_PHONE);
+            concurrentlyUpdated.setVersion(4L);
+            when(accountRepository.findById(EXISTENT_ID)).thenReturn(Optional.of(testAccount), Optional.of(concurrentlyUpdated));
+            doThrow(new ObjectOptimisticLockingFailureException(Account.class, EXISTENT_ID)).doNothing()
+                    .when(accountRepository).flush();
+            when(accountMapper.toResponse(concurrentlyUpdated)).thenReturn(testAccountResponse);
+
+            accountService.updateAccount(EXISTENT_ID, new AccountUpdateRequest(JANE_SMITH_NAME, null), null);
+
+            assertThat(concurrentlyUpdated.getName()).isEqualTo(JANE_SMITH_NAME);
+            assertThat(concurrentlyUpdated.getPhoneNr()).isEqualTo(ANOTHER_VALID_PHONE);
+            verify(transactionTemplate, times(2)).execute(any());
+        }
+
+        @Test
+        @DisplayName("should_throwConflict_when_concurrentUpdateChangedSameField")
+        void should_throwConflict_when_concurrentUpdateChangedSameField() {
+            Account concurrentlyUpdated = createTestAccount();
+            concurrentlyUpdated.setName("Jim Beam");
+            when(accountRepository.findById(EXISTENT_ID)).thenReturn(Optional.of(testAccount), Optional.of(concurrentlyUpdated));
+            doThrow(new ObjectOptimisticLockingFailureException(Account.class, EXISTENT_ID)).when(accountRepository).flush();
+
+            assertThatThrownBy(() -> accountService.updateAccount(EXISTENT_ID, new AccountUpdateRequest(JANE_SMITH_NAME, null), null))
+                    .isInstanceOf(AccountUpdateConflictException.class)
+                    .hasMessage("Account with ID " + EXISTENT_ID + " was concurrently modified: name");
+
+            assertThat(concurrentlyUpdated.getName()).isEqualTo("Jim Beam");
+        }
+
+        @Test
+        @DisplayName("should_throwConflict_when_retriesExhausted")
+        void should_throwConflict_when_retriesExhausted() {
+            when(accountRepository.findById(EXISTENT_ID)).thenAnswer(invocation -> Optional.of(createTestAccount()));
+            doThrow(new ObjectOptimisticLockingFailureException(Account.class, EXISTENT_ID)).when(accountRepository).flush();
+
+            assertThatThrownBy(() -> accountService.updateAccount(EXISTENT_ID, new AccountUpdateRequest(JANE_SMITH_NAME, null), null))
+                    .isInstanceOf(AccountUpdateConflictException.class)
+                    .hasMessage("Account with ID " + EXISTENT_ID + " is being modified concurrently");
+
+            verify(accountRepository, times(updateProperties.getMaxAttempts())).flush();
+        }
+
+        @Test
+        @DisplayName("should_flushBeforeMapping_when_accountUpdated")
+        void should_flushBeforeMapping_when_accountUpdated() {
+            when(accountRepository.findById(EXISTENT_ID)).thenReturn(Optional.of(testAccount));
+            when(accountMapper.toResponse(testAccount)).thenReturn(testAccountResponse);
+
+            accountService.updateAccount(EXISTENT_ID, new AccountUpdateRequest(JANE_SMITH_NAME, null), 3L);
+
+            InOrder inOrder = inOrder(accountRepository, accountMapper);
+            inOrder.verify(accountRepository).flush();
+            inOrder.verify(accountMapper).toResponse(testAccount);
+        }
     }
 
     @Nested
@@ -195,7 +695,7 @@ class AccountServiceTest {
         void should_softDeleteAccountSuccessfully_when_accountExists() {
             when(accountRepository.findById(EXISTENT_ID)).thenReturn(Optional.of(testAccount));
 
-            accountService.deleteAccount(EXISTENT_ID);
+            accountService.deleteAccount(EXISTENT_ID, null);
 
             assertThat(testAccount.getIsActive()).isNull();
             assertThat(testAccount.getDeletedTime()).isNotNull();
@@ -206,10 +706,128 @@ class AccountServiceTest {
         void should_throwAccountNotFoundException_when_accountDoesNotExist() {
             when(accountRepository.findById(NON_EXISTENT_ID)).thenReturn(Optional.empty());
 
-            assertThatThrownBy(() -> accountService.deleteAccount(NON_EXISTENT_ID))
+            assertThatThrownBy(() -> accountService.deleteAccount(NON_EXISTENT_ID, null))
                     .isInstanceOf(AccountNotFoundException.class)
                     .hasMessage("Account not found with ID: " + NON_EXISTENT_ID);
         }
+
+        @Test
+        @DisplayName("should_keepAccount_when_expectedVersionIsStale")
+        void should_keepAccount_when_expectedVersionIsStale() {
+            when(accountRepository.findById(EXISTENT_ID)).thenReturn(Optional.of(testAccount));
+
+            assertThatThrownBy(() -> accountService.deleteAccount(EXISTENT_ID, 2L))
+                    .isInstanceOf(AccountVersionMismatchException.class);
+
+            assertThat(testAccount.getDeletedTime()).isNull();
+            verify(eventPublisher, never()).publishEvent(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Single Statement Write Tests")
+    class SingleStatementWriteTests {
+
+        private AccountResponse cachedResponse;
+
+        @BeforeEach
+        void setUp() {
+            cachedResponse = createTestAccountResponse();
+            cachedResponse.setVersion(3L);
+            when(cacheManager.getCache(ACCOUNTS_CACHE)).thenReturn(accountsCache);
+            lenient().when(accountMapper.toEntity(any(AccountResponse.class))).thenAnswer(invocation -> createTestAccount());
+        }
+
+        @Test
+        @DisplayName("should_updateChangedColumnsOnly_when_cachedVersionIsCurrent")
+        void should_updateChangedColumnsOnly_when_cachedVersionIsCurrent() {
+            when(accountsCache.get(EXISTENT_ID, AccountResponse.class)).thenReturn(cachedResponse);
+            when(accountRepository.updateIfVersion(eq(EXISTENT_ID), eq(3L), eq(JANE_SMITH_NAME), isNull(), any())).thenReturn(1);
+            when(accountMapper.toResponse(any(Account.class))).thenReturn(testAccountResponse);
+
+            accountService.updateAccount(EXISTENT_ID, new AccountUpdateRequest(JANE_SMITH_NAME, VALID_PHONE), 3L);
+
+            ArgumentCaptor<Account> updated = ArgumentCaptor.forClass(Account.class);
+            verify(accountMapper).toResponse(updated.capture());
+            assertThat(updated.getValue().getName()).isEqualTo(JANE_SMITH_NAME);
+            assertThat(updated.getValue().getVersion()).isEqualTo(4L);
+            verify(accountRepository, never()).findById(any());
+            verify(accountRepository, never()).flush();
+            verify(eventPublisher).publishEvent(any(AccountChangedEvent.class));
+        }
+
+        @Test
+        @DisplayName("should_fallBackToLoad_when_cachedVersionIsStale")
+        void should_fallBackToLoad_when_cachedVersionIsStale() {
+            when(accountsCache.get(EXISTENT_ID, AccountResponse.class)).thenReturn(cachedResponse);
+            when(accountRepository.updateIfVersion(any(), anyLong(), any(), any(), any())).thenReturn(0);
+            when(accountRepository.findById(EXISTENT_ID)).thenReturn(Optional.of(testAccount));
+            when(accountMapper.toResponse(testAccount)).thenReturn(testAccountResponse);
+
+            accountService.updateAccount(EXISTENT_ID, new AccountUpdateRequest(JANE_SMITH_NAME, null), null);
+
+            assertThat(testAccount.getName()).isEqualTo(JANE_SMITH_NAME);
+            verify(accountRepository).flush();
+            verify(eventPublisher, times(1)).publishEvent(any(AccountChangedEvent.class));
+        }
+
+        @Test
+        @DisplayName("should_throwConflict_when_concurrentUpdateChangedSameFieldOfCachedAccount")
+        void should_throwConflict_when_concurrentUpdateChangedSameFieldOfCachedAccount() {
+            Account concurrentlyUpdated = createTestAccount();
+            concurrentlyUpdated.setName("Jim Beam");
+            concurrentlyUpdated.setVersion(4L);
+            when(accountsCache.get(EXISTENT_ID, AccountResponse.class)).thenReturn(cachedResponse);
+            when(accountRepository.updateIfVersion(any(), anyLong(), any(), any(), any())).thenReturn(0);
+            when(accountRepository.findById(EXISTENT_ID)).thenReturn(Optional.of(concurrentlyUpdated));
+
+            assertThatThrownBy(() -> accountService.updateAccount(EXISTENT_ID, new AccountUpdateRequest(JANE_SMITH_NAME, null), null))
+                    .isInstanceOf(AccountUpdateConflictException.class)
+                    .hasMessage("Account with ID " + EXISTENT_ID + " was concurrently modified: name");
+
+            assertThat(concurrentlyUpdated.getName()).isEqualTo("Jim Beam");
+            verify(accountRepository, never()).flush();
+        }
+
+        @Test
+        @DisplayName("should_skipCachedImage_when_expectedVersionDiffers")
+        void should_skipCachedImage_when_expectedVersionDiffers() {
+            when(accountsCache.get(EXISTENT_ID, AccountResponse.class)).thenReturn(cachedResponse);
+            when(accountRepository.findById(EXISTENT_ID)).thenReturn(Optional.of(testAccount));
+
+            assertThatThrownBy(() -> accountService.updateAccount(EXISTENT_ID, updateRequest, 2L))
+                    .isInstanceOf(AccountVersionMismatchException.class);
+
+            verify(accountRepository, never()).updateIfVersion(any(), anyLong(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("should_softDeleteWithoutLoad_when_cachedVersionIsCurrent")
+        void should_softDeleteWithoutLoad_when_cachedVersionIsCurrent() {
+            when(accountsCache.get(EXISTENT_ID, AccountResponse.class)).thenReturn(cachedResponse);
+            when(accountRepository.softDeleteIfVersion(eq(EXISTENT_ID), eq(3L), any())).thenReturn(1);
+
+            accountService.deleteAccount(EXISTENT_ID, null);
+
+            ArgumentCaptor<AccountChangedEvent> event = ArgumentCaptor.forClass(AccountChangedEvent.class);
+            verify(eventPublisher).publishEvent(event.capture());
+            assertThat(event.getValue().getType()).isEqualTo(AccountChangedEvent.Type.DELETED);
+            assertThat(event.getValue().getPreviousPhoneNr()).isEqualTo(VALID_PHONE);
+            verify(accountRepository, never()).findById(any());
+        }
+
+        @Test
+        @DisplayName("should_throwAccountNotFoundException_when_cachedAccountDeletedElsewhere")
+        void should_throwAccountNotFoundException_when_cachedAccountDeletedElsewhere() {
+            when(accountsCache.get(EXISTENT_ID, AccountResponse.class)).thenReturn(cachedResponse);
+            when(accountRepository.softDeleteIfVersion(any(), anyLong(), any())).thenReturn(0);
+            when(accountRepository.findById(EXISTENT_ID)).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> accountService.deleteAccount(EXISTENT_ID, null))
+                    .isInstanceOf(AccountNotFoundException.class);
+
+            verify(eventPublisher, never()).publishEvent(any());
+        }
     }
 
     private Account createTestAccount() {
@@ -221,6 +839,15 @@ class AccountServiceTest {
                 .modifiedTime(LocalDateTime.now())
                 .deletedTime(null)
                 .isActive(true)
+                .version(3L)
+                .build();
+    }
+
+    private static Account account(AccountCreateRequest request) {
+        return Account.builder()
+                .name(request.getName())
+                .phoneNr(request.getPhoneNr())
+                .isActive(true)
                 .build();
     }
 
@@ -233,4 +860,10 @@ class AccountServiceTest {
                 .modifiedTime(testAccount != null ? testAccount.getModifiedTime() : LocalDateTime.now())
                 .build();
     }
-}
\ No newline at end of file
+
+    private static DataIntegrityViolationException phoneNumberConstraintViolation() {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("Duplicate entry", new SQLException(),
+                        "account.uk_accounts_phone_nr_is_active"));
+    }
+}
@@ -0,0 +1,76 @@
+package com.fintech.service;
+
+import com.fintech.config.AccountChangesProperties;
+import com.fintech.entity.Account;
+import com.fintech.event.AccountChangedEvent;
+import com.fintech.exception.WriteDeadlineExceededException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("AccountWriteDeadline Tests")
+class AccountWriteDeadlineTest {
+
+    private AccountChangesProperties properties;
+    private AccountWriteDeadline writeDeadline;
+
+    @BeforeEach
+    void setUp() {
+        properties = new AccountChangesProperties();
+        writeDeadline = new AccountWriteDeadline(properties);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.unbindResourceIfPossible(writeDeadline);
+    }
+
+    @Test
+    @DisplayName("should_commit_when_writtenWithinMaxWriteDuration")
+    void should_commit_when_writtenWithinMaxWriteDuration() {
+        writeDeadline.onAccountChanged(AccountChangedEvent.created(accountModifiedAt(LocalDateTime.now())));
+        writeDeadline.onAccountChanged(AccountChangedEvent.created(accountModifiedAt(LocalDateTime.now())));
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        assertThat(synchronizations).hasSize(1);
+        assertThatCode(() -> synchronizations.getFirst().beforeCommit(false)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("should_rollBack_when_earliestStampOlderThanMaxWriteDuration")
+    void should_rollBack_when_earliestStampOlderThanMaxWriteDuration() {
+        LocalDateTime stampedBeforeLongBatch = LocalDateTime.now().minus(properties.getMaxWriteDuration()).minusSeconds(1);
+        writeDeadline.onAccountChanged(AccountChangedEvent.created(accountModifiedAt(LocalDateTime.now())));
+        writeDeadline.onAccountChanged(AccountChangedEvent.created(accountModifiedAt(stampedBeforeLongBatch)));
+
+        TransactionSynchronization deadline = TransactionSynchronizationManager.getSynchronizations().getFirst();
+        assertThatThrownBy(() -> deadline.beforeCommit(false))
+                .isInstanceOf(WriteDeadlineExceededException.class);
+    }
+
+    @Test
+    @DisplayName("should_failStartup_when_maxWriteDurationNotBelowSettleDelay")
+    void should_failStartup_when_maxWriteDurationNotBelowSettleDelay() {
+        properties.setMaxWriteDuration(Duration.ofSeconds(5));
+
+        assertThatThrownBy(() -> new AccountWriteDeadline(properties))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Account accountModifiedAt(LocalDateTime modifiedTime) {
+        return Account.builder().id(1L).name("John Doe").modifiedTime(modifiedTime).build();
+    }
+}
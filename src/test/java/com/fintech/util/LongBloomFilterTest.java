@@ -0,0 +1,56 @@
+package com.fintech.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("LongBloomFilter Tests")
+class LongBloomFilterTest {
+
+    private static final int KEYS = 100_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    @Test
+    @DisplayName("should_containEveryKey_when_keysAdded")
+    void should_containEveryKey_when_keysAdded() {
+        LongBloomFilter filter = new LongBloomFilter(KEYS, FALSE_POSITIVE_RATE);
+
+        LongStream.rangeClosed(1, KEYS).forEach(filter::put);
+
+        assertThat(LongStream.rangeClosed(1, KEYS).allMatch(filter::mightContain)).isTrue();
+    }
+
+    @Test
+    @DisplayName("should_stayNearConfiguredRate_when_sequentialIdsAdded")
+    void should_stayNearConfiguredRate_when_sequentialIdsAdded() {
+        LongBloomFilter filter = new LongBloomFilter(KEYS, FALSE_POSITIVE_RATE);
+        LongStream.rangeClosed(1, KEYS).forEach(filter::put);
+
+        long falsePositives = LongStream.rangeClosed(KEYS + 1, 2L * KEYS).filter(filter::mightContain).count();
+
+        assertThat((double) falsePositives / KEYS).isLessThan(FALSE_POSITIVE_RATE * 2);
+    }
+
+    @Test
+    @DisplayName("should_containNothing_when_empty")
+    void should_containNothing_when_empty() {
+        LongBloomFilter filter = new LongBloomFilter(KEYS, FALSE_POSITIVE_RATE);
+
+        assertThat(LongStream.rangeClosed(-1_000, 1_000).noneMatch(filter::mightContain)).isTrue();
+        assertThat(filter.bitCount()).isGreaterThanOrEqualTo(KEYS * 9L);
+        assertThat(filter.hashCount()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("should_reject_when_rateOutOfRange")
+    void should_reject_when_rateOutOfRange() {
+        assertThatThrownBy(() -> new LongBloomFilter(KEYS, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new LongBloomFilter(0, FALSE_POSITIVE_RATE))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
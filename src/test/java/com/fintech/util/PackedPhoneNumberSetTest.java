@@ -0,0 +1,107 @@
+package com.fintech.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.LongStream;
+
+import static com.fintech.util.PackedPhoneNumberSet.UNPACKABLE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PackedPhoneNumberSet Tests")
+class PackedPhoneNumberSetTest {
+
+    private static final String VALID_PHONE = "+1234567890";
+
+    @Test
+    @DisplayName("should_packToDistinctValues_when_numbersDiffer")
+    void should_packToDistinctValues_when_numbersDiffer() {
+        assertThat(PackedPhoneNumberSet.pack(VALID_PHONE)).isEqualTo(1234567890L);
+        assertThat(PackedPhoneNumberSet.pack("+999999999999999")).isEqualTo(999_999_999_999_999L);
+        assertThat(PackedPhoneNumberSet.pack("+12")).isNotEqualTo(PackedPhoneNumberSet.pack("+120"));
+    }
+
+    @Test
+    @DisplayName("should_returnUnpackable_when_numberIsNotStrictE164")
+    void should_returnUnpackable_when_numberIsNotStrictE164() {
+        assertThat(PackedPhoneNumberSet.pack(null)).isEqualTo(UNPACKABLE);
+        assertThat(PackedPhoneNumberSet.pack("1234567890")).isEqualTo(UNPACKABLE);
+        assertThat(PackedPhoneNumberSet.pack("+0123456789")).isEqualTo(UNPACKABLE);
+        assertThat(PackedPhoneNumberSet.pack(" +1234567890")).isEqualTo(UNPACKABLE);
+        assertThat(PackedPhoneNumberSet.pack("+123-456")).isEqualTo(UNPACKABLE);
+        assertThat(PackedPhoneNumberSet.pack("+1234567890123456")).isEqualTo(UNPACKABLE);
+    }
+
+    @Test
+    @DisplayName("should_trackMembership_when_numbersAddedAndRemoved")
+    void should_trackMembership_when_numbersAddedAndRemoved() {
+        PackedPhoneNumberSet set = new PackedPhoneNumberSet(16);
+        long key = PackedPhoneNumberSet.pack(VALID_PHONE);
+
+        assertThat(set.add(key)).isTrue();
+        assertThat(set.add(key)).isFalse();
+        assertThat(set.contains(key)).isTrue();
+
+        assertThat(set.remove(key)).isTrue();
+        assertThat(set.remove(key)).isFalse();
+        assertThat(set.contains(key)).isFalse();
+
+        assertThat(set.add(key)).isTrue();
+        assertThat(set.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should_keepAllNumbers_when_tableResized")
+    void should_keepAllNumbers_when_tableResized() {
+        PackedPhoneNumberSet set = new PackedPhoneNumberSet(16);
+
+        LongStream.range(1_000_000_000L, 1_000_100_000L).forEach(set::add);
+        LongStream.range(1_000_000_000L, 1_000_050_000L).forEach(set::remove);
+
+        assertThat(set.size()).isEqualTo(50_000);
+        assertThat(set.capacity()).isGreaterThan(50_000);
+        assertThat(LongStream.range(1_000_000_000L, 1_000_050_000L).noneMatch(set::contains)).isTrue();
+        assertThat(LongStream.range(1_000_050_000L, 1_000_100_000L).allMatch(set::contains)).isTrue();
+    }
+
+    @Test
+    @DisplayName("should_keepTableAtLeastFortyPercentFull_when_grown")
+    void should_keepTableAtLeastFortyPercentFull_when_grown() {
+        PackedPhoneNumberSet set = new PackedPhoneNumberSet(16);
+
+        for (long key = 1_000_000_000L; key < 1_000_200_000L; key++) {
+            set.add(key);
+            if (key % 10_000 == 9_999) {
+                assertThat((double) set.size() / set.capacity()).isBetween(0.39, 0.7);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("should_addEachNumberOnce_when_writersRaceOnSameNumbers")
+    void should_addEachNumberOnce_when_writersRaceOnSameNumbers() throws Exception {
+        PackedPhoneNumberSet set = new PackedPhoneNumberSet(16);
+        int writers = 4;
+        int numbers = 20_000;
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(writers)) {
+            List<Future<Long>> added = new ArrayList<>();
+            for (int i = 0; i < writers; i++) {
+                added.add(executor.submit(() -> LongStream.range(10, 10 + numbers).filter(set::add).count()));
+            }
+
+            long total = 0;
+            for (Future<Long> future : added) {
+                total += future.get();
+            }
+            assertThat(total).isEqualTo(numbers);
+        }
+
+        assertThat(set.size()).isEqualTo(numbers);
+    }
+}
@@ -0,0 +1,159 @@
+package com.fintech.util;
+
+import com.fintech.exception.AccountNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+@DisplayName("SingleFlight Tests")
+class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    private final List<Thread> threads = new CopyOnWriteArrayList<>();
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS, runnable -> {
+        Thread thread = new Thread(runnable);
+        threads.add(thread);
+        return thread;
+    });
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("should_runLoaderOnce_when_callersOverlap")
+    void should_runLoaderOnce_when_callersOverlap() throws Exception {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>(Duration.ofSeconds(5));
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+
+        List<Future<String>> results = loadConcurrently(singleFlight, () -> {
+            loads.incrementAndGet();
+            block(release);
+            return "account-1";
+        });
+        await().atMost(Duration.ofSeconds(5)).until(() -> waitingFollowers() == CALLERS - 1);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("account-1");
+        }
+        assertThat(loads).hasValue(1);
+        assertThat(singleFlight.executedCount()).isEqualTo(1);
+        assertThat(singleFlight.coalescedCount()).isEqualTo(CALLERS - 1);
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("should_shareException_when_loadFails")
+    void should_shareException_when_loadFails() throws Exception {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>(Duration.ofSeconds(5));
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+
+        List<Future<String>> results = loadConcurrently(singleFlight, () -> {
+            loads.incrementAndGet();
+            block(release);
+            throw new AccountNotFoundException(1L);
+        });
+        await().atMost(Duration.ofSeconds(5)).until(() -> waitingFollowers() == CALLERS - 1);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(AccountNotFoundException.class);
+        }
+        assertThat(loads).hasValue(1);
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("should_loadAgain_when_previousLoadCompleted")
+    void should_loadAgain_when_previousLoadCompleted() {
+        SingleFlight<Long, Integer> singleFlight = new SingleFlight<>(Duration.ofSeconds(5));
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThat(singleFlight.load(1L, loads::incrementAndGet)).isEqualTo(1);
+        assertThat(singleFlight.load(1L, loads::incrementAndGet)).isEqualTo(2);
+        assertThat(singleFlight.coalescedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("should_loadOnOwn_when_waitExceedsMaxWait")
+    void should_loadOnOwn_when_waitExceedsMaxWait() throws Exception {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>(Duration.ofMillis(50));
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> leader = executor.submit(() -> singleFlight.load(1L, () -> {
+            block(release);
+            return "stale";
+        }));
+        await().atMost(Duration.ofSeconds(5)).until(() -> singleFlight.inFlightCount() == 1);
+
+        assertThat(singleFlight.load(1L, () -> "fresh")).isEqualTo("fresh");
+        assertThat(singleFlight.timedOutCount()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("stale");
+    }
+
+    @Test
+    @DisplayName("should_startNewLoad_when_keyForgotten")
+    void should_startNewLoad_when_keyForgotten() throws Exception {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>(Duration.ofSeconds(5));
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> leader = executor.submit(() -> singleFlight.load(1L, () -> {
+            block(release);
+            return "before change";
+        }));
+        await().atMost(Duration.ofSeconds(5)).until(() -> singleFlight.inFlightCount() == 1);
+
+        singleFlight.forget(1L);
+
+        assertThat(singleFlight.load(1L, () -> "after change")).isEqualTo("after change");
+        release.countDown();
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("before change");
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    private List<Future<String>> loadConcurrently(SingleFlight<Long, String> singleFlight, Supplier<String> loader) {
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> singleFlight.load(1L, loader)));
+        }
+        return results;
+    }
+
+    // The leader blocks on the latch without a timeout, followers on its result with one
+    private long waitingFollowers() {
+        return threads.stream().filter(thread -> thread.getState() == Thread.State.TIMED_WAITING).count();
+    }
+
+    private static void block(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.fintech.web;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AcceptEncoding Tests")
+class AcceptEncodingTest {
+
+    @Test
+    @DisplayName("should_allowGzip_when_listedWithoutQValue")
+    void should_allowGzip_when_listedWithoutQValue() {
+        assertThat(AcceptEncoding.allowsGzip("deflate, GZIP")).isTrue();
+    }
+
+    @Test
+    @DisplayName("should_allowGzip_when_qValuePositive")
+    void should_allowGzip_when_qValuePositive() {
+        assertThat(AcceptEncoding.allowsGzip("br;q=1.0, gzip;q=0.5")).isTrue();
+    }
+
+    @Test
+    @DisplayName("should_refuseGzip_when_qValueZero")
+    void should_refuseGzip_when_qValueZero() {
+        assertThat(AcceptEncoding.allowsGzip("gzip;q=0")).isFalse();
+        assertThat(AcceptEncoding.allowsGzip("identity, gzip; q=0.000")).isFalse();
+    }
+
+    @Test
+    @DisplayName("should_refuseGzip_when_headerMissingOrOtherCoding")
+    void should_refuseGzip_when_headerMissingOrOtherCoding() {
+        assertThat(AcceptEncoding.allowsGzip(null)).isFalse();
+        assertThat(AcceptEncoding.allowsGzip("x-gzip-like, br")).isFalse();
+    }
+}
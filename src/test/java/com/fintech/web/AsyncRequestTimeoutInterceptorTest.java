@@ -0,0 +1,49 @@
+package com.fintech.web;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.async.StandardServletAsyncWebRequest;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AsyncRequestTimeoutInterceptor Tests")
+class AsyncRequestTimeoutInterceptorTest {
+
+    private static final long DEFAULT_TIMEOUT_MILLIS = 30_000;
+
+    private final AsyncRequestTimeoutInterceptor interceptor = new AsyncRequestTimeoutInterceptor();
+
+    @Test
+    @DisplayName("should_applyRequestTimeout_when_handlerSetAttribute")
+    void should_applyRequestTimeout_when_handlerSetAttribute() {
+        MockHttpServletRequest request = asyncRequest();
+        request.setAttribute(AsyncRequestTimeoutInterceptor.TIMEOUT_ATTRIBUTE, Duration.ofHours(1));
+
+        assertThat(startAsync(request)).isEqualTo(Duration.ofHours(1).toMillis());
+    }
+
+    @Test
+    @DisplayName("should_keepDefaultTimeout_when_attributeMissing")
+    void should_keepDefaultTimeout_when_attributeMissing() {
+        assertThat(startAsync(asyncRequest())).isEqualTo(DEFAULT_TIMEOUT_MILLIS);
+    }
+
+    private long startAsync(MockHttpServletRequest request) {
+        StandardServletAsyncWebRequest asyncWebRequest = new StandardServletAsyncWebRequest(request, new MockHttpServletResponse());
+        asyncWebRequest.setTimeout(DEFAULT_TIMEOUT_MILLIS);
+
+        interceptor.beforeConcurrentHandling(asyncWebRequest, () -> null);
+        asyncWebRequest.startAsync();
+        return request.getAsyncContext().getTimeout();
+    }
+
+    private static MockHttpServletRequest asyncRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAsyncSupported(true);
+        return request;
+    }
+}
@@ -0,0 +1,107 @@
+package com.fintech.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ConcurrencyLimitFilter Tests")
+class ConcurrencyLimitFilterTest {
+
+    private static final int PERMITS = 2;
+
+    private final ConcurrencyLimitFilter filter =
+            new ConcurrencyLimitFilter(PERMITS, Duration.ofMillis(10),
+                    new ObjectMapper().registerModule(new JavaTimeModule()), "/actuator");
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("should_releasePermit_when_requestCompletes")
+    void should_releasePermit_when_requestCompletes() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request("/api/v1/accounts/1"), response, (req, res) -> assertThat(filter.availablePermits()).isEqualTo(PERMITS - 1));
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(filter.availablePermits()).isEqualTo(PERMITS);
+    }
+
+    @Test
+    @DisplayName("should_holdPermitUntilAsyncComplete_when_handlerStreams")
+    void should_holdPermitUntilAsyncComplete_when_handlerStreams() throws Exception {
+        MockHttpServletRequest request = request("/api/v1/accounts/export");
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> req.startAsync());
+        assertThat(filter.availablePermits()).isEqualTo(PERMITS - 1);
+
+        ((MockAsyncContext) request.getAsyncContext()).complete();
+        assertThat(filter.availablePermits()).isEqualTo(PERMITS);
+    }
+
+    @Test
+    @DisplayName("should_releasePermitOnAsyncStart_when_handlerParksWithoutConnection")
+    void should_releasePermitOnAsyncStart_when_handlerParksWithoutConnection() throws Exception {
+        MockHttpServletRequest request = request("/api/v1/accounts/changes");
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+            ConcurrencyLimitFilter.releaseOnAsyncStart();
+            req.startAsync();
+        });
+
+        assertThat(filter.availablePermits()).isEqualTo(PERMITS);
+    }
+
+    @Test
+    @DisplayName("should_rejectWith503_when_allPermitsTaken")
+    void should_rejectWith503_when_allPermitsTaken() throws Exception {
+        FilterChain streaming = (req, res) -> req.startAsync();
+        for (int i = 0; i < PERMITS; i++) {
+            filter.doFilter(request("/api/v1/accounts/export"), new MockHttpServletResponse(), streaming);
+        }
+
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        filter.doFilter(request("/api/v1/accounts/1"), rejected, (req, res) -> {
+        });
+
+        assertThat(rejected.getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE.value());
+    }
+
+    @Test
+    @DisplayName("should_bypassLimit_when_actuatorRequested")
+    void should_bypassLimit_when_actuatorRequested() throws Exception {
+        FilterChain streaming = (req, res) -> req.startAsync();
+        for (int i = 0; i < PERMITS; i++) {
+            filter.doFilter(request("/api/v1/accounts/export"), new MockHttpServletResponse(), streaming);
+        }
+
+        MockHttpServletResponse health = new MockHttpServletResponse();
+        filter.doFilter(request("/api/v1/actuator/health"), health, (req, res) -> {
+        });
+
+        assertThat(health.getStatus()).isEqualTo(HttpStatus.OK.value());
+    }
+
+    private static MockHttpServletRequest request(String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setContextPath("/api/v1");
+        request.setAsyncSupported(true);
+        return request;
+    }
+}
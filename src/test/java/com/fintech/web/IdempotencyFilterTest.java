@@ -0,0 +1,285 @@
+package com.fintech.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fintech.idempotency.IdempotencyStore;
+import com.fintech.idempotency.InMemoryIdempotencyStore;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+import static com.fintech.web.IdempotencyFilter.IDEMPOTENCY_KEY;
+import static com.fintech.web.IdempotencyFilter.IDEMPOTENT_REPLAYED;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("IdempotencyFilter Tests")
+class IdempotencyFilterTest {
+
+    private static final String BODY = "{\"name\":\"John Doe\"}";
+
+    private final AtomicInteger invocations = new AtomicInteger();
+    private IdempotencyStore store;
+    private IdempotencyFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryIdempotencyStore(4, 1024 * 1024, 1024);
+        filter = new IdempotencyFilter(store, Duration.ofHours(1), Duration.ofMinutes(1),
+                new ObjectMapper().registerModule(new JavaTimeModule()));
+    }
+
+    @Nested
+    @DisplayName("Replay")
+    class ReplayTests {
+
+        @Test
+        @DisplayName("should_replayStoredResponse_when_sameKeyAndBodyRetried")
+        void should_replayStoredResponse_when_sameKeyAndBodyRetried() throws Exception {
+            MockHttpServletResponse first = perform(request("key-1", BODY), created());
+            MockHttpServletResponse retry = perform(request("key-1", BODY), created());
+
+            assertThat(invocations).hasValue(1);
+            assertThat(first.getHeader(IDEMPOTENT_REPLAYED)).isNull();
+            assertThat(retry.getStatus()).isEqualTo(201);
+            assertThat(retry.getHeader(IDEMPOTENT_REPLAYED)).isEqualTo("true");
+            assertThat(retry.getHeader(HttpHeaders.ETAG)).isEqualTo("\"0\"");
+            assertThat(retry.getHeader(HttpHeaders.LOCATION)).isEqualTo("/api/v1/accounts/1");
+            assertThat(retry.getContentType()).isEqualTo("application/json");
+            assertThat(retry.getContentAsString()).isEqualTo(first.getContentAsString()).isEqualTo("{\"id\":1}");
+        }
+
+        @Test
+        @DisplayName("should_passRequestBodyDownstream_when_fingerprinted")
+        void should_passRequestBodyDownstream_when_fingerprinted() throws Exception {
+            StringBuilder received = new StringBuilder();
+
+            perform(request("key-1", BODY), (request, response) ->
+                    received.append(new String(request.getInputStream().readAllBytes(), StandardCharsets.UTF_8)));
+
+            assertThat(received).hasToString(BODY);
+        }
+
+        @Test
+        @DisplayName("should_serveBodyToReadListener_when_readAsynchronously")
+        void should_serveBodyToReadListener_when_readAsynchronously() throws Exception {
+            StringBuilder received = new StringBuilder();
+            AtomicInteger allDataRead = new AtomicInteger();
+
+            perform(request("key-1", BODY), (request, response) -> {
+                ServletInputStream input = request.getInputStream();
+                input.setReadListener(new ReadListener() {
+
+                    @Override
+                    public void onDataAvailable() throws IOException {
+                        while (input.isReady() && !input.isFinished()) {
+                            received.append((char) input.read());
+                        }
+                    }
+
+                    @Override
+                    public void onAllDataRead() {
+                        allDataRead.incrementAndGet();
+                    }
+
+                    @Override
+                    public void onError(Throwable throwable) {
+                    }
+                });
+            });
+
+            assertThat(received).hasToString(BODY);
+            assertThat(allDataRead).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("should_replayEncodingHeaders_when_storedResponseGzipped")
+        void should_replayEncodingHeaders_when_storedResponseGzipped() throws Exception {
+            MockHttpServletRequest first = request("key-1", BODY);
+            first.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip");
+            perform(first, createdGzipped());
+            MockHttpServletRequest retry = request("key-1", BODY);
+            retry.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip");
+
+            MockHttpServletResponse response = perform(retry, createdGzipped());
+
+            assertThat(invocations).hasValue(1);
+            assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+            assertThat(response.getHeader(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+            assertThat(response.getContentAsByteArray()).isEqualTo(gzip("{\"id\":1}"));
+        }
+
+        @Test
+        @DisplayName("should_replayDecodedBody_when_storedResponseGzippedAndRetryRefusesGzip")
+        void should_replayDecodedBody_when_storedResponseGzippedAndRetryRefusesGzip() throws Exception {
+            MockHttpServletRequest first = request("key-1", BODY);
+            first.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip");
+            perform(first, createdGzipped());
+
+            MockHttpServletResponse response = perform(request("key-1", BODY), createdGzipped());
+
+            assertThat(invocations).hasValue(1);
+            assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+            assertThat(response.getHeader(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+            assertThat(response.getContentAsString()).isEqualTo("{\"id\":1}");
+        }
+
+        @Test
+        @DisplayName("should_runAgain_when_firstAttemptFailedWithServerError")
+        void should_runAgain_when_firstAttemptFailedWithServerError() throws Exception {
+            perform(request("key-1", BODY), (request, response) -> {
+                invocations.incrementAndGet();
+                ((HttpServletResponse) response).setStatus(503);
+            });
+            MockHttpServletResponse retry = perform(request("key-1", BODY), created());
+
+            assertThat(invocations).hasValue(2);
+            assertThat(retry.getStatus()).isEqualTo(201);
+            assertThat(retry.getHeader(IDEMPOTENT_REPLAYED)).isNull();
+        }
+
+        @Test
+        @DisplayName("should_scopeKeyToPath_when_sameKeySentToAnotherEndpoint")
+        void should_scopeKeyToPath_when_sameKeySentToAnotherEndpoint() throws Exception {
+            perform(request("key-1", BODY), created());
+            MockHttpServletRequest batch = request("key-1", BODY);
+            batch.setRequestURI("/api/v1/accounts/batch");
+            perform(batch, created());
+
+            assertThat(invocations).hasValue(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("Rejection")
+    class RejectionTests {
+
+        @Test
+        @DisplayName("should_returnUnprocessableEntity_when_bodyDiffers")
+        void should_returnUnprocessableEntity_when_bodyDiffers() throws Exception {
+            perform(request("key-1", BODY), created());
+            MockHttpServletResponse retry = perform(request("key-1", "{\"name\":\"Jane Smith\"}"), created());
+
+            assertThat(invocations).hasValue(1);
+            assertThat(retry.getStatus()).isEqualTo(422);
+            assertThat(retry.getContentAsString()).contains("IDEMPOTENCY_KEY_MISMATCH");
+        }
+
+        @Test
+        @DisplayName("should_returnConflict_when_firstRequestStillRunning")
+        void should_returnConflict_when_firstRequestStillRunning() throws Exception {
+            MockHttpServletResponse[] concurrent = new MockHttpServletResponse[1];
+
+            perform(request("key-1", BODY), (request, response) -> {
+                concurrent[0] = perform(request("key-1", BODY), created());
+                ((HttpServletResponse) response).setStatus(201);
+            });
+
+            assertThat(concurrent[0].getStatus()).isEqualTo(409);
+            assertThat(concurrent[0].getContentAsString()).contains("IDEMPOTENCY_KEY_IN_USE");
+        }
+
+        @Test
+        @DisplayName("should_returnConflict_when_storedResponseWasTooLarge")
+        void should_returnConflict_when_storedResponseWasTooLarge() throws Exception {
+            FilterChain largeBatch = (request, response) -> {
+                invocations.incrementAndGet();
+                HttpServletResponse httpResponse = (HttpServletResponse) response;
+                httpResponse.setStatus(200);
+                httpResponse.setContentType("application/json");
+                httpResponse.getWriter().write("[" + "0,".repeat(1024) + "0]");
+            };
+            MockHttpServletResponse first = perform(request("key-1", BODY), largeBatch);
+            MockHttpServletResponse retry = perform(request("key-1", BODY), largeBatch);
+
+            assertThat(invocations).hasValue(1);
+            assertThat(first.getStatus()).isEqualTo(200);
+            assertThat(first.getContentAsString()).hasSize(2051);
+            assertThat(retry.getStatus()).isEqualTo(409);
+            assertThat(retry.getContentAsString()).contains("IDEMPOTENT_RESPONSE_NOT_STORED", "status 200");
+        }
+
+        @Test
+        @DisplayName("should_returnBadRequest_when_keyTooLong")
+        void should_returnBadRequest_when_keyTooLong() throws Exception {
+            MockHttpServletResponse response = perform(request("k".repeat(256), BODY), created());
+
+            assertThat(invocations).hasValue(0);
+            assertThat(response.getStatus()).isEqualTo(400);
+            assertThat(response.getContentAsString()).contains("INVALID_REQUEST");
+        }
+
+        @Test
+        @DisplayName("should_passThrough_when_noKeyGiven")
+        void should_passThrough_when_noKeyGiven() throws Exception {
+            perform(request(null, BODY), created());
+            perform(request(null, BODY), created());
+
+            assertThat(invocations).hasValue(2);
+        }
+    }
+
+    private MockHttpServletResponse perform(MockHttpServletRequest request, FilterChain chain)
+            throws ServletException, IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private FilterChain created() {
+        return (request, response) -> {
+            invocations.incrementAndGet();
+            HttpServletResponse httpResponse = (HttpServletResponse) response;
+            httpResponse.setStatus(201);
+            httpResponse.setContentType("application/json");
+            httpResponse.setHeader(HttpHeaders.LOCATION, "/api/v1/accounts/1");
+            httpResponse.setHeader(HttpHeaders.ETAG, "\"0\"");
+            httpResponse.getWriter().write("{\"id\":1}");
+        };
+    }
+
+    private FilterChain createdGzipped() {
+        return (request, response) -> {
+            invocations.incrementAndGet();
+            HttpServletResponse httpResponse = (HttpServletResponse) response;
+            httpResponse.setStatus(201);
+            httpResponse.setContentType("application/json");
+            httpResponse.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            httpResponse.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            httpResponse.getOutputStream().write(gzip("{\"id\":1}"));
+        };
+    }
+
+    private static byte[] gzip(String content) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream output = new GZIPOutputStream(bytes)) {
+            output.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+        return bytes.toByteArray();
+    }
+
+    private static MockHttpServletRequest request(String idempotencyKey, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/accounts");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        request.setContentType("application/json");
+        if (idempotencyKey != null) {
+            request.addHeader(IDEMPOTENCY_KEY, idempotencyKey);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,176 @@
+package com.fintech.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fintech.dto.AccountResponse;
+import com.fintech.entity.Account;
+import com.fintech.event.AccountChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SerializedAccountHttpMessageConverter Tests")
+class SerializedAccountHttpMessageConverterTest {
+
+    private static final long MAXIMUM_BYTES = 1024 * 1024;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("should_writeSameJsonAsJackson_when_accountWritten")
+    void should_writeSameJsonAsJackson_when_accountWritten() throws IOException {
+        SerializedAccountCache cache = cache(false);
+        AccountResponse account = account(1L, "John Doe", 3L);
+
+        MockHttpServletResponse response = write(new SerializedAccountHttpMessageConverter(cache), account);
+
+        assertThat(response.getContentAsByteArray()).isEqualTo(objectMapper.writeValueAsBytes(account));
+        assertThat(response.getContentType()).isEqualTo(MediaType.APPLICATION_JSON_VALUE);
+        assertThat(response.getContentLength()).isEqualTo(response.getContentAsByteArray().length);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+    }
+
+    @Test
+    @DisplayName("should_reuseBytes_when_equalAccountWrittenAgain")
+    void should_reuseBytes_when_equalAccountWrittenAgain() throws IOException {
+        SerializedAccountCache cache = cache(false);
+
+        SerializedAccountCache.SerializedAccount first = cache.get(account(1L, "John Doe", 3L));
+        SerializedAccountCache.SerializedAccount second = cache.get(account(1L, "John Doe", 3L));
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("should_serializeAgain_when_accountChangedBeforeInvalidation")
+    void should_serializeAgain_when_accountChangedBeforeInvalidation() throws IOException {
+        SerializedAccountCache cache = cache(false);
+        SerializedAccountHttpMessageConverter converter = new SerializedAccountHttpMessageConverter(cache);
+        write(converter, account(1L, "John Doe", 3L));
+
+        AccountResponse renamed = account(1L, "Jane Smith", 4L);
+        MockHttpServletResponse response = write(converter, renamed);
+
+        assertThat(response.getContentAsByteArray()).isEqualTo(objectMapper.writeValueAsBytes(renamed));
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should_dropEntry_when_accountChanged")
+    void should_dropEntry_when_accountChanged() throws IOException {
+        SerializedAccountCache cache = cache(false);
+        cache.get(account(1L, "John Doe", 3L));
+
+        cache.onAccountChanged(AccountChangedEvent.deleted(Account.builder().id(1L).build()));
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("should_writeGzip_when_clientAcceptsIt")
+    void should_writeGzip_when_clientAcceptsIt() throws IOException {
+        SerializedAccountHttpMessageConverter converter = new SerializedAccountHttpMessageConverter(cache(true));
+        AccountResponse account = account(1L, "John Doe", 3L);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "br, gzip;q=0.8");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        MockHttpServletResponse response = write(converter, account);
+
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(response.getHeader(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            assertThat(gzip.readAllBytes()).isEqualTo(objectMapper.writeValueAsBytes(account));
+        }
+    }
+
+    @Test
+    @DisplayName("should_writePlainJson_when_clientRefusesGzip")
+    void should_writePlainJson_when_clientRefusesGzip() throws IOException {
+        SerializedAccountHttpMessageConverter converter = new SerializedAccountHttpMessageConverter(cache(true));
+        AccountResponse account = account(1L, "John Doe", 3L);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        MockHttpServletResponse response = write(converter, account);
+
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(response.getHeader(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(response.getContentAsByteArray()).isEqualTo(objectMapper.writeValueAsBytes(account));
+    }
+
+    @Test
+    @DisplayName("should_decideGzipWithoutSerializing_when_compressionConfigured")
+    void should_decideGzipWithoutSerializing_when_compressionConfigured() {
+        SerializedAccountCache compressing = cache(true);
+
+        assertThat(compressing.usesGzip(true)).isTrue();
+        assertThat(compressing.usesGzip(false)).isFalse();
+        assertThat(cache(false).usesGzip(true)).isFalse();
+        assertThat(compressing.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("should_writePlainJsonWithoutVary_when_compressionOff")
+    void should_writePlainJsonWithoutVary_when_compressionOff() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        MockHttpServletResponse response = write(new SerializedAccountHttpMessageConverter(cache(false)),
+                account(1L, "John Doe", 3L));
+
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(response.getHeader(HttpHeaders.VARY)).isNull();
+    }
+
+    private SerializedAccountCache cache(boolean compression) {
+        return new SerializedAccountCache(objectMapper, MAXIMUM_BYTES, compression, new SimpleMeterRegistry());
+    }
+
+    private static MockHttpServletResponse write(SerializedAccountHttpMessageConverter converter, AccountResponse account)
+            throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        ServletServerHttpResponse outputMessage = new ServletServerHttpResponse(response);
+        converter.write(account, MediaType.APPLICATION_JSON, outputMessage);
+        outputMessage.flush();
+        return response;
+    }
+
+    private static AccountResponse account(Long id, String name, Long version) {
+        LocalDateTime time = LocalDateTime.of(2025, 1, 15, 10, 30);
+        return AccountResponse.builder()
+                .id(id)
+                .name(name)
+                .phoneNr("+1234567890")
+                .isActive(true)
+                .createdTime(time)
+                .modifiedTime(time)
+                .version(version)
+                .build();
+    }
+}